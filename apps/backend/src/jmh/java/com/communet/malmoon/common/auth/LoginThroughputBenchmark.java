@@ -0,0 +1,95 @@
+package com.communet.malmoon.common.auth;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.communet.malmoon.common.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 폭주 시 비밀번호 검증(BCrypt matches) 처리량 비교
+ * - direct: 기존 방식 (요청 스레드 16개가 모두 동시에 해시 계산)
+ * - bounded: {@link BoundedPasswordEncoder} (전용 풀 크기만큼만 동시 계산, 포화 시 즉시 거절)
+ * bounded는 초당 처리량이 풀 크기로 제한되는 대신, 나머지 코어가 채팅/세션 요청에 남음
+ * bounded 결과의 accepted/rejected 보조 카운터로 정상 처리와 503 거절 수를 구분
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LoginThroughput
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class LoginThroughputBenchmark {
+
+	private static final String PASSWORD = "correctPassword";
+
+	@Param({"10"})
+	private int strength;
+
+	@Param({"2"})
+	private int poolSize;
+
+	private PasswordEncoder direct;
+	private BoundedPasswordEncoder bounded;
+	private ThreadPoolTaskExecutor executor;
+	private String encoded;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		direct = new BCryptPasswordEncoder(strength);
+		encoded = direct.encode(PASSWORD);
+
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(32);
+		executor.initialize();
+		bounded = new BoundedPasswordEncoder(direct, executor, Duration.ofSeconds(3), new SimpleMeterRegistry());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public boolean direct() {
+		return direct.matches(PASSWORD, encoded);
+	}
+
+	@Benchmark
+	public void bounded(Outcome outcome, Blackhole blackhole) {
+		try {
+			blackhole.consume(bounded.matches(PASSWORD, encoded));
+			outcome.accepted++;
+		} catch (ServiceBusyException e) {
+			// 503 응답에 해당
+			outcome.rejected++;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Outcome {
+		public long accepted;
+		public long rejected;
+	}
+}
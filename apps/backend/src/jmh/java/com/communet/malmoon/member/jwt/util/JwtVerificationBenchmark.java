@@ -0,0 +1,66 @@
+package com.communet.malmoon.member.jwt.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.communet.malmoon.member.domain.MemberType;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * - legacyPerRequest: 기존 방식 (검증기 2회 생성 + 검증 2회)
+ * - singletonVerifier: 공유 검증기로 1회 검증 (캐시 미적중과 같은 비용)
+ * - cachedVerify: {@link JwtTokenUtil#verify} (같은 토큰 반복 요청, 캐시 적중)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtVerification
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key";
+
+	private String header;
+
+	@Setup
+	public void setUp() {
+		JwtTokenUtil.configure(SECRET, (int)Duration.ofHours(1).toMillis(), 10_000, Duration.ofMinutes(5));
+		header = JwtTokenUtil.TOKEN_PREFIX + JwtTokenUtil.getToken(1L, "client@malmoon.com", MemberType.ROLE_CLIENT, 0L);
+	}
+
+	@Benchmark
+	public DecodedJWT legacyPerRequest() {
+		JWTVerifier verifier = JWT.require(Algorithm.HMAC512(SECRET.getBytes()))
+			.withIssuer(JwtTokenUtil.ISSUER)
+			.build();
+		JWTVerifier handleErrorVerifier = JWT.require(Algorithm.HMAC512(SECRET.getBytes()))
+			.withIssuer(JwtTokenUtil.ISSUER)
+			.build();
+		handleErrorVerifier.verify(header.replace(JwtTokenUtil.TOKEN_PREFIX, ""));
+		return verifier.verify(header.replace(JwtTokenUtil.TOKEN_PREFIX, ""));
+	}
+
+	@Benchmark
+	public DecodedJWT singletonVerifier() {
+		return JwtTokenUtil.getVerifier().verify(header.substring(JwtTokenUtil.TOKEN_PREFIX.length()));
+	}
+
+	@Benchmark
+	public DecodedJWT cachedVerify() {
+		return JwtTokenUtil.verify(header);
+	}
+}
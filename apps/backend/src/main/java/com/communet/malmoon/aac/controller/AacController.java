@@ -1,6 +1,8 @@
 package com.communet.malmoon.aac.controller;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,15 +13,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.communet.malmoon.aac.dto.request.AacCompleteReq;
 import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
 import com.communet.malmoon.aac.dto.request.AacCustomReq;
+import com.communet.malmoon.aac.dto.request.AacGenerationConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
+import com.communet.malmoon.aac.dto.request.AacScrollReq;
 import com.communet.malmoon.aac.dto.response.AacCreateRes;
+import com.communet.malmoon.aac.dto.response.AacGenerationJobRes;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
+import com.communet.malmoon.aac.service.AacGenerationJobService;
 import com.communet.malmoon.aac.service.AacService;
 import com.communet.malmoon.common.auth.CurrentMember;
 import com.communet.malmoon.file.domain.FileType;
@@ -29,6 +36,7 @@ import com.communet.malmoon.file.dto.response.PresignPutRes;
 import com.communet.malmoon.file.dto.response.UploadConfirmRes;
 import com.communet.malmoon.file.service.FileService;
 import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -48,6 +56,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AacController {
 
 	private final AacService aacService;
+	private final AacGenerationJobService aacGenerationJobService;
 	private final FileService fileService;
 
 	/**
@@ -61,11 +70,26 @@ public class AacController {
 	@Operation(summary = "AAC 검색 및 목록 조회", description = "상황, 감정, 동작 조건을 전달하면 해당 조건에 맞는 AAC 이모지를 검색합니다. 조건이 없으면 전체 목록을 반환합니다.")
 	@GetMapping
 	public ResponseEntity<Page<AacGetRes>> getAacList(
-		@Parameter(description = "AAC 필터 조건 및 페이징 정보") @ModelAttribute AacGetReq req, @CurrentMember Member member) {
+		@Parameter(description = "AAC 필터 조건 및 페이징 정보") @ModelAttribute AacGetReq req, @CurrentMember MemberPrincipal member) {
 		Page<AacGetRes> result = aacService.getAacList(req, member.getMemberId());
 		return ResponseEntity.ok(result);
 	}
 
+	/**
+	 * 커서 기반 AAC 목록 조회 API입니다. (무한 스크롤용)
+	 * 첫 요청은 커서 없이 보내고, 이후 요청은 마지막 항목의 createdAt, id를 커서로 전달합니다.
+	 *
+	 * @param req 필터 조건, 커서 및 조회 개수
+	 * @return 필터 조건에 따른 AAC 목록 Slice
+	 */
+	@Operation(summary = "AAC 커서 기반 목록 조회", description = "(createdAt, id) 커서 이후의 AAC 목록을 count 쿼리 없이 조회합니다.")
+	@GetMapping("/scroll")
+	public ResponseEntity<Slice<AacGetRes>> getAacSlice(
+		@Parameter(description = "AAC 필터 조건 및 커서 정보") @ModelAttribute AacScrollReq req, @CurrentMember MemberPrincipal member) {
+		Slice<AacGetRes> result = aacService.getAacSlice(req, member.getMemberId());
+		return ResponseEntity.ok(result);
+	}
+
 	/**
 	 * 사용자가 직접 AAC를 등록하는 API입니다.
 	 * 이미지와 함께 상황, 감정, 동작 등의 메타데이터를 업로드합니다.
@@ -95,6 +119,70 @@ public class AacController {
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * AAC 이미지 생성 작업 등록 (비동기)
+	 * 요청 스레드는 생성 완료를 기다리지 않고 작업 ID를 즉시 반환합니다.
+	 *
+	 * @param request 상황/감정/동작 등 생성 요청 데이터
+	 * @param member 현재 로그인한 사용자
+	 * @return 등록된 작업 상태 (202 Accepted)
+	 */
+	@PostMapping("/generate/jobs")
+	@Operation(summary = "AAC 이미지 생성 작업 등록", description = "이미지 생성을 비동기 작업으로 등록하고 작업 ID를 반환합니다.")
+	public ResponseEntity<AacGenerationJobRes> submitGenerationJob(
+		@RequestBody AacCreateReq request,
+		@CurrentMember Member member) {
+		AacGenerationJobRes response = aacGenerationJobService.submit(request, member.getMemberId());
+		return ResponseEntity.accepted().body(response);
+	}
+
+	/**
+	 * AAC 이미지 생성 작업 상태 조회 (폴링)
+	 *
+	 * @param jobId 작업 ID
+	 * @param member 현재 로그인한 사용자
+	 * @return 작업 상태 (완료 시 미리보기 URL 포함)
+	 */
+	@GetMapping("/generate/jobs/{jobId}")
+	@Operation(summary = "AAC 이미지 생성 작업 조회", description = "생성 작업의 상태를 조회합니다. 완료 시 미리보기 URL을 포함합니다.")
+	public ResponseEntity<AacGenerationJobRes> getGenerationJob(
+		@PathVariable("jobId") String jobId,
+		@CurrentMember Member member) {
+		return ResponseEntity.ok(aacGenerationJobService.getJob(jobId, member.getMemberId()));
+	}
+
+	/**
+	 * AAC 이미지 생성 작업 상태 구독 (SSE)
+	 *
+	 * @param jobId 작업 ID
+	 * @param member 현재 로그인한 사용자
+	 * @return 상태 변경 시마다 status 이벤트를 보내는 SSE 스트림
+	 */
+	@GetMapping(value = "/generate/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "AAC 이미지 생성 작업 구독", description = "생성 작업 상태 변경을 SSE로 전달하고, 작업이 끝나면 스트림을 종료합니다.")
+	public SseEmitter subscribeGenerationJob(
+		@PathVariable("jobId") String jobId,
+		@CurrentMember Member member) {
+		return aacGenerationJobService.subscribe(jobId, member.getMemberId());
+	}
+
+	/**
+	 * 완료된 생성 작업의 이미지로 AAC를 확정 저장합니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @param request 이름, 설명, 공개 여부
+	 * @param member 현재 로그인한 사용자
+	 * @return 미리보기 URL
+	 */
+	@PostMapping("/generate/jobs/{jobId}/confirm")
+	@Operation(summary = "AAC 이미지 생성 작업 확정", description = "S3에 저장된 생성 결과로 AAC를 등록합니다.")
+	public ResponseEntity<AacCreateRes> confirmGenerationJob(
+		@PathVariable("jobId") String jobId,
+		@RequestBody AacGenerationConfirmReq request,
+		@CurrentMember Member member) {
+		return ResponseEntity.ok(aacGenerationJobService.confirm(jobId, request, member.getMemberId()));
+	}
+
 	/**
 	 * FastAPI에서 생성된 임시 AAC 이미지를 확정하고 S3에 저장한 후, DB에 AAC 정보를 등록합니다.
 	 *
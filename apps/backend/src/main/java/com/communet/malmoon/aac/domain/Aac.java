@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "aac_item")
+@Table(
+	name = "aac_item",
+	indexes = {
+		// 필터 없는 목록 조회: status IN (...) + created_at 정렬
+		@Index(name = "idx_aac_item_status_created", columnList = "status, created_at"),
+		// 본인 PRIVATE 항목 조회: status = PRIVATE AND therapist_id = ?
+		@Index(name = "idx_aac_item_therapist_status", columnList = "therapist_id, status"),
+		// 상황 필터 + created_at 정렬
+		@Index(name = "idx_aac_item_situation_status_created", columnList = "situation, status, created_at"),
+		// 상황 + 동작(+ 감정) 필터
+		@Index(name = "idx_aac_item_situation_action_emotion", columnList = "situation, action, emotion, status, created_at")
+	}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,12 @@
+package com.communet.malmoon.aac.domain;
+
+public enum AacGenerationJobStatus {
+	PENDING,
+	RUNNING,
+	SUCCEEDED,
+	FAILED;
+
+	public boolean isDone() {
+		return this == SUCCEEDED || this == FAILED;
+	}
+}
@@ -9,4 +9,8 @@ public enum AacStatus {
 	public boolean isPrivate() {
 		return this == PRIVATE;
 	}
+
+	public boolean isPublic() {
+		return this == DEFAULT || this == PUBLIC;
+	}
 }
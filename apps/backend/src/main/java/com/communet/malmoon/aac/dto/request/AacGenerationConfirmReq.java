@@ -0,0 +1,29 @@
+package com.communet.malmoon.aac.dto.request;
+
+import com.communet.malmoon.aac.domain.AacStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 생성 작업 결과 확정 요청 DTO
+ * 상황/동작/감정은 생성 요청 시 값을 그대로 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "AAC 생성 작업 확정 요청")
+public class AacGenerationConfirmReq {
+	@Schema(description = "AAC 이름", example = "학교에서 도움 요청")
+	private String name;
+
+	@Schema(description = "AAC 설명", example = "학교에서 급작한 상황에 도움을 필요로 하는 AAC")
+	private String description;
+
+	@Schema(description = "생성한 이미지 공개 여부", example = "PUBLIC")
+	private AacStatus status;
+}
@@ -0,0 +1,42 @@
+package com.communet.malmoon.aac.dto.request;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AAC 커서 기반(무한 스크롤) 조회 요청 DTO
+ * 첫 요청은 커서 없이 보내고, 이후에는 마지막으로 받은 항목의 createdAt, id를 커서로 전달합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AacScrollReq {
+
+	@Schema(description = "AAC 상황", example = "긴급")
+	private String situation;
+
+	@Schema(description = "AAC 동작", example = "도움 요청")
+	private String action;
+
+	@Schema(description = "AAC 감정", example = "불안")
+	private String emotion;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	@Schema(description = "커서 - 마지막 항목의 생성 시각", example = "2025-08-05T10:30:00")
+	private LocalDateTime cursorCreatedAt;
+
+	@Schema(description = "커서 - 마지막 항목의 ID", example = "120")
+	private Long cursorId;
+
+	@Builder.Default
+	@Schema(description = "조회 개수 (최대 100)", example = "20")
+	private int size = 20;
+}
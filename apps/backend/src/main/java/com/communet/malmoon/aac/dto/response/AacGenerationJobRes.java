@@ -0,0 +1,43 @@
+package com.communet.malmoon.aac.dto.response;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.service.AacGenerationJob;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AAC 이미지 생성 작업 상태 응답 DTO")
+public class AacGenerationJobRes {
+
+	@Schema(description = "작업 ID", example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+	private String jobId;
+
+	@Schema(description = "작업 상태", example = "SUCCEEDED")
+	private AacGenerationJobStatus status;
+
+	@Schema(description = "생성된 이미지 파일 ID (완료 시)", example = "100")
+	private Long fileId;
+
+	@Schema(description = "생성된 이미지 미리보기 URL (완료 시)", example = "https://bucket.s3.amazonaws.com/AAC/abc.png?X-Amz-...")
+	private String previewUrl;
+
+	@Schema(description = "실패 사유 (실패 시)", example = "AAC 이미지 생성에 실패했습니다.")
+	private String errorMessage;
+
+	public static AacGenerationJobRes of(AacGenerationJob job, String previewUrl) {
+		return AacGenerationJobRes.builder()
+			.jobId(job.getJobId())
+			.status(job.getStatus())
+			.fileId(job.getFileId())
+			.previewUrl(previewUrl)
+			.errorMessage(job.getErrorMessage())
+			.build();
+	}
+}
@@ -1,5 +1,7 @@
 package com.communet.malmoon.aac.dto.response;
 
+import java.time.LocalDateTime;
+
 import com.communet.malmoon.aac.domain.Aac;
 import com.communet.malmoon.aac.domain.AacStatus;
 
@@ -46,6 +48,9 @@ public class AacGetRes {
 	@Schema(description = "공개 여부", example = "PUBLIC")
 	private AacStatus status;
 
+	@Schema(description = "생성 시각 (커서 조회 시 다음 커서로 사용)", example = "2025-08-05T10:30:00")
+	private LocalDateTime createdAt;
+
 	/**
 	 * AAC 도메인 객체와 이미지 URL을 기반으로 응답 DTO를 생성합니다.
 	 *
@@ -63,6 +68,7 @@ public class AacGetRes {
 			.description(aac.getDescription())
 			.fileUrl(fileUrl)
 			.status(aac.getStatus())
+			.createdAt(aac.getCreatedAt())
 			.build();
 	}
 }
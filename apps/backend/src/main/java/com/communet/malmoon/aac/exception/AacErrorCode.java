@@ -41,7 +41,13 @@ public enum AacErrorCode {
 
 	// === AAC 묶음 관련 ===
 	AAC_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 AAC 항목이 포함되어 있습니다."),
-	DUPLICATED_ITEM_IN_SET(HttpStatus.BAD_REQUEST, "중복된 AAC 항목이 포함되어 있습니다.");
+	DUPLICATED_ITEM_IN_SET(HttpStatus.BAD_REQUEST, "중복된 AAC 항목이 포함되어 있습니다."),
+
+	// === 이미지 생성 작업 관련 ===
+	GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지 생성 작업을 찾을 수 없습니다."),
+	GENERATION_JOB_NOT_COMPLETED(HttpStatus.CONFLICT, "이미지 생성이 완료되지 않은 작업입니다."),
+	GENERATION_JOB_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "동시에 진행할 수 있는 이미지 생성 작업 수를 초과했습니다."),
+	GENERATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "이미지 생성 요청이 많아 잠시 후 다시 시도해주세요.");
 
 	private final HttpStatus status;
 	private final String message;
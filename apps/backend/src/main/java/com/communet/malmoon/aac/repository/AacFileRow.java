@@ -0,0 +1,23 @@
+package com.communet.malmoon.aac.repository;
+
+import com.communet.malmoon.aac.domain.Aac;
+
+import lombok.Getter;
+
+/**
+ * AAC 목록 조회용 프로젝션
+ * AAC 엔티티와 연결된 File의 파일명/삭제 여부를 함께 담아 페이지당 한 번의 조회로 응답을 구성합니다.
+ */
+@Getter
+public class AacFileRow {
+
+	private final Aac aac;
+	private final String filename;
+	private final boolean fileDeleted;
+
+	public AacFileRow(Aac aac, String filename, Boolean fileDeleted) {
+		this.aac = aac;
+		this.filename = filename;
+		this.fileDeleted = Boolean.TRUE.equals(fileDeleted);
+	}
+}
@@ -3,11 +3,34 @@ package com.communet.malmoon.aac.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.communet.malmoon.aac.domain.AacItemSet;
+import com.communet.malmoon.aac.dto.response.AacSetDetailRes;
 
-public interface AacItemSetRepository extends JpaRepository<AacItemSet, Long> {
+public interface AacItemSetRepository extends JpaRepository<AacItemSet, Long>, AacItemSetRepositoryCustom {
 	List<AacItemSet> findByAacSetIdOrderByOrderNo(Long aacSetId);
 
-	void deleteByAacSetId(Long aacSetId);
+	/**
+	 * 묶음에 포함된 AAC 항목을 Aac와 조인하여 orderNo 순으로 한 번에 조회합니다.
+	 * 외부 조인이므로 AAC가 없는 항목도 빠지지 않고 id가 null인 행으로 반환됩니다.
+	 */
+	@Query("""
+		select new com.communet.malmoon.aac.dto.response.AacSetDetailRes(
+			a.id, a.name, a.situation, a.action, a.emotion, a.fileId, s.orderNo)
+		from AacItemSet s
+		left join Aac a on a.id = s.aacItemId
+		where s.aacSetId = :aacSetId
+		order by s.orderNo
+		""")
+	List<AacSetDetailRes> findDetailsByAacSetId(@Param("aacSetId") Long aacSetId);
+
+	/**
+	 * 묶음의 모든 구성 항목을 단일 DELETE 쿼리로 삭제합니다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("delete from AacItemSet s where s.aacSetId = :aacSetId")
+	void deleteByAacSetId(@Param("aacSetId") Long aacSetId);
 }
@@ -0,0 +1,17 @@
+package com.communet.malmoon.aac.repository;
+
+import java.util.List;
+
+/**
+ * AAC 묶음 구성(AacItemSet) 일괄 저장을 정의합니다.
+ */
+public interface AacItemSetRepositoryCustom {
+
+	/**
+	 * 묶음에 AAC 항목들을 전달된 순서대로(orderNo 1부터) JDBC 배치로 한 번에 저장합니다.
+	 *
+	 * @param aacSetId AAC 묶음 ID
+	 * @param aacItemIds 묶음에 포함할 AAC ID 목록 (순서 유지)
+	 */
+	void batchInsert(Long aacSetId, List<Long> aacItemIds);
+}
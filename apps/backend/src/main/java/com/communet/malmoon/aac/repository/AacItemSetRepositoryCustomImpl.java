@@ -0,0 +1,31 @@
+package com.communet.malmoon.aac.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AacItemSetRepositoryCustomImpl implements AacItemSetRepositoryCustom {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO aac_item_set (aac_item_id, aac_set_id, order_no, added_at) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void batchInsert(Long aacSetId, List<Long> aacItemIds) {
+		// IDENTITY 키는 Hibernate 배치 insert가 비활성화되므로 JDBC 배치로 직접 저장
+		Timestamp addedAt = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> params = new ArrayList<>(aacItemIds.size());
+		int order = 1;
+		for (Long itemId : aacItemIds) {
+			params.add(new Object[] {itemId, aacSetId, order++, addedAt});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, params);
+	}
+}
@@ -10,6 +10,6 @@ import com.communet.malmoon.aac.domain.Aac;
  * AAC 관련 JPA 리포지토리입니다.
  */
 @Repository
-public interface AacRepository extends JpaRepository<Aac, Long>, JpaSpecificationExecutor<Aac> {
+public interface AacRepository extends JpaRepository<Aac, Long>, JpaSpecificationExecutor<Aac>, AacRepositoryCustom {
 
 }
@@ -0,0 +1,49 @@
+package com.communet.malmoon.aac.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.communet.malmoon.aac.domain.Aac;
+
+/**
+ * Specification 기반 AAC 조회 중 File 조인이 필요한 쿼리를 정의합니다.
+ */
+public interface AacRepositoryCustom {
+
+	/**
+	 * Specification 조건에 맞는 AAC를 File과 조인하여 페이지 단위로 조회합니다.
+	 * 페이지 크기와 관계없이 본문 조회 1회(+ 필요 시 count 1회)만 실행됩니다.
+	 *
+	 * @param spec 검색 조건
+	 * @param pageable 페이지 및 정렬 정보
+	 * @return AAC와 파일명을 담은 페이지
+	 */
+	Page<AacFileRow> findAllWithFile(Specification<Aac> spec, Pageable pageable);
+
+	/**
+	 * Specification 조건에 맞는 AAC를 File과 조인하여 앞에서부터 size건 조회합니다.
+	 * count 쿼리 없이 size + 1건 조회로 다음 페이지 존재 여부만 판단합니다.
+	 * 커서 조건은 {@link AacSpecification#before}로 spec에 포함시킵니다.
+	 *
+	 * @param spec 검색 조건 (커서 조건 포함)
+	 * @param sort 정렬 조건
+	 * @param size 조회할 개수
+	 * @return AAC와 파일명을 담은 Slice
+	 */
+	Slice<AacFileRow> findSliceWithFile(Specification<Aac> spec, Sort sort, int size);
+
+	/**
+	 * Specification 조건에 맞는 AAC 전체를 File과 조인하여 조회합니다. (페이징 없음)
+	 * 공개 카탈로그 스냅샷 빌드처럼 결과 건수가 제한된 경우에만 사용합니다.
+	 *
+	 * @param spec 검색 조건
+	 * @param sort 정렬 조건
+	 * @return AAC와 파일명 목록
+	 */
+	List<AacFileRow> findAllWithFile(Specification<Aac> spec, Sort sort);
+}
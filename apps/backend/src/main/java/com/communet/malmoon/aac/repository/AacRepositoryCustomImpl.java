@@ -0,0 +1,94 @@
+package com.communet.malmoon.aac.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.file.domain.File;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AacRepositoryCustomImpl implements AacRepositoryCustom {
+
+	private final EntityManager em;
+
+	@Override
+	public Page<AacFileRow> findAllWithFile(Specification<Aac> spec, Pageable pageable) {
+		List<AacFileRow> content = selectWithFile(spec, pageable.getSort(), (int)pageable.getOffset(),
+			pageable.getPageSize());
+
+		// 마지막 페이지처럼 전체 개수를 알 수 있는 경우 count 쿼리 생략
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+	}
+
+	@Override
+	public Slice<AacFileRow> findSliceWithFile(Specification<Aac> spec, Sort sort, int size) {
+		// 다음 페이지 존재 여부 확인용으로 1건 더 조회
+		List<AacFileRow> content = new ArrayList<>(selectWithFile(spec, sort, 0, size + 1));
+
+		boolean hasNext = content.size() > size;
+		if (hasNext) {
+			content.remove(size);
+		}
+		return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
+	}
+
+	@Override
+	public List<AacFileRow> findAllWithFile(Specification<Aac> spec, Sort sort) {
+		return selectWithFile(spec, sort, 0, -1);
+	}
+
+	private List<AacFileRow> selectWithFile(Specification<Aac> spec, Sort sort, int offset, int limit) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<AacFileRow> query = cb.createQuery(AacFileRow.class);
+		Root<Aac> aac = query.from(Aac.class);
+		Root<File> file = query.from(File.class);
+
+		Predicate joinOnFile = cb.equal(file.get("id"), aac.get("fileId"));
+		Predicate filters = spec == null ? null : spec.toPredicate(aac, query, cb);
+
+		query.select(cb.construct(AacFileRow.class, aac, file.get("filename"), file.get("isDeleted")))
+			.where(filters == null ? joinOnFile : cb.and(joinOnFile, filters))
+			.orderBy(QueryUtils.toOrders(sort, aac, cb));
+
+		TypedQuery<AacFileRow> typedQuery = em.createQuery(query).setFirstResult(offset);
+		if (limit >= 0) {
+			typedQuery.setMaxResults(limit);
+		}
+		return typedQuery.getResultList();
+	}
+
+	/**
+	 * selectWithFile과 같은 File 조인 조건으로 개수를 셉니다. (파일이 없는 AAC는 목록과 개수 모두에서 제외)
+	 */
+	private long count(Specification<Aac> spec) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Aac> aac = query.from(Aac.class);
+		Root<File> file = query.from(File.class);
+
+		Predicate joinOnFile = cb.equal(file.get("id"), aac.get("fileId"));
+		Predicate filters = spec == null ? null : spec.toPredicate(aac, query, cb);
+
+		query.select(cb.count(aac))
+			.where(filters == null ? joinOnFile : cb.and(joinOnFile, filters));
+		return em.createQuery(query).getSingleResult();
+	}
+}
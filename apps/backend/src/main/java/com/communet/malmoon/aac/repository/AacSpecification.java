@@ -1,5 +1,6 @@
 package com.communet.malmoon.aac.repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -67,4 +68,59 @@ public class AacSpecification {
 			return builder.and(predicates.toArray(new Predicate[0]));
 		};
 	}
+
+	/**
+	 * (createdAt, id) 커서 이후 항목만 조회하는 keyset 조건입니다.
+	 * createdAt DESC, id DESC 정렬과 함께 사용하며, 커서가 없으면 조건을 추가하지 않습니다.
+	 *
+	 * @param createdAt 마지막으로 받은 항목의 생성 시각 (nullable)
+	 * @param id 마지막으로 받은 항목의 ID (nullable)
+	 * @return JPA Criteria 기반 Specification 조건 객체
+	 */
+	public static Specification<Aac> before(LocalDateTime createdAt, Long id) {
+		return (root, query, builder) -> {
+			if (createdAt == null || id == null) {
+				return null;
+			}
+			return builder.or(
+				builder.lessThan(root.get("createdAt"), createdAt),
+				builder.and(
+					builder.equal(root.get("createdAt"), createdAt),
+					builder.lessThan(root.get("id"), id)
+				)
+			);
+		};
+	}
+
+	/**
+	 * 특정 재활사가 생성한 PRIVATE 상태의 AAC만 조회하는 Specification입니다.
+	 * 공개 카탈로그 스냅샷과 병합할 때 사용합니다.
+	 *
+	 * @param situation 상황 필터 조건 (nullable)
+	 * @param action 행동 필터 조건 (nullable)
+	 * @param emotion 감정 필터 조건 (nullable)
+	 * @param therapistId 재활사 ID
+	 * @return JPA Criteria 기반 Specification 조건 객체
+	 */
+	public static Specification<Aac> privateOf(String situation, String action, String emotion, Long therapistId) {
+		return (root, query, builder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			predicates.add(builder.equal(root.get("status"), AacStatus.PRIVATE));
+			predicates.add(builder.equal(root.get("therapistId"), therapistId));
+
+			if (situation != null && !situation.isBlank()) {
+				predicates.add(builder.equal(root.get("situation"), situation));
+			}
+
+			if (action != null && !action.isBlank()) {
+				predicates.add(builder.equal(root.get("action"), action));
+			}
+
+			if (emotion != null && !emotion.isBlank()) {
+				predicates.add(builder.equal(root.get("emotion"), emotion));
+			}
+
+			return builder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
 }
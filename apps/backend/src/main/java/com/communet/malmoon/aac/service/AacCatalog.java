@@ -0,0 +1,143 @@
+package com.communet.malmoon.aac.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.repository.AacFileRow;
+
+import lombok.Getter;
+
+/**
+ * DEFAULT/PUBLIC 상태 AAC 카탈로그의 불변 스냅샷입니다.
+ * - 전체 목록은 createdAt DESC, id DESC 순으로 정렬되어 있음
+ * - 상황/동작/감정별 인덱스를 미리 만들어 필터 조회 시 DB를 거치지 않음
+ */
+@Getter
+public class AacCatalog {
+
+	/** 카탈로그 정렬 기준 (createdAt DESC, id DESC) */
+	public static final Comparator<AacFileRow> ORDER = Comparator
+		.comparing((AacFileRow row) -> row.getAac().getCreatedAt())
+		.thenComparing(row -> row.getAac().getId())
+		.reversed();
+
+	private final long version;
+	private final List<AacFileRow> items;
+	private final Map<String, List<AacFileRow>> bySituation;
+	private final Map<String, List<AacFileRow>> byAction;
+	private final Map<String, List<AacFileRow>> byEmotion;
+
+	private AacCatalog(long version, List<AacFileRow> items) {
+		this.version = version;
+		this.items = items;
+		this.bySituation = indexBy(items, Aac::getSituation);
+		this.byAction = indexBy(items, Aac::getAction);
+		this.byEmotion = indexBy(items, Aac::getEmotion);
+	}
+
+	/**
+	 * 조회 결과로 스냅샷을 생성합니다.
+	 *
+	 * @param version 스냅샷 버전
+	 * @param rows 공개 AAC 목록 (순서 무관)
+	 * @return 정렬 및 인덱싱된 스냅샷
+	 */
+	public static AacCatalog of(long version, List<AacFileRow> rows) {
+		List<AacFileRow> sorted = new ArrayList<>(rows);
+		sorted.sort(ORDER);
+		return new AacCatalog(version, List.copyOf(sorted));
+	}
+
+	/**
+	 * 필터 조건에 맞는 항목을 정렬 순서대로 반환합니다.
+	 * 필터가 하나 이하이면 전체 목록 또는 해당 인덱스를 복사하지 않고 그대로 반환하므로, 호출 측은 subList로 페이징합니다.
+	 * 필터가 여러 개이면 가장 작은 인덱스를 기준으로 나머지 조건을 확인한 결과만 새 목록으로 만듭니다.
+	 *
+	 * @param situation 상황 (nullable)
+	 * @param action 동작 (nullable)
+	 * @param emotion 감정 (nullable)
+	 * @return 조건에 맞는 항목 목록 (불변)
+	 */
+	public List<AacFileRow> find(String situation, String action, String emotion) {
+		List<AacFileRow> candidates = items;
+		int filters = 0;
+		if (hasText(situation)) {
+			candidates = smaller(candidates, bySituation.getOrDefault(situation, List.of()));
+			filters++;
+		}
+		if (hasText(action)) {
+			candidates = smaller(candidates, byAction.getOrDefault(action, List.of()));
+			filters++;
+		}
+		if (hasText(emotion)) {
+			candidates = smaller(candidates, byEmotion.getOrDefault(emotion, List.of()));
+			filters++;
+		}
+		if (filters <= 1) {
+			return candidates;
+		}
+
+		return candidates.stream()
+			.filter(row -> !hasText(situation) || situation.equals(row.getAac().getSituation()))
+			.filter(row -> !hasText(action) || action.equals(row.getAac().getAction()))
+			.filter(row -> !hasText(emotion) || emotion.equals(row.getAac().getEmotion()))
+			.toList();
+	}
+
+	/**
+	 * 정렬된 두 목록을 ORDER 기준으로 병합한 순서에서 offset부터 size개만 반환합니다.
+	 * 앞 페이지 항목은 건너뛰기만 하고 담지 않습니다.
+	 *
+	 * @param left 정렬된 목록
+	 * @param right 정렬된 목록
+	 * @param offset 건너뛸 개수
+	 * @param size 최대 개수
+	 * @return 병합된 순서의 해당 페이지
+	 */
+	public static List<AacFileRow> merge(List<AacFileRow> left, List<AacFileRow> right, int offset, int size) {
+		int available = Math.max(0, left.size() + right.size() - offset);
+		List<AacFileRow> page = new ArrayList<>(Math.min(size, available));
+		int skipped = 0;
+		int i = 0;
+		int j = 0;
+		while (page.size() < size && (i < left.size() || j < right.size())) {
+			AacFileRow next;
+			if (j >= right.size() || (i < left.size() && ORDER.compare(left.get(i), right.get(j)) <= 0)) {
+				next = left.get(i++);
+			} else {
+				next = right.get(j++);
+			}
+			if (skipped < offset) {
+				skipped++;
+			} else {
+				page.add(next);
+			}
+		}
+		return page;
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	private static Map<String, List<AacFileRow>> indexBy(List<AacFileRow> rows, Function<Aac, String> key) {
+		// groupingBy는 입력 순서를 유지하므로 각 인덱스도 정렬 상태
+		return rows.stream()
+			.filter(row -> key.apply(row.getAac()) != null)
+			.collect(Collectors.groupingBy(row -> key.apply(row.getAac()),
+				Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+	}
+
+	private static List<AacFileRow> smaller(List<AacFileRow> a, List<AacFileRow> b) {
+		return a.size() <= b.size() ? a : b;
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+}
@@ -0,0 +1,176 @@
+package com.communet.malmoon.aac.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.aac.repository.AacRepository;
+import com.communet.malmoon.aac.repository.AacSpecification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 AAC 카탈로그 스냅샷을 메모리에 보관합니다.
+ * - 최초 조회 시 또는 무효화 이후 조회 시 DB에서 한 번 읽어 스냅샷을 빌드
+ * - 이 노드에서 공개 AAC가 바뀌면 커밋 후 스냅샷을 버리고 Redis 채널로 다른 노드에 무효화 전파
+ * - 재빌드는 전용 단일 스레드에서 비동기로 수행하며, 이미 예약된 재빌드가 있으면 추가 예약하지 않음
+ *   (짧은 시간에 무효화가 몰려도 DB 재조회는 한 번)
+ * - 다른 노드의 메시지를 받아도 같은 방식으로 무효화 후 재빌드 예약
+ */
+@Slf4j
+@Component
+public class AacCatalogCache implements MessageListener {
+
+	static final String CHANNEL = "aac:catalog:invalidate";
+
+	private static final Sort CATALOG_SORT =
+		Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final AtomicLong version = new AtomicLong();
+	private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+	private final AacRepository aacRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ExecutorService rebuildExecutor;
+
+	private volatile AacCatalog snapshot;
+
+	public AacCatalogCache(
+		AacRepository aacRepository,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer
+	) {
+		this(aacRepository, stringRedisTemplate, redisMessageListenerContainer,
+			Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "aac-catalog-rebuild");
+				thread.setDaemon(true);
+				return thread;
+			}));
+	}
+
+	AacCatalogCache(
+		AacRepository aacRepository,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		ExecutorService rebuildExecutor
+	) {
+		this.aacRepository = aacRepository;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.rebuildExecutor = rebuildExecutor;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 현재 스냅샷을 반환합니다. 스냅샷이 없으면 DB에서 빌드합니다.
+	 *
+	 * @return 공개 AAC 카탈로그 스냅샷
+	 */
+	public AacCatalog get() {
+		AacCatalog current = snapshot;
+		return current != null ? current : rebuild();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		rebuildExecutor.shutdownNow();
+	}
+
+	/**
+	 * 공개 상태의 AAC가 등록/삭제된 경우 커밋 후 스냅샷을 버리고 재빌드를 예약한 뒤 다른 노드에 알립니다.
+	 * PRIVATE 항목의 변경은 스냅샷에 영향이 없으므로 무시합니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCatalogChanged(AacCatalogChangedEvent event) {
+		if (event.getStatus() == null || !event.getStatus().isPublic()) {
+			return;
+		}
+		invalidate();
+		scheduleRebuild();
+
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, nodeId);
+		} catch (Exception e) {
+			// 전파 실패 시 다른 노드는 다음 변경 전까지 이전 스냅샷을 사용
+			log.warn("AAC 카탈로그 무효화 전파 실패 - aacId: {}", event.getAacId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (nodeId.equals(publisher)) {
+			return;
+		}
+		invalidate();
+		scheduleRebuild();
+	}
+
+	/**
+	 * 스냅샷을 버립니다. 재빌드 전에 들어온 조회는 rebuild 락에서 한 번만 빌드합니다.
+	 * 빌드 중에는 빌드가 끝난 뒤 무효화되도록 rebuild와 같은 락을 사용합니다.
+	 */
+	public synchronized void invalidate() {
+		snapshot = null;
+		log.debug("AAC 카탈로그 무효화 - version: {}", version.get());
+	}
+
+	/**
+	 * 재빌드를 비동기로 예약합니다. 아직 실행되지 않은 예약이 있으면 그 예약이 이번 무효화까지 반영하므로 추가하지 않습니다.
+	 * 실행 시작 시 플래그를 먼저 내리므로, 빌드 도중 들어온 무효화는 다음 재빌드로 이어집니다.
+	 */
+	private void scheduleRebuild() {
+		if (!rebuildScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			rebuildExecutor.execute(() -> {
+				rebuildScheduled.set(false);
+				try {
+					rebuild();
+				} catch (Exception e) {
+					// 실패 시 스냅샷이 비어 있으므로 다음 조회에서 다시 빌드
+					log.warn("AAC 카탈로그 비동기 재빌드 실패", e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rebuildScheduled.set(false);
+			log.warn("AAC 카탈로그 재빌드 예약 실패 - 다음 조회 시 빌드", e);
+		}
+	}
+
+	private synchronized AacCatalog rebuild() {
+		AacCatalog current = snapshot;
+		if (current != null) {
+			return current;
+		}
+
+		AacCatalog built = AacCatalog.of(version.incrementAndGet(),
+			aacRepository.findAllWithFile(AacSpecification.withFilters(null, null, null, null), CATALOG_SORT));
+		snapshot = built;
+		log.info("AAC 카탈로그 스냅샷 빌드 - version: {}, size: {}", built.getVersion(), built.size());
+		return built;
+	}
+}
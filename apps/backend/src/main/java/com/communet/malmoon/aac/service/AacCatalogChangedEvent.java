@@ -0,0 +1,23 @@
+package com.communet.malmoon.aac.service;
+
+import com.communet.malmoon.aac.domain.AacStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AAC 등록/삭제로 공개 카탈로그 또는 재활사의 PRIVATE 항목이 바뀌었을 수 있음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link AacCatalogCache}와 {@link AacPrivateCountCache}가 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AacCatalogChangedEvent {
+
+	private final Long aacId;
+
+	/** 변경된 AAC의 상태 (DEFAULT/PUBLIC인 경우에만 스냅샷 재빌드) */
+	private final AacStatus status;
+
+	/** AAC를 등록한 재활사 ID (PRIVATE인 경우 해당 재활사의 개수 캐시 무효화) */
+	private final Long therapistId;
+}
@@ -0,0 +1,59 @@
+package com.communet.malmoon.aac.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+
+import lombok.Getter;
+
+/**
+ * AAC 이미지 생성 작업 상태
+ * - 작업 상태의 원본은 Redis 해시이며, 이 객체는 한 번 읽거나 작업 스레드에서 갱신할 때만 사용
+ * - claimed는 확정이 진행 중인 작업 표시 (조회/재확정 시 없는 작업으로 취급)
+ */
+@Getter
+public class AacGenerationJob {
+
+	private final String jobId;
+	private final Long therapistId;
+	private final AacCreateReq request;
+	private final LocalDateTime createdAt;
+
+	private AacGenerationJobStatus status;
+	private Long fileId;
+	private String errorMessage;
+	private final boolean claimed;
+
+	public AacGenerationJob(Long therapistId, AacCreateReq request) {
+		this(UUID.randomUUID().toString(), therapistId, request, LocalDateTime.now(), AacGenerationJobStatus.PENDING,
+			null, null, false);
+	}
+
+	AacGenerationJob(String jobId, Long therapistId, AacCreateReq request, LocalDateTime createdAt,
+		AacGenerationJobStatus status, Long fileId, String errorMessage, boolean claimed) {
+		this.jobId = jobId;
+		this.therapistId = therapistId;
+		this.request = request;
+		this.createdAt = createdAt;
+		this.status = status;
+		this.fileId = fileId;
+		this.errorMessage = errorMessage;
+		this.claimed = claimed;
+	}
+
+	public void markRunning() {
+		this.status = AacGenerationJobStatus.RUNNING;
+	}
+
+	public void markSucceeded(Long fileId) {
+		this.fileId = fileId;
+		this.status = AacGenerationJobStatus.SUCCEEDED;
+	}
+
+	public void markFailed(String errorMessage) {
+		this.errorMessage = errorMessage;
+		this.status = AacGenerationJobStatus.FAILED;
+	}
+}
@@ -0,0 +1,289 @@
+package com.communet.malmoon.aac.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
+import com.communet.malmoon.aac.dto.request.AacGenerationConfirmReq;
+import com.communet.malmoon.aac.dto.response.AacCreateRes;
+import com.communet.malmoon.aac.dto.response.AacGenerationJobRes;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.external.fastapi.FastApiClient;
+import com.communet.malmoon.file.domain.FileType;
+import com.communet.malmoon.file.dto.response.FileUploadRes;
+import com.communet.malmoon.file.service.FileService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AAC 이미지 생성 작업을 비동기로 처리하는 서비스입니다.
+ * - 요청 즉시 작업 ID를 반환하고, 생성(FastAPI)과 S3 업로드는 전용 스레드 풀에서 수행
+ * - 재활사별 동시 작업 수를 제한하고, 스레드 풀 큐가 가득 차면 503으로 거절
+ * - 작업 상태는 폴링 또는 SSE로 조회하며, 완료된 작업은 파일 ID로 AAC를 확정
+ * - 작업 상태와 재활사별 작업 수는 {@link AacGenerationJobStore}(Redis)에 보관하여 어느 노드에서든 조회/구독/확정 가능
+ * - 상태 변경은 Redis 채널로 전파되고, SSE 연결을 가진 노드가 최신 상태를 읽어 전송
+ */
+@Slf4j
+@Service
+public class AacGenerationJobService implements MessageListener {
+
+	private final FastApiClient fastApiClient;
+	private final FileService fileService;
+	private final AacService aacService;
+	private final AacGenerationJobStore jobStore;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final Executor executor;
+	private final int maxJobsPerTherapist;
+	private final long sseTimeoutMillis;
+
+	/** 이 노드에 연결된 SSE 구독자 (작업 상태 자체는 Redis에 있음) */
+	private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public AacGenerationJobService(
+		FastApiClient fastApiClient,
+		FileService fileService,
+		AacService aacService,
+		AacGenerationJobStore jobStore,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		@Qualifier("aacGenerationExecutor") Executor executor,
+		@Value("${aac.generation.max-jobs-per-therapist:2}") int maxJobsPerTherapist,
+		@Value("${aac.generation.sse-timeout-seconds:120}") long sseTimeoutSeconds) {
+		this.fastApiClient = fastApiClient;
+		this.fileService = fileService;
+		this.aacService = aacService;
+		this.jobStore = jobStore;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.executor = executor;
+		this.maxJobsPerTherapist = maxJobsPerTherapist;
+		this.sseTimeoutMillis = Duration.ofSeconds(sseTimeoutSeconds).toMillis();
+	}
+
+	@PostConstruct
+	void subscribeStatusChannel() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(AacGenerationJobStore.CHANNEL));
+	}
+
+	/**
+	 * 이미지 생성 작업을 등록하고 즉시 작업 ID를 반환합니다.
+	 *
+	 * @param request 상황, 감정, 동작 정보를 포함한 생성 요청
+	 * @param therapistId 로그인한 재활사 ID
+	 * @return 등록된 작업 상태 (PENDING)
+	 */
+	public AacGenerationJobRes submit(AacCreateReq request, Long therapistId) {
+		if (!jobStore.acquireSlot(therapistId, maxJobsPerTherapist)) {
+			throw new AacException(AacErrorCode.GENERATION_JOB_LIMIT_EXCEEDED);
+		}
+
+		AacGenerationJob job = new AacGenerationJob(therapistId, request);
+		try {
+			jobStore.save(job);
+		} catch (RuntimeException e) {
+			jobStore.releaseSlot(therapistId);
+			throw e;
+		}
+
+		try {
+			executor.execute(() -> run(job));
+		} catch (RejectedExecutionException e) {
+			jobStore.delete(job.getJobId());
+			jobStore.releaseSlot(therapistId);
+			log.warn("AAC 생성 작업 거절 - 스레드 풀 포화, therapistId: {}", therapistId);
+			throw new AacException(AacErrorCode.GENERATION_QUEUE_FULL);
+		}
+
+		return AacGenerationJobRes.of(job, null);
+	}
+
+	/**
+	 * 작업 상태를 조회합니다. 완료된 작업은 미리보기용 presigned URL을 포함합니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @param therapistId 로그인한 재활사 ID
+	 * @return 작업 상태
+	 */
+	public AacGenerationJobRes getJob(String jobId, Long therapistId) {
+		return toRes(findOwnedJob(jobId, therapistId));
+	}
+
+	/**
+	 * 작업 상태 변경을 SSE로 구독합니다.
+	 * 구독 즉시 현재 상태를 보내고, 작업이 끝나면 스트림을 종료합니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @param therapistId 로그인한 재활사 ID
+	 * @return SSE emitter
+	 */
+	public SseEmitter subscribe(String jobId, Long therapistId) {
+		AacGenerationJob job = findOwnedJob(jobId, therapistId);
+
+		SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+		emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+		emitter.onCompletion(() -> removeEmitter(jobId, emitter));
+		emitter.onTimeout(() -> removeEmitter(jobId, emitter));
+		emitter.onError(e -> removeEmitter(jobId, emitter));
+
+		// 등록 전에 바뀐 상태를 놓치지 않도록 등록 후 다시 읽어 전송
+		send(emitter, jobStore.find(jobId).orElse(job));
+		return emitter;
+	}
+
+	/**
+	 * 완료된 작업의 이미지로 AAC를 확정 저장합니다.
+	 * 이미지는 작업 중 이미 S3에 업로드되었으므로 로컬 파일을 사용하지 않습니다.
+	 * 같은 작업을 동시에 확정해도 AAC는 한 번만 생성됩니다.
+	 *
+	 * @param jobId 작업 ID
+	 * @param request 이름, 설명, 공개 여부
+	 * @param therapistId 로그인한 재활사 ID
+	 * @return 미리보기 URL
+	 */
+	public AacCreateRes confirm(String jobId, AacGenerationConfirmReq request, Long therapistId) {
+		AacGenerationJob job = findOwnedJob(jobId, therapistId);
+		if (job.getStatus() != AacGenerationJobStatus.SUCCEEDED) {
+			throw new AacException(AacErrorCode.GENERATION_JOB_NOT_COMPLETED);
+		}
+
+		// Redis에서 작업을 원자적으로 선점한 요청만 AAC를 생성 (노드와 무관하게 중복 확정 방지)
+		if (!jobStore.claim(jobId, therapistId)) {
+			throw new AacException(AacErrorCode.GENERATION_JOB_NOT_FOUND);
+		}
+
+		AacCreateReq generated = job.getRequest();
+		AacCreateRes created;
+		try {
+			created = aacService.createFromFileId(AacCustomPresignReq.builder()
+				.name(request.getName())
+				.situation(generated.getSituation())
+				.action(generated.getAction())
+				.emotion(generated.getEmotion())
+				.description(request.getDescription())
+				.fileId(job.getFileId())
+				.status(request.getStatus())
+				.build(), therapistId);
+		} catch (RuntimeException e) {
+			// 저장 실패 시 다시 확정할 수 있도록 선점을 되돌림
+			jobStore.unclaim(jobId);
+			throw e;
+		}
+		jobStore.delete(jobId);
+		return created;
+	}
+
+	private void run(AacGenerationJob job) {
+		job.markRunning();
+		saveAndPublish(job);
+
+		try {
+			// 1. FastAPI 이미지 생성
+			String previewUrl = fastApiClient.requestPreviewImage(job.getRequest());
+
+			// 2. 생성된 이미지를 내려받아 S3에 바로 업로드
+			byte[] image = fastApiClient.downloadPreviewImage(previewUrl);
+			String filename = Path.of(previewUrl).getFileName().toString();
+			FileUploadRes uploaded = fileService.uploadFile(String.valueOf(FileType.AAC), image, filename);
+
+			job.markSucceeded(uploaded.getFileId());
+			log.info("AAC 생성 작업 완료 - jobId: {}, fileId: {}", job.getJobId(), uploaded.getFileId());
+		} catch (AacException e) {
+			log.warn("AAC 생성 작업 실패 - jobId: {}, 사유: {}", job.getJobId(), e.getMessage());
+			job.markFailed(e.getMessage());
+		} catch (Exception e) {
+			log.error("AAC 생성 작업 중 오류 - jobId: {}", job.getJobId(), e);
+			job.markFailed(AacErrorCode.GENERATION_FAILED.getMessage());
+		} finally {
+			jobStore.releaseSlot(job.getTherapistId());
+			saveAndPublish(job);
+		}
+	}
+
+	/**
+	 * 다른 노드(또는 이 노드)의 작업 스레드가 상태를 바꾸면, 이 노드에 구독자가 있을 때만 최신 상태를 읽어 전송합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String jobId = new String(message.getBody(), StandardCharsets.UTF_8);
+		List<SseEmitter> subscribers = emitters.get(jobId);
+		if (subscribers == null || subscribers.isEmpty()) {
+			return;
+		}
+
+		Optional<AacGenerationJob> job = jobStore.find(jobId);
+		for (SseEmitter emitter : subscribers) {
+			if (job.isPresent()) {
+				send(emitter, job.get());
+			} else {
+				// 만료되었거나 이미 확정된 작업
+				emitter.complete();
+			}
+		}
+	}
+
+	private void saveAndPublish(AacGenerationJob job) {
+		try {
+			jobStore.save(job);
+		} catch (Exception e) {
+			log.error("AAC 생성 작업 상태 저장 실패 - jobId: {}, status: {}", job.getJobId(), job.getStatus(), e);
+			return;
+		}
+		jobStore.publish(job.getJobId());
+	}
+
+	private AacGenerationJob findOwnedJob(String jobId, Long therapistId) {
+		AacGenerationJob job = jobStore.find(jobId)
+			.filter(found -> !found.isClaimed())
+			.orElseThrow(() -> new AacException(AacErrorCode.GENERATION_JOB_NOT_FOUND));
+		if (!job.getTherapistId().equals(therapistId)) {
+			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
+		}
+		return job;
+	}
+
+	private AacGenerationJobRes toRes(AacGenerationJob job) {
+		String previewUrl = job.getStatus() == AacGenerationJobStatus.SUCCEEDED
+			? fileService.getPresignedFileUrl(job.getFileId())
+			: null;
+		return AacGenerationJobRes.of(job, previewUrl);
+	}
+
+	private void send(SseEmitter emitter, AacGenerationJob job) {
+		try {
+			emitter.send(SseEmitter.event().name("status").data(toRes(job)));
+			if (job.getStatus().isDone()) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결 종료 또는 이미 완료된 emitter
+			removeEmitter(job.getJobId(), emitter);
+		}
+	}
+
+	private void removeEmitter(String jobId, SseEmitter emitter) {
+		emitters.computeIfPresent(jobId, (id, list) -> {
+			list.remove(emitter);
+			return list.isEmpty() ? null : list;
+		});
+	}
+}
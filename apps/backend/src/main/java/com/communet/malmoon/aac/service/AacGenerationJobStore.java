@@ -0,0 +1,194 @@
+package com.communet.malmoon.aac.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AAC 이미지 생성 작업 상태를 Redis에 보관합니다.
+ * - 작업마다 해시 하나(aac:generation:job:{jobId})를 TTL과 함께 저장하여 어느 노드에서든 조회/확정 가능
+ * - 재활사별 동시 작업 수는 카운터(aac:generation:active:{therapistId})로 모든 노드에 걸쳐 제한
+ * - 확정은 Lua 스크립트로 SUCCEEDED 작업에 claimed 필드를 한 번만 세워 원자적으로 선점
+ * - 상태가 바뀌면 작업 ID를 채널로 발행하여 SSE 구독자가 연결된 노드에서 전송
+ */
+@Slf4j
+@Component
+public class AacGenerationJobStore {
+
+	static final String CHANNEL = "aac:generation:job:status";
+	private static final String JOB_KEY_PREFIX = "aac:generation:job:";
+	private static final String ACTIVE_KEY_PREFIX = "aac:generation:active:";
+
+	/**
+	 * KEYS[1]=작업 해시, ARGV[1]=TTL(초), ARGV[2..]=필드/값 쌍
+	 */
+	static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+		redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+		redis.call('EXPIRE', KEYS[1], ARGV[1])
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS[1]=작업 해시, ARGV[1]=재활사 ID
+	 * - 본인의 SUCCEEDED 작업이고 아직 선점되지 않았으면 claimed를 세우고 1, 아니면 0
+	 */
+	static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of("""
+		if redis.call('HGET', KEYS[1], 'therapistId') ~= ARGV[1]
+			or redis.call('HGET', KEYS[1], 'status') ~= 'SUCCEEDED' then
+			return 0
+		end
+		return redis.call('HSETNX', KEYS[1], 'claimed', '1')
+		""", Long.class);
+
+	/**
+	 * KEYS[1]=재활사 활성 작업 카운터, ARGV[1]=최대 작업 수, ARGV[2]=TTL(초)
+	 * - 한도 이내면 1 증가시키고 1, 한도에 도달했으면 그대로 두고 0
+	 */
+	static final RedisScript<Long> ACQUIRE_SLOT_SCRIPT = RedisScript.of("""
+		local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+		if count >= tonumber(ARGV[1]) then
+			return 0
+		end
+		redis.call('INCR', KEYS[1])
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS[1]=재활사 활성 작업 카운터 (0 이하가 되면 삭제)
+	 */
+	static final RedisScript<Long> RELEASE_SLOT_SCRIPT = RedisScript.of("""
+		if redis.call('DECR', KEYS[1]) <= 0 then
+			redis.call('DEL', KEYS[1])
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String ttlSeconds;
+
+	public AacGenerationJobStore(
+		StringRedisTemplate stringRedisTemplate,
+		@Value("${aac.generation.job-ttl-minutes:30}") long jobTtlMinutes) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.ttlSeconds = String.valueOf(Duration.ofMinutes(jobTtlMinutes).toSeconds());
+	}
+
+	/**
+	 * 작업 상태를 저장하고 TTL을 갱신합니다.
+	 */
+	public void save(AacGenerationJob job) {
+		List<String> args = new ArrayList<>();
+		args.add(ttlSeconds);
+		addField(args, "therapistId", job.getTherapistId());
+		addField(args, "status", job.getStatus());
+		addField(args, "createdAt", job.getCreatedAt());
+		addField(args, "situation", job.getRequest().getSituation());
+		addField(args, "action", job.getRequest().getAction());
+		addField(args, "emotion", job.getRequest().getEmotion());
+		addField(args, "reason", job.getRequest().getReason());
+		addField(args, "fileId", job.getFileId());
+		addField(args, "errorMessage", job.getErrorMessage());
+
+		stringRedisTemplate.execute(SAVE_SCRIPT, List.of(jobKey(job.getJobId())), args.toArray());
+	}
+
+	/**
+	 * 작업을 조회합니다. 만료되었거나 확정이 끝난 작업은 비어 있습니다.
+	 */
+	public Optional<AacGenerationJob> find(String jobId) {
+		Map<Object, Object> hash = stringRedisTemplate.opsForHash().entries(jobKey(jobId));
+		if (hash.isEmpty() || hash.get("therapistId") == null || hash.get("status") == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new AacGenerationJob(
+			jobId,
+			Long.valueOf((String)hash.get("therapistId")),
+			new AacCreateReq((String)hash.get("situation"), (String)hash.get("action"),
+				(String)hash.get("emotion"), (String)hash.get("reason")),
+			hash.get("createdAt") == null ? null : LocalDateTime.parse((String)hash.get("createdAt")),
+			AacGenerationJobStatus.valueOf((String)hash.get("status")),
+			hash.get("fileId") == null ? null : Long.valueOf((String)hash.get("fileId")),
+			(String)hash.get("errorMessage"),
+			hash.containsKey("claimed")));
+	}
+
+	/**
+	 * 재활사 본인의 완료된 작업을 확정용으로 선점합니다. 여러 노드에서 동시에 호출해도 한 요청만 성공합니다.
+	 *
+	 * @return 선점 성공 여부
+	 */
+	public boolean claim(String jobId, Long therapistId) {
+		Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(jobKey(jobId)),
+			String.valueOf(therapistId));
+		return claimed != null && claimed == 1L;
+	}
+
+	/**
+	 * 확정에 실패한 작업의 선점을 풀어 다시 확정할 수 있게 합니다.
+	 */
+	public void unclaim(String jobId) {
+		stringRedisTemplate.opsForHash().delete(jobKey(jobId), "claimed");
+	}
+
+	/**
+	 * 확정이 끝난 작업을 삭제합니다.
+	 */
+	public void delete(String jobId) {
+		stringRedisTemplate.delete(jobKey(jobId));
+	}
+
+	/**
+	 * 재활사의 동시 작업 슬롯을 하나 차지합니다.
+	 *
+	 * @return 한도 이내여서 슬롯을 얻었으면 true
+	 */
+	public boolean acquireSlot(Long therapistId, int maxJobs) {
+		Long acquired = stringRedisTemplate.execute(ACQUIRE_SLOT_SCRIPT, List.of(activeKey(therapistId)),
+			String.valueOf(maxJobs), ttlSeconds);
+		return acquired != null && acquired == 1L;
+	}
+
+	public void releaseSlot(Long therapistId) {
+		stringRedisTemplate.execute(RELEASE_SLOT_SCRIPT, List.of(activeKey(therapistId)));
+	}
+
+	/**
+	 * 작업 상태 변경을 모든 노드에 알립니다. 실패해도 구독자는 폴링으로 상태를 확인할 수 있습니다.
+	 */
+	public void publish(String jobId) {
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, jobId);
+		} catch (Exception e) {
+			log.warn("AAC 생성 작업 상태 전파 실패 - jobId: {}", jobId, e);
+		}
+	}
+
+	private static void addField(List<String> args, String field, Object value) {
+		if (value != null) {
+			args.add(field);
+			args.add(String.valueOf(value));
+		}
+	}
+
+	private static String jobKey(String jobId) {
+		return JOB_KEY_PREFIX + jobId;
+	}
+
+	private static String activeKey(Long therapistId) {
+		return ACTIVE_KEY_PREFIX + therapistId;
+	}
+}
@@ -0,0 +1,104 @@
+package com.communet.malmoon.aac.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.aac.repository.AacRepository;
+import com.communet.malmoon.aac.repository.AacSpecification;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재활사별 PRIVATE AAC 개수 캐시
+ * - 목록 조회 시 PRIVATE 항목이 없는 재활사는 PRIVATE 조회/카운트 쿼리를 생략하기 위해 사용
+ * - PRIVATE AAC가 등록/삭제되면 커밋 후 해당 재활사 항목을 버리고 Redis 채널로 다른 노드에도 전파
+ * - 전파가 유실되어도 TTL이 지나면 다시 조회
+ */
+@Slf4j
+@Component
+public class AacPrivateCountCache implements MessageListener {
+
+	static final String CHANNEL = "aac:private:invalidate";
+
+	private final AacRepository aacRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final Cache<Long, Long> counts;
+
+	public AacPrivateCountCache(
+		AacRepository aacRepository,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		@Value("${aac.private-count.max-size:10000}") long maxSize,
+		@Value("${aac.private-count.ttl-seconds:300}") long ttlSeconds) {
+		this.aacRepository = aacRepository;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.counts = CacheBuilder.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 재활사의 PRIVATE AAC 개수를 반환합니다. 캐시에 없으면 DB에서 한 번 카운트합니다.
+	 *
+	 * @param therapistId 재활사 ID
+	 * @return PRIVATE AAC 개수 (필터 무관)
+	 */
+	public long count(Long therapistId) {
+		try {
+			return counts.get(therapistId,
+				() -> aacRepository.count(AacSpecification.privateOf(null, null, null, therapistId)));
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("PRIVATE AAC 개수 조회 실패 - therapistId: " + therapistId, e.getCause());
+		}
+	}
+
+	/**
+	 * PRIVATE AAC가 등록/삭제된 경우 커밋 후 해당 재활사의 개수를 버리고 다른 노드에 알립니다.
+	 * 공개 항목의 변경은 {@link AacCatalogCache}가 처리합니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCatalogChanged(AacCatalogChangedEvent event) {
+		if (event.getStatus() == null || !event.getStatus().isPrivate() || event.getTherapistId() == null) {
+			return;
+		}
+		counts.invalidate(event.getTherapistId());
+
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(event.getTherapistId()));
+		} catch (Exception e) {
+			// 전파 실패 시 다른 노드는 TTL이 지날 때까지 이전 개수를 사용
+			log.warn("PRIVATE AAC 개수 무효화 전파 실패 - therapistId: {}", event.getTherapistId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			counts.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 PRIVATE AAC 무효화 메시지: {}", message);
+		}
+	}
+}
@@ -4,23 +4,30 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.domain.AacStatus;
 import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
 import com.communet.malmoon.aac.dto.request.AacCustomReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
+import com.communet.malmoon.aac.dto.request.AacScrollReq;
 import com.communet.malmoon.aac.dto.response.AacCreateRes;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
 import com.communet.malmoon.aac.exception.AacErrorCode;
 import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.aac.repository.AacFileRow;
 import com.communet.malmoon.aac.repository.AacRepository;
 import com.communet.malmoon.aac.repository.AacSpecification;
 import com.communet.malmoon.external.fastapi.FastApiClient;
@@ -42,34 +49,88 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AacService {
 
+	private static final int MAX_SCROLL_SIZE = 100;
+
+	private static final Sort CATALOG_SORT =
+		Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
 	private final AacRepository aacRepository;
 	private final FileService fileService;
 	private final FileRepository fileRepository;
 	private final FastApiClient fastApiClient;
+	private final AacCatalogCache aacCatalogCache;
+	private final AacPrivateCountCache aacPrivateCountCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 필터 조건과 페이징 정보를 기반으로 DEFAULT 또는 PUBLIC 상태의 AAC 항목을 조회합니다.
+	 * 공개 항목은 메모리 카탈로그 스냅샷에서 조회하고, 로그인한 재활사의 PRIVATE 항목만 DB에서 조회하여 병합합니다.
+	 * PRIVATE 항목이 없는 재활사는 DB를 조회하지 않습니다.
 	 * 각 항목에는 S3 이미지 URL이 포함되어 반환됩니다.
 	 *
 	 * @param req 필터 조건 (situation, action, emotion) 및 페이지 정보
 	 * @return 조건에 맞는 AAC 항목 페이지 (이미지 URL 포함)
 	 */
 	public Page<AacGetRes> getAacList(AacGetReq req, Long therapistId) {
-		Pageable pageable = PageRequest.of(req.getPage(), req.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
-		// 동적 필터 조건 구성
-		var spec = AacSpecification.withFilters(req.getSituation(), req.getAction(), req.getEmotion(), therapistId);
+		Pageable pageable = PageRequest.of(req.getPage(), req.getSize(), CATALOG_SORT);
+		int limit = (int)pageable.getOffset() + pageable.getPageSize();
+
+		// 공개 항목은 스냅샷에서 필터링 (DB 미조회)
+		List<AacFileRow> publicRows = aacCatalogCache.get()
+			.find(req.getSituation(), req.getAction(), req.getEmotion());
+
+		int offset = (int)pageable.getOffset();
+		List<AacFileRow> content;
+		long total = publicRows.size();
+		// PRIVATE 항목이 없는 재활사는 조회/카운트 쿼리 생략 (개수는 재활사별로 캐시)
+		if (therapistId != null && aacPrivateCountCache.count(therapistId) > 0) {
+			// 본인 PRIVATE 항목은 현재 페이지까지 필요한 만큼만 DB에서 조회하여 병합 (현재 페이지 항목만 담음)
+			Page<AacFileRow> privateRows = aacRepository.findAllWithFile(
+				AacSpecification.privateOf(req.getSituation(), req.getAction(), req.getEmotion(), therapistId),
+				PageRequest.of(0, limit, CATALOG_SORT));
+			content = AacCatalog.merge(publicRows, privateRows.getContent(), offset, pageable.getPageSize());
+			total += privateRows.getTotalElements();
+		} else {
+			// 스냅샷 목록을 복사하지 않고 현재 페이지 구간만 참조
+			content = publicRows.subList(Math.min(offset, publicRows.size()), Math.min(limit, publicRows.size()));
+		}
 
-		// Specification 기반 조회
-		Page<Aac> page = aacRepository.findAll(spec, pageable);
+		Page<AacFileRow> page = new PageImpl<>(content, pageable, total);
 
 		// 파일 URL 포함하여 응답 객체로 변환
-		return page.map(aac -> {
-			try {
-				String imageUrl = fileService.getPresignedFileUrl(aac.getFileId());
-				return AacGetRes.from(aac, imageUrl);
-			} catch (Exception e) {
+		return page.map(row -> {
+			if (row.isFileDeleted()) {
+				throw new AacException(AacErrorCode.NOT_FOUND);
+			}
+			Aac aac = row.getAac();
+			String imageUrl = fileService.getPresignedFileUrl(aac.getFileId(), row.getFilename());
+			return AacGetRes.from(aac, imageUrl);
+		});
+	}
+
+	/**
+	 * (createdAt, id) 커서를 기준으로 다음 AAC 항목들을 조회합니다.
+	 * OFFSET과 count 쿼리 없이 조회하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+	 * 조회 개수는 1 ~ {@value #MAX_SCROLL_SIZE}로 제한합니다.
+	 *
+	 * @param req 필터 조건 (situation, action, emotion), 커서 및 조회 개수
+	 * @param therapistId 로그인한 재활사 ID (본인 PRIVATE 항목 포함용)
+	 * @return 조건에 맞는 AAC 항목 Slice (이미지 URL 포함)
+	 */
+	public Slice<AacGetRes> getAacSlice(AacScrollReq req, Long therapistId) {
+		var spec = AacSpecification.withFilters(req.getSituation(), req.getAction(), req.getEmotion(), therapistId)
+			.and(AacSpecification.before(req.getCursorCreatedAt(), req.getCursorId()));
+
+		int size = Math.max(1, Math.min(req.getSize(), MAX_SCROLL_SIZE));
+		Slice<AacFileRow> slice = aacRepository.findSliceWithFile(spec, CATALOG_SORT, size);
+
+		return slice.map(row -> {
+			if (row.isFileDeleted()) {
 				throw new AacException(AacErrorCode.NOT_FOUND);
 			}
+			Aac aac = row.getAac();
+			String imageUrl = fileService.getPresignedFileUrl(aac.getFileId(), row.getFilename());
+			return AacGetRes.from(aac, imageUrl);
 		});
 	}
 
@@ -101,6 +162,7 @@ public class AacService {
 				.build();
 
 			aacRepository.save(aac);
+			eventPublisher.publishEvent(new AacCatalogChangedEvent(aac.getId(), aac.getStatus(), aac.getTherapistId()));
 		} catch (AacException e) {
 			log.warn("사용자 정의 AAC 등록 실패 - 사용자 요청 오류: {}", e.getMessage());
 			throw e;
@@ -159,7 +221,7 @@ public class AacService {
 
 		memberId = 1L;
 		try {
-			aacRepository.save(Aac.builder()
+			Aac saved = aacRepository.save(Aac.builder()
 				.name(request.getName())
 				.situation(request.getSituation())
 				.action(request.getAction())
@@ -169,6 +231,8 @@ public class AacService {
 				.therapistId(memberId)
 				.status(request.getStatus())
 				.build());
+			eventPublisher.publishEvent(
+				new AacCatalogChangedEvent(saved.getId(), saved.getStatus(), saved.getTherapistId()));
 
 			//System.out.println(fileUploadRes.getFileId());
 		} catch (Exception e) {
@@ -207,8 +271,10 @@ public class AacService {
 		}
 
 		try {
+			AacStatus previousStatus = aac.getStatus();
 			aac.changeStatusDeleted();
 			aacRepository.save(aac);
+			eventPublisher.publishEvent(new AacCatalogChangedEvent(aacId, previousStatus, aac.getTherapistId()));
 		} catch (Exception e) {
 			log.error("AAC 삭제 실패 - aacId: {}", aacId, e);
 			throw new AacException(AacErrorCode.AAC_DELETE_FAILED);
@@ -241,6 +307,8 @@ public class AacService {
 			.build();
 
 		Aac saved = aacRepository.save(aac);
+		eventPublisher.publishEvent(
+			new AacCatalogChangedEvent(saved.getId(), saved.getStatus(), saved.getTherapistId()));
 
 		// 3) (선택) 미리보기 URL(짧은 pre-signed GET) 생성
 		String previewUrl = fileService.getPresignedFileUrl(request.getFileId());
@@ -0,0 +1,15 @@
+package com.communet.malmoon.aac.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AAC 묶음이 수정/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link AacSetContentsCache}가 해당 묶음 캐시 버전을 바꿉니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AacSetChangedEvent {
+
+	private final Long aacSetId;
+}
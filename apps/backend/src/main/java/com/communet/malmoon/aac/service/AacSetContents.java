@@ -0,0 +1,23 @@
+package com.communet.malmoon.aac.service;
+
+import java.util.List;
+
+import com.communet.malmoon.aac.dto.response.AacSetDetailRes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장되는 AAC 묶음 구성 정보입니다.
+ * 소유권 확인을 위해 묶음 소유 재활사 ID를 함께 보관합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AacSetContents {
+
+	private Long therapistId;
+
+	private List<AacSetDetailRes> items;
+}
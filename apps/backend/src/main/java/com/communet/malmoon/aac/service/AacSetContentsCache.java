@@ -0,0 +1,117 @@
+package com.communet.malmoon.aac.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * aacSetId 기준 AAC 묶음 구성 캐시 (Redis)
+ * - 세션 시작 시 같은 묶음을 반복 조회하므로 구성 정보를 JSON으로 보관
+ * - 구성은 묶음별 버전 키(aac:set:{id}:version)에 딸린 키(aac:set:{id}:{version}:items)에 저장
+ * - 묶음 수정/삭제 커밋 후 버전을 새 값으로 바꾸므로, 커밋 전에 조회를 시작한 요청이 늦게 저장한 이전 구성은
+ *   이전 버전 키에만 남고 다시 읽히지 않음 (TTL 만료 시 정리)
+ * - Redis 장애 시 캐시 없이 DB 조회로 동작
+ */
+@Slf4j
+@Component
+public class AacSetContentsCache {
+
+	/** 한 번도 수정되지 않았거나 버전 키가 만료된 묶음의 버전 */
+	static final String INITIAL_VERSION = "0";
+	private static final String KEY_PREFIX = "aac:set:";
+	private static final String VERSION_SUFFIX = ":version";
+	private static final String ITEMS_SUFFIX = ":items";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Duration ttl;
+	private final Duration versionTtl;
+
+	public AacSetContentsCache(
+		@Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate,
+		@Value("${aac.set-cache.ttl-minutes:60}") long ttlMinutes) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+		// 버전 키는 구성 TTL보다 오래 유지하여, 만료 후 초기 버전으로 돌아가도 이전 구성이 남아 있지 않게 함
+		this.versionTtl = ttl.multipliedBy(2);
+	}
+
+	/**
+	 * 묶음의 현재 캐시 버전을 조회합니다. DB 조회 전에 읽어 두고, 조회 결과를 같은 버전으로 저장해야 합니다.
+	 *
+	 * @param aacSetId AAC 묶음 ID
+	 * @return 현재 버전, 조회 실패 시 null (캐시 미사용)
+	 */
+	public String version(Long aacSetId) {
+		try {
+			Object value = redisTemplate.opsForValue().get(versionKey(aacSetId));
+			return value == null ? INITIAL_VERSION : value.toString();
+		} catch (Exception e) {
+			log.warn("AAC 묶음 캐시 버전 조회 실패 - aacSetId: {}", aacSetId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 캐시된 묶음 구성 조회
+	 *
+	 * @param aacSetId AAC 묶음 ID
+	 * @param version {@link #version(Long)}로 읽은 버전
+	 * @return 캐시된 구성 정보, 없거나 조회 실패 시 null
+	 */
+	public AacSetContents get(Long aacSetId, String version) {
+		if (version == null) {
+			return null;
+		}
+		try {
+			Object value = redisTemplate.opsForValue().get(itemsKey(aacSetId, version));
+			return value instanceof AacSetContents contents ? contents : null;
+		} catch (Exception e) {
+			log.warn("AAC 묶음 캐시 조회 실패 - aacSetId: {}", aacSetId, e);
+			return null;
+		}
+	}
+
+	public void put(Long aacSetId, String version, AacSetContents contents) {
+		if (version == null) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(itemsKey(aacSetId, version), contents, ttl);
+		} catch (Exception e) {
+			log.warn("AAC 묶음 캐시 저장 실패 - aacSetId: {}", aacSetId, e);
+		}
+	}
+
+	/**
+	 * 버전을 다시 쓰지 않는 새 값으로 바꿔 이전 버전의 구성을 더 이상 읽지 않게 합니다.
+	 */
+	public void bumpVersion(Long aacSetId) {
+		try {
+			redisTemplate.opsForValue().set(versionKey(aacSetId), UUID.randomUUID().toString(), versionTtl);
+		} catch (Exception e) {
+			// 버전을 바꾸지 못하면 TTL이 지날 때까지 이전 구성이 조회될 수 있음
+			log.warn("AAC 묶음 캐시 버전 갱신 실패 - aacSetId: {}", aacSetId, e);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSetChanged(AacSetChangedEvent event) {
+		bumpVersion(event.getAacSetId());
+	}
+
+	private String versionKey(Long aacSetId) {
+		return KEY_PREFIX + aacSetId + VERSION_SUFFIX;
+	}
+
+	private String itemsKey(Long aacSetId, String version) {
+		return KEY_PREFIX + aacSetId + ":" + version + ITEMS_SUFFIX;
+	}
+}
@@ -1,14 +1,14 @@
 package com.communet.malmoon.aac.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import com.communet.malmoon.aac.domain.Aac;
-import com.communet.malmoon.aac.domain.AacItemSet;
 import com.communet.malmoon.aac.domain.AacSet;
 import com.communet.malmoon.aac.dto.request.AacSetCreateReq;
 import com.communet.malmoon.aac.dto.request.AacSetUpdateReq;
@@ -34,6 +34,8 @@ public class AacSetService {
 	private final AacRepository aacRepository;
 	private final AacSetRepository aacSetRepository;
 	private final AacItemSetRepository aacItemSetRepository;
+	private final AacSetContentsCache aacSetContentsCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * AAC 묶음을 생성하고, 선택된 AAC 항목들을 묶음에 연결합니다.
@@ -61,16 +63,9 @@ public class AacSetService {
 			.createdAt(LocalDateTime.now())
 			.build());
 
-		// 2. AAC Item Set 연결 저장
-		int order = 1;
-		for (Long itemId : request.getAacItemIds()) {
-			aacItemSetRepository.save(AacItemSet.builder()
-				.aacItemId(itemId)
-				.aacSetId(aacSet.getId())
-				.orderNo(order++)
-				.addedAt(LocalDateTime.now())
-				.build());
-		}
+		// 2. AAC Item Set 연결 저장 (존재 여부 일괄 검증 후 배치 insert)
+		validateItemsExist(request.getAacItemIds());
+		aacItemSetRepository.batchInsert(aacSet.getId(), request.getAacItemIds());
 
 		return AacSetCreateRes.of(aacSet.getId());
 	}
@@ -91,6 +86,7 @@ public class AacSetService {
 
 	/**
 	 * 특정 AAC 묶음에 포함된 AAC 항목들을 상세 조회합니다.
+	 * 묶음 구성은 aacSetId 기준으로 캐시되며, 캐시가 없으면 Aac와 조인한 단일 쿼리로 조회합니다.
 	 *
 	 * @param aacSetId 조회할 AAC 묶음 ID
 	 * @param therapistId 로그인한 치료사 ID
@@ -98,24 +94,27 @@ public class AacSetService {
 	 */
 	@Transactional
 	public List<AacSetDetailRes> getAacInset(Long aacSetId, Long therapistId) {
-		// 소유권 체크
-		AacSet set = aacSetRepository.findById(aacSetId)
-			.orElseThrow(() -> new AacException(AacErrorCode.NOT_FOUND));
-
-		if (!set.getTherapistId().equals(therapistId)) {
-			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
+		// DB 조회 전에 버전을 읽어, 조회 중 커밋된 수정이 있으면 결과가 이전 버전 키에만 저장되도록 함
+		String version = aacSetContentsCache.version(aacSetId);
+		AacSetContents contents = aacSetContentsCache.get(aacSetId, version);
+
+		if (contents == null) {
+			AacSet set = aacSetRepository.findById(aacSetId)
+				.orElseThrow(() -> new AacException(AacErrorCode.NOT_FOUND));
+			checkOwner(set.getTherapistId(), therapistId);
+
+			// AAC 항목 조회 (AacItemSet - Aac 조인, orderNo 순)
+			List<AacSetDetailRes> items = aacItemSetRepository.findDetailsByAacSetId(aacSetId);
+			if (items.stream().anyMatch(item -> item.getId() == null)) {
+				throw new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND);
+			}
+			contents = new AacSetContents(set.getTherapistId(), new ArrayList<>(items));
+			aacSetContentsCache.put(aacSetId, version, contents);
+			return contents.getItems();
 		}
 
-		// AAC 항목 조회
-		List<AacItemSet> mappings = aacItemSetRepository.findByAacSetIdOrderByOrderNo(aacSetId);
-
-		return mappings.stream()
-			.map(mapping -> {
-				Aac item = aacRepository.findById(mapping.getAacItemId())
-					.orElseThrow(() -> new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND));
-				return AacSetDetailRes.from(item, mapping.getOrderNo());
-			})
-			.toList();
+		checkOwner(contents.getTherapistId(), therapistId);
+		return contents.getItems();
 	}
 
 	/**
@@ -134,19 +133,20 @@ public class AacSetService {
 			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
 		}
 
+		List<Long> itemIds = request.getAacItemIds() == null ? List.of() : request.getAacItemIds();
+		if (new HashSet<>(itemIds).size() != itemIds.size()) {
+			throw new AacException(AacErrorCode.DUPLICATED_ITEM_IN_SET);
+		}
+		validateItemsExist(itemIds);
+
 		set.update(request.getName(), request.getDescription());
 
+		// 기존 구성 일괄 삭제 후 배치 insert
 		aacItemSetRepository.deleteByAacSetId(aacSetId);
-
-		int order = 1;
-		for (Long itemId : request.getAacItemIds()) {
-			aacItemSetRepository.save(AacItemSet.builder()
-				.aacSetId(aacSetId)
-				.aacItemId(itemId)
-				.orderNo(order++)
-				.addedAt(LocalDateTime.now())
-				.build());
+		if (!itemIds.isEmpty()) {
+			aacItemSetRepository.batchInsert(aacSetId, itemIds);
 		}
+		eventPublisher.publishEvent(new AacSetChangedEvent(aacSetId));
 	}
 
 	/**
@@ -166,5 +166,26 @@ public class AacSetService {
 
 		aacItemSetRepository.deleteByAacSetId(aacSetId);
 		aacSetRepository.delete(set);
+		eventPublisher.publishEvent(new AacSetChangedEvent(aacSetId));
+	}
+
+	private void checkOwner(Long ownerId, Long therapistId) {
+		if (!ownerId.equals(therapistId)) {
+			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
+		}
+	}
+
+	/**
+	 * 요청된 AAC 항목이 모두 존재하는지 한 번의 조회로 검증합니다.
+	 *
+	 * @param itemIds 중복이 없는 AAC ID 목록
+	 */
+	private void validateItemsExist(List<Long> itemIds) {
+		if (itemIds.isEmpty()) {
+			return;
+		}
+		if (aacRepository.findAllById(itemIds).size() != itemIds.size()) {
+			throw new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND);
+		}
 	}
 }
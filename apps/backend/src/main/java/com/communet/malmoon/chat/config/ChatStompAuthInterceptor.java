@@ -0,0 +1,125 @@
+package com.communet.malmoon.chat.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.TokenVersionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 프레임 인증/인가
+ * - CONNECT: Authorization 헤더의 JWT를 검증하고 회원 ID를 세션에 보관
+ * - SUBSCRIBE/SEND: 허용된 목적지 외에는 모두 거절 (기본 거절)
+ *   - SUBSCRIBE: /topic/chat/rooms/{roomId}(해당 채팅방 참여자만), /user/queue/errors
+ *   - SEND: /app/chat/rooms/{roomId}(해당 채팅방 참여자만) - 브로커 목적지로 직접 보내 저장/검증을 우회하지 못하도록 함
+ *   - 심플 브로커는 구독 목적지를 Ant 패턴으로 해석하므로 와일드카드(*, **)가 들어간 목적지는 정확히 일치하지 않아 거절됨
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatStompAuthInterceptor implements ChannelInterceptor {
+
+	public static final String MEMBER_ID_ATTRIBUTE = "memberId";
+
+	static final String ERROR_QUEUE_DESTINATION = "/user/queue/errors";
+
+	private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/chat/rooms/(\\d+)$");
+	private static final Pattern ROOM_SEND = Pattern.compile("^/app/chat/rooms/(\\d+)$");
+
+	private final MemberRepository memberRepository;
+	private final ChatRoomParticipantRepository participantRepository;
+	private final TokenVersionService tokenVersionService;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.getCommand() == null) {
+			return message;
+		}
+
+		if (accessor.getCommand() == StompCommand.CONNECT) {
+			authenticate(accessor);
+		} else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+			authorize(accessor, ROOM_TOPIC, true);
+		} else if (accessor.getCommand() == StompCommand.SEND) {
+			authorize(accessor, ROOM_SEND, false);
+		}
+		return message;
+	}
+
+	private void authenticate(StompHeaderAccessor accessor) {
+		String header = accessor.getFirstNativeHeader(JwtTokenUtil.HEADER_STRING);
+		if (header == null || !header.startsWith(JwtTokenUtil.TOKEN_PREFIX)) {
+			throw new IllegalArgumentException("인증 토큰이 없습니다.");
+		}
+
+		DecodedJWT decodedJWT = JwtTokenUtil.verify(header);
+		Long memberId = decodedJWT.getClaim(JwtTokenUtil.CLAIM_MEMBER_ID).asLong();
+		if (memberId != null) {
+			Long tokenVersion = decodedJWT.getClaim(JwtTokenUtil.CLAIM_TOKEN_VERSION).asLong();
+			if (tokenVersionService.isRevoked(memberId, tokenVersion == null ? 0L : tokenVersion)) {
+				throw new JWTVerificationException("폐기된 토큰입니다.");
+			}
+		} else {
+			// 이전 형식 토큰은 이메일로 회원 ID 조회
+			memberId = memberRepository.getByEmail(decodedJWT.getSubject())
+				.orElseThrow(() -> new ChatException(ChatErrorCode.NOT_FOUND_MEMBER))
+				.getMemberId();
+		}
+
+		String role = decodedJWT.getClaim(JwtTokenUtil.CLAIM_ROLE).asString();
+		accessor.setUser(new UsernamePasswordAuthenticationToken(decodedJWT.getSubject(), null,
+			List.of(new SimpleGrantedAuthority(role))));
+		sessionAttributes(accessor).put(MEMBER_ID_ATTRIBUTE, memberId);
+	}
+
+	/**
+	 * 목적지가 채팅방 목적지이면 참여자인지 확인하고, 개인 오류 큐(구독만)를 제외한 나머지 목적지는 거절합니다.
+	 */
+	private void authorize(StompHeaderAccessor accessor, Pattern roomDestination, boolean allowErrorQueue) {
+		Long memberId = (Long)sessionAttributes(accessor).get(MEMBER_ID_ATTRIBUTE);
+		String destination = accessor.getDestination();
+		if (memberId == null || destination == null) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+		if (allowErrorQueue && ERROR_QUEUE_DESTINATION.equals(destination)) {
+			return;
+		}
+
+		Matcher matcher = roomDestination.matcher(destination);
+		if (!matcher.matches()) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+		Long roomId = Long.valueOf(matcher.group(1));
+		if (!participantRepository.existsByRoomIdAndMemberId(roomId, memberId)) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+	}
+
+	private Map<String, Object> sessionAttributes(StompHeaderAccessor accessor) {
+		Map<String, Object> attributes = accessor.getSessionAttributes();
+		if (attributes == null) {
+			throw new IllegalStateException("STOMP 세션 정보가 없습니다.");
+		}
+		return attributes;
+	}
+}
@@ -0,0 +1,46 @@
+package com.communet.malmoon.chat.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 STOMP(WebSocket) 설정
+ * - 접속: /ws/chat (CONNECT 시 Authorization: Bearer {JWT} 헤더 필요)
+ * - 전송: /app/chat/rooms/{roomId}
+ * - 구독: /topic/chat/rooms/{roomId}, 오류는 /user/queue/errors
+ * - 노드별 메모리 브로커를 사용하고, 노드 간 전달은 Redis Pub/Sub({@link com.communet.malmoon.chat.service.ChatMessageBroadcaster})
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class ChatWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+	private final ChatStompAuthInterceptor chatStompAuthInterceptor;
+
+	@Value("${chat.websocket.allowed-origins:*}")
+	private String[] allowedOrigins;
+
+	@Override
+	public void registerStompEndpoints(StompEndpointRegistry registry) {
+		registry.addEndpoint("/ws/chat").setAllowedOriginPatterns(allowedOrigins);
+	}
+
+	@Override
+	public void configureMessageBroker(MessageBrokerRegistry registry) {
+		registry.enableSimpleBroker("/topic", "/queue");
+		registry.setApplicationDestinationPrefixes("/app");
+		registry.setUserDestinationPrefix("/user");
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.interceptors(chatStompAuthInterceptor);
+	}
+}
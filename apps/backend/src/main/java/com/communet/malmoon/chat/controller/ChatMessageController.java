@@ -2,8 +2,10 @@ package com.communet.malmoon.chat.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,8 +13,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatMessageScrollReq;
 import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.service.ChatMessageBroadcaster;
 import com.communet.malmoon.chat.service.ChatMessageService;
 import com.communet.malmoon.chat.service.ChatRedisService;
 
@@ -24,6 +28,7 @@ import lombok.RequiredArgsConstructor;
  * 채팅 메시지 관련 API를 처리하는 컨트롤러입니다.
  * 실시간 세션 채팅 메시지는 Redis에 저장되고,
  * 일반 채팅 메시지는 즉시 DB에 저장됩니다.
+ * 저장된 메시지는 STOMP 구독자에게도 전달됩니다. (실시간 전송은 {@link ChatStompController} 사용)
  */
 @RestController
 @RequestMapping("/api/v1/chat")
@@ -33,6 +38,7 @@ public class ChatMessageController {
 
 	private final ChatRedisService chatRedisService;
 	private final ChatMessageService chatMessageService;
+	private final ChatMessageBroadcaster chatMessageBroadcaster;
 
 	/**
 	 * 세션 기반 채팅 메시지를 Redis에 임시 저장합니다.
@@ -44,6 +50,7 @@ public class ChatMessageController {
 	@PostMapping("/session/message")
 	public ResponseEntity<String> saveMessageRedis(@RequestBody ChatSessionMessageReq request) {
 		chatRedisService.saveToRedis(request);
+		chatMessageBroadcaster.broadcast(ChatMessageRes.from(request));
 		return ResponseEntity.ok("메시지가 Redis에 저장되었습니다.");
 	}
 
@@ -57,6 +64,7 @@ public class ChatMessageController {
 	@PostMapping("/room/message")
 	public ResponseEntity<ChatMessageRes> saveMessageToDb(@RequestBody ChatMessageReq request) {
 		ChatMessageRes response = chatMessageService.saveToDatabase(request);
+		chatMessageBroadcaster.broadcast(response);
 		return ResponseEntity.ok(response);
 	}
 
@@ -71,4 +79,19 @@ public class ChatMessageController {
 	public ResponseEntity<List<ChatMessageRes>> getMessages(@PathVariable(name = "roomId") Long roomId) {
 		return ResponseEntity.ok(chatMessageService.getMessagesByRoomId(roomId));
 	}
+
+	/**
+	 * 특정 채팅방의 메시지를 최신순으로 커서 기반 조회합니다.
+	 * 첫 요청은 커서 없이, 이후에는 마지막으로 받은 메시지 ID를 beforeMessageId로 전달합니다.
+	 *
+	 * @param roomId 조회할 채팅방 ID
+	 * @param req 커서 및 조회 개수
+	 * @return 최신순 메시지 Slice
+	 */
+	@Operation(summary = "채팅 메시지 커서 조회", description = "beforeMessageId 이전 메시지를 최신순으로 size개 조회합니다.")
+	@GetMapping("/room/{roomId}/messages/scroll")
+	public ResponseEntity<Slice<ChatMessageRes>> getMessageSlice(@PathVariable(name = "roomId") Long roomId,
+		@ModelAttribute ChatMessageScrollReq req) {
+		return ResponseEntity.ok(chatMessageService.getMessageSlice(roomId, req));
+	}
 }
@@ -1,6 +1,7 @@
 package com.communet.malmoon.chat.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.communet.malmoon.chat.dto.request.ChatReadReq;
 import com.communet.malmoon.chat.dto.request.ChatRoomCreateReq;
 import com.communet.malmoon.chat.dto.request.ChatRoomUpdateNameReq;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
@@ -25,6 +27,7 @@ import com.communet.malmoon.member.domain.Member;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -119,4 +122,33 @@ public class ChatRoomController {
 		List<ChatParticipantRes> response = chatRoomService.getParticipants(roomId);
 		return ResponseEntity.ok(response);
 	}
+
+	/**
+	 * 채팅방 읽음 위치를 갱신합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param request 마지막으로 읽은 메시지 ID
+	 * @param member 현재 로그인한 사용자 정보
+	 * @return 200 OK
+	 */
+	@Operation(summary = "채팅방 읽음 처리", description = "마지막으로 읽은 메시지 ID까지 읽음 처리합니다.")
+	@PatchMapping("/{roomId}/read")
+	public ResponseEntity<Void> markAsRead(@PathVariable(name = "roomId") Long roomId,
+		@RequestBody @Valid ChatReadReq request,
+		@Parameter(hidden = true) @CurrentMember Member member) {
+		chatRoomService.markAsRead(roomId, member.getMemberId(), request.getLastReadMessageId());
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * 참여 중인 모든 채팅방의 안 읽은 메시지 수를 한 번에 조회합니다.
+	 *
+	 * @param member 현재 로그인한 사용자 정보
+	 * @return 채팅방 ID → 안 읽은 메시지 수
+	 */
+	@Operation(summary = "안 읽은 메시지 수 조회", description = "참여 중인 모든 채팅방의 안 읽은 메시지 수를 반환합니다.")
+	@GetMapping("/unread-counts")
+	public ResponseEntity<Map<Long, Long>> getUnreadCounts(@Parameter(hidden = true) @CurrentMember Member member) {
+		return ResponseEntity.ok(chatRoomService.getUnreadCounts(member.getMemberId()));
+	}
 }
@@ -0,0 +1,96 @@
+package com.communet.malmoon.chat.controller;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import com.communet.malmoon.chat.config.ChatStompAuthInterceptor;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.service.ChatMessageBroadcaster;
+import com.communet.malmoon.chat.service.ChatMessageService;
+import com.communet.malmoon.chat.service.ChatRedisService;
+import com.communet.malmoon.chat.service.ChatRoomService;
+import com.communet.malmoon.common.exception.ApiErrorRes;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 채팅 메시지 처리 컨트롤러입니다.
+ * 메시지를 저장한 뒤 채팅방 구독자에게 전달합니다.
+ * - sessionId가 있으면 세션 채팅으로 Redis에 임시 저장
+ * - 없으면 일반 채팅으로 DB에 저장
+ * - 발신자는 채팅방 참여자여야 하고, 세션 채팅이면 세션이 해당 채팅방의 세션이어야 함
+ * - 사용자는 TALK/IMAGE/FILE만 보낼 수 있음 (ENTER/LEAVE/NOTICE는 서버에서만 생성, 타입이 없으면 TALK)
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChatStompController {
+
+	static final Set<ChatMessageType> CLIENT_MESSAGE_TYPES =
+		EnumSet.of(ChatMessageType.TALK, ChatMessageType.IMAGE, ChatMessageType.FILE);
+
+	private final ChatMessageService chatMessageService;
+	private final ChatRedisService chatRedisService;
+	private final ChatMessageBroadcaster chatMessageBroadcaster;
+	private final ChatRoomService chatRoomService;
+
+	/**
+	 * 채팅방에 메시지를 전송합니다. 발신자와 채팅방은 접속 정보와 목적지 기준으로 설정됩니다.
+	 *
+	 * @param roomId 목적지의 채팅방 ID
+	 * @param request 메시지 내용 (세션 채팅이면 sessionId 포함)
+	 * @param headerAccessor STOMP 세션 정보
+	 */
+	@MessageMapping("/chat/rooms/{roomId}")
+	public void send(@DestinationVariable Long roomId, @Payload ChatSessionMessageReq request,
+		SimpMessageHeaderAccessor headerAccessor) {
+		Long senderId = (Long)headerAccessor.getSessionAttributes().get(ChatStompAuthInterceptor.MEMBER_ID_ATTRIBUTE);
+		chatRoomService.validateSender(roomId, senderId, request.getSessionId());
+
+		ChatSessionMessageReq message = ChatSessionMessageReq.builder()
+			.sessionId(request.getSessionId())
+			.roomId(roomId)
+			.senderId(senderId)
+			.content(request.getContent())
+			.messageType(clientMessageType(request.getMessageType()))
+			.sendAt(request.getSendAt() != null ? request.getSendAt() : LocalDateTime.now())
+			.build();
+
+		ChatMessageRes response;
+		if (message.getSessionId() != null) {
+			chatRedisService.saveToRedis(message);
+			response = ChatMessageRes.from(message);
+		} else {
+			response = chatMessageService.saveToDatabase(message);
+		}
+		chatMessageBroadcaster.broadcast(response);
+	}
+
+	private ChatMessageType clientMessageType(ChatMessageType requested) {
+		if (requested == null) {
+			return ChatMessageType.TALK;
+		}
+		if (!CLIENT_MESSAGE_TYPES.contains(requested)) {
+			throw new ChatException(ChatErrorCode.INVALID_MESSAGE_TYPE);
+		}
+		return requested;
+	}
+
+	@MessageExceptionHandler(ChatException.class)
+	@SendToUser("/queue/errors")
+	public ApiErrorRes handleChatException(ChatException e) {
+		return new ApiErrorRes(e.getErrorCode().getStatus(), e.getMessage());
+	}
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_message")
+@Table(
+	name = "chat_message",
+	indexes = {
+		// 채팅방별 최신순 커서 조회: roomId = ? AND (sent_at, message_id) < 커서
+		@Index(name = "idx_chat_message_room_sent_id", columnList = "roomId, sent_at, message_id")
+	}
+)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
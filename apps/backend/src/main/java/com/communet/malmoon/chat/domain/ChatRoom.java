@@ -11,13 +11,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_room")
+@Table(
+	name = "chat_room",
+	uniqueConstraints = {
+		// 1:1 채팅방의 참여자 쌍(작은 ID, 큰 ID): 조회는 인덱스 한 번, 동시 생성은 한 건만 성공
+		@UniqueConstraint(name = "uk_chat_room_one_to_one_pair", columnNames = {"min_member_id", "max_member_id"})
+	}
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -45,6 +52,18 @@ public class ChatRoom {
 	@Column(name = "ended_at")
 	private LocalDateTime endedAt;
 
+	/**
+	 * 1:1 채팅방 참여자 중 작은 회원 ID (1:1이 아니거나 종료된 방은 null)
+	 */
+	@Column(name = "min_member_id")
+	private Long minMemberId;
+
+	/**
+	 * 1:1 채팅방 참여자 중 큰 회원 ID (1:1이 아니거나 종료된 방은 null)
+	 */
+	@Column(name = "max_member_id")
+	private Long maxMemberId;
+
 	@PrePersist
 	protected void onCreate() {
 		if (this.createdAt == null) {
@@ -63,4 +82,12 @@ public class ChatRoom {
 	public void setRoomType(RoomType roomType) {
 		this.roomType = roomType;
 	}
+
+	/**
+	 * 종료된 1:1 채팅방의 참여자 쌍 키를 해제해 같은 두 사람이 새 채팅방을 만들 수 있게 합니다.
+	 */
+	public void releasePairKey() {
+		this.minMemberId = null;
+		this.maxMemberId = null;
+	}
 }
@@ -38,6 +38,16 @@ public class ChatRoomParticipant {
 	@Column(name = "left_at")
 	private LocalDateTime leftAt;
 
+	@Builder.Default
+	@Column(name = "unread_count", nullable = false, columnDefinition = "integer default 0")
+	private int unreadCount = 0;
+
+	@Column(name = "last_read_message_id")
+	private Long lastReadMessageId;
+
+	@Column(name = "last_read_at")
+	private LocalDateTime lastReadAt;
+
 	@PrePersist
 	protected void onJoin() {
 		if (this.joinedAt == null) {
@@ -50,4 +60,21 @@ public class ChatRoomParticipant {
 			this.leftAt = LocalDateTime.now();
 		}
 	}
+
+	/**
+	 * 읽음 위치를 앞으로만 이동하고, 그 이후 남은 안 읽은 메시지 수를 기록합니다.
+	 *
+	 * @param messageId 마지막으로 읽은 메시지 ID
+	 * @param remainingUnread 읽음 위치 이후의 안 읽은 메시지 수
+	 * @return 읽음 위치가 이동했는지 여부
+	 */
+	public boolean markRead(Long messageId, int remainingUnread) {
+		if (this.lastReadMessageId != null && messageId <= this.lastReadMessageId) {
+			return false;
+		}
+		this.lastReadMessageId = messageId;
+		this.lastReadAt = LocalDateTime.now();
+		this.unreadCount = remainingUnread;
+		return true;
+	}
 }
@@ -0,0 +1,39 @@
+package com.communet.malmoon.chat.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 목록 조회용 요약 (채팅방당 1행)
+ * - 메시지 저장과 같은 트랜잭션에서 마지막 메시지 정보를 갱신
+ * - 참여자별 안 읽은 메시지 수는 {@link ChatRoomParticipant#getUnreadCount()}에 보관
+ */
+@Entity
+@Table(name = "chat_room_summary")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChatRoomSummary {
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "last_message", columnDefinition = "TEXT")
+	private String lastMessage;
+
+	@Column(name = "last_sender_id")
+	private Long lastSenderId;
+
+	@Column(name = "last_message_time")
+	private LocalDateTime lastMessageTime;
+}
@@ -0,0 +1,25 @@
+package com.communet.malmoon.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 커서 기반 조회 요청 DTO
+ * 첫 요청은 커서 없이 보내 최신 메시지를 받고, 이후에는 마지막으로 받은(가장 오래된) 메시지 ID를 커서로 전달합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageScrollReq {
+
+	@Schema(description = "커서 - 이 메시지보다 이전 메시지를 조회", example = "1024")
+	private Long beforeMessageId;
+
+	@Builder.Default
+	@Schema(description = "조회 개수 (최대 100)", example = "30")
+	private int size = 30;
+}
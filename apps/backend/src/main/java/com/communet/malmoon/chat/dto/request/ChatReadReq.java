@@ -0,0 +1,19 @@
+package com.communet.malmoon.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 읽음 처리 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadReq {
+	@Schema(description = "마지막으로 읽은 메시지 ID", example = "1024")
+	@NotNull(message = "마지막으로 읽은 메시지 ID는 필수입니다.")
+	private Long lastReadMessageId;
+}
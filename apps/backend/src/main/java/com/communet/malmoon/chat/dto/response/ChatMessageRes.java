@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatMessageReq;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,4 +33,17 @@ public class ChatMessageRes {
 			.sentAt(entity.getSentAt())
 			.build();
 	}
+
+	/**
+	 * 아직 DB에 저장되지 않은 메시지(세션 채팅, Redis 적재) 응답 (messageId 없음)
+	 */
+	public static ChatMessageRes from(ChatMessageReq request) {
+		return ChatMessageRes.builder()
+			.roomId(request.getRoomId())
+			.senderId(request.getSenderId())
+			.content(request.getContent())
+			.messageType(request.getMessageType())
+			.sentAt(request.getSendAt())
+			.build();
+	}
 }
@@ -19,4 +19,5 @@ public class ChatRoomSummaryRes {
 	private RoomType roomType;
 	private String lastMessage;
 	private LocalDateTime lastMessageTime;
+	private int unreadCount;
 }
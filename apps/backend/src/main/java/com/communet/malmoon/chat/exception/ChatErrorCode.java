@@ -18,7 +18,11 @@ public enum ChatErrorCode {
 	NOT_ENOUGH_PARTICIPANTS(HttpStatus.BAD_REQUEST, "참여자는 최소 2명 이상이어야 합니다."),
 	NOT_FOUND(HttpStatus.NOT_FOUND, "대화 내용이 없습니다."),
 	UNAUTHORIZED_ACCESS(HttpStatus.NOT_FOUND, "해당 채팅방에 대한 접근 권한이 없습니다."),
-	NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "해당 멤버 정보를 찾지 못했습니다.");
+	NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "해당 멤버 정보를 찾지 못했습니다."),
+	INVALID_READ_POSITION(HttpStatus.BAD_REQUEST, "읽음 위치가 올바르지 않습니다."),
+	FLUSH_IN_PROGRESS(HttpStatus.CONFLICT, "같은 세션의 메시지 저장이 진행 중입니다."),
+	INVALID_MESSAGE_TYPE(HttpStatus.BAD_REQUEST, "사용자가 보낼 수 없는 메시지 타입입니다."),
+	SESSION_ROOM_MISMATCH(HttpStatus.BAD_REQUEST, "세션이 해당 채팅방에 속하지 않습니다.");
 
 	private final HttpStatus status;
 	private final String message;
@@ -1,17 +1,57 @@
 package com.communet.malmoon.chat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
 
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-	List<ChatMessage> findByRoomId(Long roomId);
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
+	List<ChatMessage> findByRoomIdOrderBySentAtAscMessageIdAsc(Long roomId);
+
+	@Query("SELECT m FROM ChatMessage m WHERE m.roomId = :roomId ORDER BY m.sentAt DESC, m.messageId DESC")
+	Slice<ChatMessage> findLatestByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * 커서 메시지보다 이전 메시지를 (sentAt, messageId) 역순으로 조회합니다.
+	 * 커서 메시지가 다른 채팅방에 속하면 결과가 비어 있습니다.
+	 */
+	@Query("""
+		SELECT m FROM ChatMessage m, ChatMessage c
+		WHERE c.messageId = :beforeMessageId AND c.roomId = :roomId AND m.roomId = :roomId
+			AND (m.sentAt < c.sentAt OR (m.sentAt = c.sentAt AND m.messageId < c.messageId))
+		ORDER BY m.sentAt DESC, m.messageId DESC
+		""")
+	Slice<ChatMessage> findBeforeByRoomId(@Param("roomId") Long roomId,
+		@Param("beforeMessageId") Long beforeMessageId, Pageable pageable);
+
+	/**
+	 * 중단된 flush 청크가 이미 저장되었는지 확인합니다. (roomId, sent_at 인덱스로 범위를 좁힌 뒤 비교)
+	 */
+	boolean existsByRoomIdAndSenderIdAndSentAtAndContent(Long roomId, Long senderId, LocalDateTime sentAt,
+		String content);
+
+	boolean existsByRoomIdAndMessageType(Long roomId, ChatMessageType messageType);
+
+	/**
+	 * 읽음 위치 이후에 다른 사람이 보낸 메시지 수를 셉니다.
+	 */
+	@Query("""
+		SELECT COUNT(m) FROM ChatMessage m
+		WHERE m.roomId = :roomId AND m.messageId > :afterMessageId AND m.senderId <> :memberId
+			AND m.messageType NOT IN :excludedTypes
+		""")
+	long countUnreadAfter(@Param("roomId") Long roomId, @Param("memberId") Long memberId,
+		@Param("afterMessageId") Long afterMessageId, @Param("excludedTypes") Collection<ChatMessageType> excludedTypes);
 
 	@Query("SELECT m FROM ChatMessage m WHERE m.roomId = :roomId ORDER BY m.sentAt DESC")
 	ChatMessage findFirstByRoomIdOrderBySentAtDesc(@Param("roomId") Long roomId);
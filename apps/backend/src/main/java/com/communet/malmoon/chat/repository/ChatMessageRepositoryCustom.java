@@ -0,0 +1,19 @@
+package com.communet.malmoon.chat.repository;
+
+import java.util.List;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+
+/**
+ * 채팅 메시지 일괄 저장을 정의합니다.
+ */
+public interface ChatMessageRepositoryCustom {
+
+	/**
+	 * 채팅 메시지를 JDBC 배치로 한 트랜잭션에 저장합니다.
+	 * 청크 단위 flush에서 사용하며, 청크 전체가 저장되거나 전혀 저장되지 않습니다.
+	 *
+	 * @param messages 저장할 메시지 목록 (messageId는 사용하지 않음)
+	 */
+	void batchInsert(List<ChatMessage> messages);
+}
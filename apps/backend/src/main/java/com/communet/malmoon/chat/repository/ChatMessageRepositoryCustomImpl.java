@@ -0,0 +1,40 @@
+package com.communet.malmoon.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO chat_message (room_id, sender_id, message_type, content, sent_at) VALUES (?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	@Transactional
+	public void batchInsert(List<ChatMessage> messages) {
+		// IDENTITY 키는 Hibernate 배치 insert가 비활성화되므로 JDBC 배치로 직접 저장
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> params = new ArrayList<>(messages.size());
+		for (ChatMessage message : messages) {
+			params.add(new Object[] {
+				message.getRoomId(),
+				message.getSenderId(),
+				message.getMessageType().ordinal(), // 엔티티 매핑(@Enumerated 미지정)과 동일하게 ORDINAL 저장
+				message.getContent(),
+				message.getSentAt() == null ? now : Timestamp.valueOf(message.getSentAt())
+			});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, params);
+	}
+}
@@ -1,15 +1,25 @@
 package com.communet.malmoon.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.domain.RoomType;
+import com.communet.malmoon.chat.dto.response.ChatRoomSummaryRes;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
-public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomParticipant, Long> {
+public interface ChatRoomParticipantRepository
+	extends JpaRepository<ChatRoomParticipant, Long>, ChatRoomParticipantRepositoryCustom {
 
 	List<ChatRoomParticipant> findByMemberIdAndLeftAtIsNull(Long memberId);
 
@@ -21,4 +31,40 @@ public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomPar
 
 	Optional<ChatRoomParticipant> findByRoomIdAndMemberId(Long roomId, Long memberId);
 
+	/**
+	 * 읽음 처리용으로 참여자 행을 잠그고 조회합니다.
+	 * 진행 중인 {@link #incrementUnreadExceptSender} 트랜잭션이 끝난 뒤에 잠금을 얻으므로,
+	 * 이후 세는 안 읽은 메시지 수에 그 트랜잭션의 메시지가 포함되고 증가분이 덮어써지지 않습니다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM ChatRoomParticipant p WHERE p.roomId = :roomId AND p.memberId = :memberId")
+	Optional<ChatRoomParticipant> findForUpdate(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
+
+	/**
+	 * 발신자를 제외한 현재 참여자들의 안 읽은 메시지 수를 증가시킵니다.
+	 */
+	@Modifying
+	@Query("""
+		UPDATE ChatRoomParticipant p SET p.unreadCount = p.unreadCount + :count
+		WHERE p.roomId = :roomId AND p.memberId <> :senderId AND p.leftAt IS NULL
+		""")
+	int incrementUnreadExceptSender(@Param("roomId") Long roomId, @Param("senderId") Long senderId,
+		@Param("count") int count);
+
+	/**
+	 * 사용자가 참여 중인 채팅방 목록을 요약 정보와 함께 한 번에 조회합니다. (최근 메시지 순)
+	 */
+	@Query("""
+		SELECT new com.communet.malmoon.chat.dto.response.ChatRoomSummaryRes(
+			r.roomId, r.roomName, r.roomType, COALESCE(s.lastMessage, ''), s.lastMessageTime, p.unreadCount)
+		FROM ChatRoomParticipant p
+		JOIN ChatRoom r ON r.roomId = p.roomId
+		LEFT JOIN ChatRoomSummary s ON s.roomId = r.roomId
+		WHERE p.memberId = :memberId AND p.leftAt IS NULL
+			AND r.roomType IN :roomTypes AND r.endedAt IS NULL
+		ORDER BY s.lastMessageTime DESC NULLS LAST, r.roomId DESC
+		""")
+	List<ChatRoomSummaryRes> findRoomSummaries(@Param("memberId") Long memberId,
+		@Param("roomTypes") Collection<RoomType> roomTypes);
+
 }
@@ -0,0 +1,18 @@
+package com.communet.malmoon.chat.repository;
+
+import java.util.Collection;
+
+/**
+ * 채팅방 참여자 일괄 등록을 정의합니다.
+ */
+public interface ChatRoomParticipantRepositoryCustom {
+
+	/**
+	 * 채팅방 참여자를 JDBC 배치로 한 번에 등록합니다.
+	 * 참여 인원과 관계없이 insert 왕복 횟수가 일정합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param memberIds 등록할 회원 ID 목록 (중복은 한 번만 등록)
+	 */
+	void batchInsert(Long roomId, Collection<Long> memberIds);
+}
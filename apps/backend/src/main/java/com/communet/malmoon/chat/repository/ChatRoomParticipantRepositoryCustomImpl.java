@@ -0,0 +1,35 @@
+package com.communet.malmoon.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ChatRoomParticipantRepositoryCustomImpl implements ChatRoomParticipantRepositoryCustom {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO chat_room_participant (room_id, member_id, joined_at, unread_count) VALUES (?, ?, ?, 0)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	@Transactional
+	public void batchInsert(Long roomId, Collection<Long> memberIds) {
+		// IDENTITY 키는 Hibernate 배치 insert가 비활성화되므로 JDBC 배치로 직접 저장
+		Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+		// 같은 회원이 중복 전달되어도 참여자 행은 하나만 생성
+		List<Object[]> params = new ArrayList<>(memberIds.size());
+		for (Long memberId : new LinkedHashSet<>(memberIds)) {
+			params.add(new Object[] {roomId, memberId, joinedAt});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, params);
+	}
+}
@@ -1,27 +1,70 @@
 package com.communet.malmoon.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.communet.malmoon.chat.domain.ChatRoom;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-	@Query("""
-		SELECT cr FROM ChatRoom cr
-		JOIN ChatRoomParticipant p1 ON cr.roomId = p1.roomId
-		JOIN ChatRoomParticipant p2 ON cr.roomId = p2.roomId
-		WHERE cr.roomType = 'ONE_TO_ONE'
-		AND p1.memberId = :member1 AND p2.memberId = :member2
-		GROUP BY cr.roomId
-		HAVING COUNT(DISTINCT p1.memberId) = 1 AND COUNT(DISTINCT p2.memberId) = 1
-		""")
-	Optional<ChatRoom> findOneToOneRoomByParticipants(@Param("member1") Long aLong, @Param("member2") Long aLong1);
+	/**
+	 * 참여자 쌍 키로 1:1 채팅방을 조회합니다. (uk_chat_room_one_to_one_pair 인덱스 사용)
+	 */
+	Optional<ChatRoom> findByMinMemberIdAndMaxMemberId(Long minMemberId, Long maxMemberId);
+
+	/**
+	 * 1:1 채팅방을 생성합니다. 같은 참여자 쌍의 방이 이미 있으면 아무것도 하지 않습니다.
+	 * 동시에 생성 요청이 들어와도 한 건만 저장됩니다.
+	 * (chat_room의 유니크 제약은 PK와 참여자 쌍 키뿐이므로 충돌 대상을 지정하지 않음)
+	 *
+	 * @return 생성된 행 수 (0이면 이미 존재)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO chat_room (room_name, room_type, created_at, min_member_id, max_member_id)
+		VALUES (:roomName, 'ONE_TO_ONE', :createdAt, :minMemberId, :maxMemberId)
+		ON CONFLICT DO NOTHING
+		""", nativeQuery = true)
+	int insertOneToOneIfAbsent(@Param("roomName") String roomName, @Param("minMemberId") Long minMemberId,
+		@Param("maxMemberId") Long maxMemberId, @Param("createdAt") LocalDateTime createdAt);
+
+	/**
+	 * 참여자 쌍 키가 없는 기존 1:1 채팅방에 키를 채웁니다.
+	 * 같은 쌍의 방이 여러 개면 가장 먼저 만들어진 방에만 채웁니다. (재실행해도 안전)
+	 * 호출 측 트랜잭션 없이 단독으로 실행되며, 다른 노드와 충돌하면 이 실행만 롤백됩니다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE chat_room r
+		SET min_member_id = pair.min_id, max_member_id = pair.max_id
+		FROM (
+			SELECT DISTINCT ON (c.min_id, c.max_id) c.room_id, c.min_id, c.max_id
+			FROM (
+				SELECT p.room_id, MIN(p.member_id) AS min_id, MAX(p.member_id) AS max_id
+				FROM chat_room_participant p
+				JOIN chat_room cr ON cr.room_id = p.room_id
+				WHERE cr.room_type = 'ONE_TO_ONE' AND cr.min_member_id IS NULL
+				GROUP BY p.room_id
+				HAVING COUNT(DISTINCT p.member_id) = 2
+			) c
+			ORDER BY c.min_id, c.max_id, c.room_id
+		) pair
+		WHERE r.room_id = pair.room_id
+			AND NOT EXISTS (
+				SELECT 1 FROM chat_room k WHERE k.min_member_id = pair.min_id AND k.max_member_id = pair.max_id)
+		""", nativeQuery = true)
+	int backfillOneToOnePairKeys();
 
 	Optional<ChatRoom> findBySessionId(String sessionId);
+
+	boolean existsByRoomIdAndSessionId(Long roomId, String sessionId);
 }
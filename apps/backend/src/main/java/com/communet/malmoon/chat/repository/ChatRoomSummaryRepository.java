@@ -0,0 +1,48 @@
+package com.communet.malmoon.chat.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.communet.malmoon.chat.domain.ChatRoomSummary;
+
+@Repository
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+	/**
+	 * 채팅방 요약의 마지막 메시지를 갱신합니다. (없으면 생성)
+	 * 늦게 도착한 과거 메시지(세션 flush 등)가 더 최신 요약을 덮어쓰지 않도록 시간을 비교합니다.
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO chat_room_summary (room_id, last_message, last_sender_id, last_message_time)
+		VALUES (:roomId, :content, :senderId, :sentAt)
+		ON CONFLICT (room_id) DO UPDATE
+		SET last_message = EXCLUDED.last_message,
+			last_sender_id = EXCLUDED.last_sender_id,
+			last_message_time = EXCLUDED.last_message_time
+		WHERE chat_room_summary.last_message_time IS NULL
+			OR chat_room_summary.last_message_time <= EXCLUDED.last_message_time
+		""", nativeQuery = true)
+	void upsertLastMessage(@Param("roomId") Long roomId, @Param("senderId") Long senderId,
+		@Param("content") String content, @Param("sentAt") LocalDateTime sentAt);
+
+	/**
+	 * 요약이 없는 기존 채팅방의 요약을 가장 최근 메시지로 채웁니다. (이미 있는 채팅방은 건너뜀)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO chat_room_summary (room_id, last_message, last_sender_id, last_message_time)
+		SELECT r.room_id, m.content, m.sender_id, m.sent_at
+		FROM chat_room r
+		JOIN chat_message m ON m.room_id = r.room_id
+		WHERE NOT EXISTS (SELECT 1 FROM chat_room_summary s WHERE s.room_id = r.room_id)
+			AND m.message_id = (SELECT MAX(m2.message_id) FROM chat_message m2 WHERE m2.room_id = r.room_id)
+		ON CONFLICT (room_id) DO NOTHING
+		""", nativeQuery = true)
+	int backfillMissing();
+}
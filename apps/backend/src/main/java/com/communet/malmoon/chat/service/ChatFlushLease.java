@@ -0,0 +1,73 @@
+package com.communet.malmoon.chat.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 채팅 flush의 세션별 임대(lease)
+ * - chat:flush:lock:{sessionId}에 SET NX PX로 소유자 토큰을 기록하여 같은 세션의 flush가 동시에 실행되지 않도록 함
+ * - 청크마다 갱신하고, 소유자가 중단되면 TTL이 지나 다른 노드가 이어서 flush (그때만 flushing 청크를 재개)
+ * - 갱신/해제는 소유자 토큰이 일치할 때만 수행 (만료 후 다른 노드가 얻은 임대를 건드리지 않음)
+ */
+@Component
+public class ChatFlushLease {
+
+	private static final String KEY_PREFIX = "chat:flush:lock:";
+
+	static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		end
+		return 0
+		""", Long.class);
+
+	static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration leaseTime;
+
+	public ChatFlushLease(
+		RedisTemplate<String, String> redisTemplate,
+		@Value("${chat.flush.lease-millis:120000}") long leaseMillis) {
+		this.redisTemplate = redisTemplate;
+		this.leaseTime = Duration.ofMillis(leaseMillis);
+	}
+
+	/**
+	 * 임대를 얻습니다.
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 소유자 토큰 (다른 flush가 임대 중이면 null)
+	 */
+	public String tryAcquire(String sessionId) {
+		String owner = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + sessionId, owner, leaseTime);
+		return Boolean.TRUE.equals(acquired) ? owner : null;
+	}
+
+	/**
+	 * 임대 시간을 연장합니다.
+	 *
+	 * @return 아직 소유 중이면 true (만료되어 다른 노드가 가져갔으면 false)
+	 */
+	public boolean renew(String sessionId, String owner) {
+		Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + sessionId),
+			owner, String.valueOf(leaseTime.toMillis()));
+		return renewed != null && renewed == 1L;
+	}
+
+	public void release(String sessionId, String owner) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + sessionId), owner);
+	}
+}
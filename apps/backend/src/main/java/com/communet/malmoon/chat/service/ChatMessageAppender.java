@@ -0,0 +1,250 @@
+package com.communet.malmoon.chat.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 채팅 메시지를 Redis 리스트에 한 번의 왕복으로 적재합니다.
+ * - ENTER 중복 확인(SADD)과 리스트 추가(RPUSH)를 Lua 스크립트로 원자적으로 처리
+ * - 배치 모드에서는 같은 세션에 짧은 시간 안에 들어온 메시지를 모아 RPUSH 한 번으로 저장
+ * - 배치 모드에서도 호출자는 자신의 메시지가 저장될 때까지 기다리므로 실패가 그대로 전달됨
+ * - 배치는 만들어질 때부터 RPUSH가 끝날 때까지 추적하여, flush 직전에 대기 중인 배치와 저장 중인 배치를 모두 기다림
+ * - 적재할 때마다 리스트와 ENTER 세트의 TTL을 갱신하여, 종료 처리되지 않은 세션의 키도 결국 만료됨
+ */
+@Slf4j
+@Component
+public class ChatMessageAppender {
+
+	/**
+	 * KEYS[1]=메시지 리스트, KEYS[2]=ENTER 세트
+	 * ARGV[1]=TTL(ms), 이후 (ENTER 발신자 ID 또는 빈 문자열, 메시지 JSON) 쌍의 나열
+	 * 이미 입장 기록이 있는 ENTER는 건너뛰고 나머지를 순서대로 RPUSH, 두 키의 TTL을 갱신한 뒤 추가된 개수를 반환
+	 */
+	static final RedisScript<Long> APPEND_SCRIPT = RedisScript.of("""
+		local values = {}
+		for i = 2, #ARGV, 2 do
+			if ARGV[i] == '' or redis.call('SADD', KEYS[2], ARGV[i]) == 1 then
+				values[#values + 1] = ARGV[i + 1]
+			end
+		end
+		if #values > 0 then
+			redis.call('RPUSH', KEYS[1], unpack(values))
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		redis.call('PEXPIRE', KEYS[2], ARGV[1])
+		return #values
+		""", Long.class);
+
+	private static final String NOT_ENTER = "";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final boolean batchEnabled;
+	private final long windowMillis;
+	private final int maxBatchSize;
+	private final long timeoutMillis;
+	private final String ttlMillis;
+
+	private final Map<String, Batch> pending = new ConcurrentHashMap<>();
+	/** 리스트별로 아직 RPUSH가 끝나지 않은 배치 (대기 중 + 저장 중) */
+	private final Map<String, Set<Batch>> unfinished = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService scheduler;
+
+	public ChatMessageAppender(
+		RedisTemplate<String, String> redisTemplate,
+		@Value("${chat.redis.batch.enabled:false}") boolean batchEnabled,
+		@Value("${chat.redis.batch.window-millis:5}") long windowMillis,
+		@Value("${chat.redis.batch.max-size:64}") int maxBatchSize,
+		@Value("${chat.redis.batch.timeout-millis:2000}") long timeoutMillis,
+		@Value("${chat.redis.ttl-hours:24}") long ttlHours) {
+		this.redisTemplate = redisTemplate;
+		this.batchEnabled = batchEnabled;
+		this.windowMillis = windowMillis;
+		this.maxBatchSize = maxBatchSize;
+		this.timeoutMillis = timeoutMillis;
+		this.ttlMillis = String.valueOf(Duration.ofHours(ttlHours).toMillis());
+		this.scheduler = batchEnabled
+			? Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "chat-redis-batch");
+				thread.setDaemon(true);
+				return thread;
+			})
+			: null;
+	}
+
+	/**
+	 * 메시지를 리스트 끝에 추가합니다.
+	 *
+	 * @param listKey 메시지 리스트 키
+	 * @param enteredKey ENTER 중복 확인용 세트 키
+	 * @param enterSenderId ENTER 메시지의 발신자 ID (ENTER가 아니면 null)
+	 * @param json 직렬화된 메시지
+	 */
+	public void append(String listKey, String enteredKey, String enterSenderId, String json) {
+		String enterer = enterSenderId == null ? NOT_ENTER : enterSenderId;
+		if (!batchEnabled) {
+			execute(listKey, enteredKey, List.of(enterer, json));
+			return;
+		}
+		await(enqueue(listKey, enteredKey, enterer, json));
+	}
+
+	/**
+	 * 해당 리스트에 대기 중인 배치를 즉시 저장하고, 다른 스레드가 저장 중인 배치가 끝날 때까지 기다립니다. (flush 직전 호출)
+	 * 저장에 실패한 배치는 호출자에게 이미 실패로 전달되었으므로 기다리기만 합니다.
+	 *
+	 * @param listKey 메시지 리스트 키
+	 * @throws ChatException 저장 중인 배치가 제한 시간 안에 끝나지 않은 경우 (FLUSH_IN_PROGRESS, 호출 측에서 재시도)
+	 */
+	public void flushPending(String listKey) {
+		Batch batch = pending.remove(listKey);
+		if (batch != null) {
+			write(batch);
+		}
+
+		Set<Batch> inFlight = unfinished.get(listKey);
+		if (inFlight == null) {
+			return;
+		}
+		for (Batch unfinishedBatch : List.copyOf(inFlight)) {
+			awaitWritten(listKey, unfinishedBatch.future);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (scheduler == null) {
+			return;
+		}
+		scheduler.shutdown();
+		pending.keySet().forEach(listKey -> {
+			Batch batch = pending.remove(listKey);
+			if (batch != null) {
+				write(batch);
+			}
+		});
+	}
+
+	private CompletableFuture<Void> enqueue(String listKey, String enteredKey, String enterer, String json) {
+		Batch[] full = {null};
+		Batch[] target = {null};
+		pending.compute(listKey, (key, batch) -> {
+			if (batch == null) {
+				batch = new Batch(listKey, enteredKey);
+				Batch created = batch;
+				unfinished.compute(key, (k, batches) -> {
+					Set<Batch> tracked = batches != null ? batches : ConcurrentHashMap.newKeySet();
+					tracked.add(created);
+					return tracked;
+				});
+				scheduler.schedule(() -> {
+					if (pending.remove(key, created)) {
+						write(created);
+					}
+				}, windowMillis, TimeUnit.MILLISECONDS);
+			}
+			batch.args.add(enterer);
+			batch.args.add(json);
+			target[0] = batch;
+			if (batch.size() >= maxBatchSize) {
+				full[0] = batch;
+				return null;
+			}
+			return batch;
+		});
+
+		// 배치가 가득 차면 창을 기다리지 않고 호출 스레드에서 바로 저장
+		if (full[0] != null) {
+			write(full[0]);
+		}
+		return target[0].future;
+	}
+
+	private void write(Batch batch) {
+		try {
+			execute(batch.listKey, batch.enteredKey, batch.args);
+			batch.future.complete(null);
+		} catch (RuntimeException e) {
+			batch.future.completeExceptionally(e);
+		} finally {
+			unfinished.computeIfPresent(batch.listKey, (key, batches) -> {
+				batches.remove(batch);
+				return batches.isEmpty() ? null : batches;
+			});
+		}
+	}
+
+	private void execute(String listKey, String enteredKey, List<String> args) {
+		Object[] argv = new Object[args.size() + 1];
+		argv[0] = ttlMillis;
+		for (int i = 0; i < args.size(); i++) {
+			argv[i + 1] = args.get(i);
+		}
+		Long appended = redisTemplate.execute(APPEND_SCRIPT, List.of(listKey, enteredKey), argv);
+		if (log.isDebugEnabled() && appended != null && appended * 2 < args.size()) {
+			log.debug("ENTER 중복 스킵: key={}, skipped={}", listKey, args.size() / 2 - appended);
+		}
+	}
+
+	private void await(CompletableFuture<Void> future) {
+		try {
+			future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ChatException(ChatErrorCode.REDIS_SAVE_FAILED);
+		} catch (ExecutionException | TimeoutException e) {
+			log.error("Redis 배치 저장 실패: {}", e.getMessage());
+			throw new ChatException(ChatErrorCode.REDIS_SAVE_FAILED);
+		}
+	}
+
+	private void awaitWritten(String listKey, CompletableFuture<Void> future) {
+		try {
+			future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			// 실패한 배치의 메시지는 리스트에 없으므로 flush는 그대로 진행
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ChatException(ChatErrorCode.FLUSH_IN_PROGRESS);
+		} catch (TimeoutException e) {
+			log.warn("[flush] 저장 중인 배치가 끝나지 않아 flush를 미룹니다: key={}", listKey);
+			throw new ChatException(ChatErrorCode.FLUSH_IN_PROGRESS);
+		}
+	}
+
+	private static class Batch {
+		private final String listKey;
+		private final String enteredKey;
+		private final List<String> args = new ArrayList<>();
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private Batch(String listKey, String enteredKey) {
+			this.listKey = listKey;
+			this.enteredKey = enteredKey;
+		}
+
+		private int size() {
+			return args.size() / 2;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.communet.malmoon.chat.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 채팅 메시지를 모든 노드의 STOMP 구독자에게 전달합니다.
+ * - 채팅용 Redis(redisTemplate1)의 chat:room:{roomId} 채널로 발행
+ * - 각 노드는 채널을 구독하다가 수신 시 /topic/chat/rooms/{roomId}로 전달 (발행한 노드 포함)
+ * - Pub/Sub은 DB 번호와 무관하므로 공용 리스너 컨테이너로 구독
+ */
+@Slf4j
+@Component
+public class ChatMessageBroadcaster implements MessageListener {
+
+	private static final String CHANNEL_PREFIX = "chat:room:";
+	private static final String TOPIC_PREFIX = "/topic/chat/rooms/";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+
+	public ChatMessageBroadcaster(
+		@Qualifier("redisTemplate1") RedisTemplate<String, Object> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		SimpMessagingTemplate messagingTemplate,
+		ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.messagingTemplate = messagingTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+	}
+
+	/**
+	 * 메시지를 채팅방 구독자에게 전달하도록 발행합니다.
+	 * 발행에 실패해도 메시지는 이미 저장되어 있으므로 예외를 던지지 않습니다.
+	 *
+	 * @param message 저장된 메시지
+	 */
+	public void broadcast(ChatMessageRes message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL_PREFIX + message.getRoomId(), objectMapper.writeValueAsString(message));
+		} catch (Exception e) {
+			log.warn("채팅 메시지 발행 실패 - roomId: {}", message.getRoomId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+			ChatMessageRes payload = objectMapper.readValue(String.valueOf(body), ChatMessageRes.class);
+			messagingTemplate.convertAndSend(TOPIC_PREFIX + payload.getRoomId(), payload);
+		} catch (JsonProcessingException e) {
+			log.warn("채팅 메시지 수신 변환 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -2,9 +2,12 @@ package com.communet.malmoon.chat.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatMessageScrollReq;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
 
 /**
@@ -22,6 +25,13 @@ public interface ChatMessageService {
 	 */
 	ChatMessageRes saveToDatabase(ChatMessageReq request);
 
+	/**
+	 * 여러 메시지를 JDBC 배치로 저장하고 채팅방 요약을 같은 트랜잭션에서 갱신합니다. (세션 flush용)
+	 *
+	 * @param messages 저장할 메시지 목록
+	 */
+	void saveAllToDatabase(List<ChatMessage> messages);
+
 	/**
 	 * 채팅방 ID 기준으로 메시지를 시간순으로 조회합니다.
 	 *
@@ -30,6 +40,16 @@ public interface ChatMessageService {
 	 */
 	List<ChatMessageRes> getMessagesByRoomId(Long roomId);
 
+	/**
+	 * 채팅방 메시지를 최신순으로 커서 기반 조회합니다.
+	 * 커서가 없으면 가장 최근 메시지부터, 있으면 해당 메시지 이전부터 size개를 반환합니다.
+	 *
+	 * @param roomId 조회할 채팅방 ID
+	 * @param req 커서(beforeMessageId)와 조회 개수
+	 * @return 최신순 메시지 Slice (hasNext로 이전 메시지 존재 여부 확인)
+	 */
+	Slice<ChatMessageRes> getMessageSlice(Long roomId, ChatMessageScrollReq req);
+
 	/**
 	 * 특정 채팅방의 마지막 메시지를 조회합니다.
 	 *
@@ -2,11 +2,15 @@ package com.communet.malmoon.chat.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatMessageScrollReq;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
 import com.communet.malmoon.chat.exception.ChatErrorCode;
 import com.communet.malmoon.chat.exception.ChatException;
@@ -18,7 +22,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ChatMessageServiceImpl implements ChatMessageService {
 
+	private static final int MAX_SCROLL_SIZE = 100;
+
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomSummaryService chatRoomSummaryService;
 
 	@Override
 	@Transactional
@@ -36,21 +43,42 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 			.build();
 
 		ChatMessage saved = chatMessageRepository.save(message);
+		chatRoomSummaryService.apply(saved);
 		return ChatMessageRes.from(saved);
 	}
 
+	@Override
+	@Transactional
+	public void saveAllToDatabase(List<ChatMessage> messages) {
+		chatMessageRepository.batchInsert(messages);
+		chatRoomSummaryService.apply(messages);
+	}
+
 	@Override
 	public List<ChatMessageRes> getMessagesByRoomId(Long roomId) {
 		if (roomId == null) {
 			throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
 		}
 
-		List<ChatMessage> messages = chatMessageRepository.findByRoomId(roomId);
+		List<ChatMessage> messages = chatMessageRepository.findByRoomIdOrderBySentAtAscMessageIdAsc(roomId);
 		return messages.stream()
 			.map(ChatMessageRes::from)
 			.toList();
 	}
 
+	@Override
+	public Slice<ChatMessageRes> getMessageSlice(Long roomId, ChatMessageScrollReq req) {
+		if (roomId == null) {
+			throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
+		}
+
+		Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(req.getSize(), MAX_SCROLL_SIZE)));
+		Slice<ChatMessage> slice = req.getBeforeMessageId() == null
+			? chatMessageRepository.findLatestByRoomId(roomId, pageable)
+			: chatMessageRepository.findBeforeByRoomId(roomId, req.getBeforeMessageId(), pageable);
+		return slice.map(ChatMessageRes::from);
+	}
+
 	@Override
 	public ChatMessageRes getLastMessageByRoomId(Long roomId) {
 		ChatMessage lastMessage = chatMessageRepository.findFirstByRoomIdOrderBySentAtDesc(roomId);
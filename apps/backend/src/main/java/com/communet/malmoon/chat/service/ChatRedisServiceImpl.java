@@ -1,9 +1,12 @@
 package com.communet.malmoon.chat.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
@@ -20,8 +23,13 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 세션 채팅 메시지 Redis 적재 및 flush 책임.
- * - ENTER는 세션당 사용자별 1회만 저장(SET으로 중복 방지)
- * - flush 시 리스트와 ENTER 세트 모두 정리
+ * - ENTER는 세션당 사용자별 1회만 저장(SET으로 중복 방지, Lua 스크립트로 적재와 함께 원자 처리)
+ * - flush는 고정 크기 청크 단위로 리스트에서 잘라 JDBC 배치로 저장 (메모리 사용량 제한)
+ * - 저장 중인 청크는 flushing 리스트에 보관하여 노드가 중단되어도 다음 flush에서 이어서 처리
+ * - 같은 세션의 flush는 세션별 임대({@link ChatFlushLease})로 한 번에 하나만 실행
+ *   (임대를 얻었는데 flushing 청크가 남아 있으면 이전 소유자의 임대가 만료된 것이므로 재개)
+ * - 보낸 시간(sendAt)은 적재 시점에 확정하여 JSON에 기록 (재개된 flush의 중복 확인이 같은 값을 사용하도록)
+ * - flush 완료 시 ENTER 세트 정리
  * - 메시지가 하나도 없어도 예외를 던지지 않고 정상 종료
  */
 @Service
@@ -29,9 +37,33 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ChatRedisServiceImpl implements ChatRedisService {
 
+	/**
+	 * KEYS[1]=메시지 리스트, KEYS[2]=flushing 리스트, ARGV[1]=청크 크기
+	 * flushing 리스트가 비어 있을 때만 앞에서부터 청크를 잘라 옮기고, 옮긴 메시지를 반환
+	 * (다른 노드가 같은 세션을 flush 중이면 빈 목록 반환)
+	 */
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> CLAIM_CHUNK_SCRIPT = RedisScript.of("""
+		if redis.call('EXISTS', KEYS[2]) == 1 then
+			return {}
+		end
+		local chunk = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+		if #chunk > 0 then
+			redis.call('RPUSH', KEYS[2], unpack(chunk))
+			redis.call('LTRIM', KEYS[1], #chunk, -1)
+		end
+		return chunk
+		""", List.class);
+
 	private final RedisTemplate<String, String> redisTemplate;
 	private final ChatMessageRepository chatMessageRepository;
 	private final ObjectMapper objectMapper;
+	private final ChatMessageAppender chatMessageAppender;
+	private final ChatMessageService chatMessageService;
+	private final ChatFlushLease chatFlushLease;
+
+	@Value("${chat.flush.chunk-size:500}")
+	private int flushChunkSize;
 
 	private String getRedisKey(String sessionId) {
 		return "chat:session:" + sessionId + ":messages";
@@ -41,47 +73,135 @@ public class ChatRedisServiceImpl implements ChatRedisService {
 		return "chat:session:" + sessionId + ":entered";
 	}
 
+	private String getFlushingKey(String sessionId) {
+		return "chat:session:" + sessionId + ":flushing";
+	}
+
 	@Override
 	public void saveToRedis(ChatSessionMessageReq request) {
 		try {
 			final String sessionId = String.valueOf(request.getSessionId());
-			final String redisKey = getRedisKey(sessionId);
-
-			if (request.getMessageType() == ChatMessageType.ENTER) {
-				String enterKey = getEnteredSetKey(sessionId);
-				Long added = redisTemplate.opsForSet().add(enterKey, String.valueOf(request.getSenderId()));
-				if (added == null || added == 0) {
-					// 이미 입장 기록이 있음 → 저장 스킵
-					log.debug("ENTER 중복 스킵: sessionId={}, senderId={}", sessionId, request.getSenderId());
-					return;
-				}
-			}
-			String json = objectMapper.writeValueAsString(request);
-			redisTemplate.opsForList().rightPush(redisKey, json);
+			final String enterSenderId = request.getMessageType() == ChatMessageType.ENTER
+				? String.valueOf(request.getSenderId())
+				: null;
+
+			// ENTER 중복 확인과 리스트 추가를 한 번의 왕복으로 처리
+			String json = objectMapper.writeValueAsString(withSendAt(request));
+			chatMessageAppender.append(getRedisKey(sessionId), getEnteredSetKey(sessionId), enterSenderId, json);
 		} catch (JsonProcessingException e) {
 			log.error("Redis 저장 실패: {}", e.getMessage());
 			throw new ChatException(ChatErrorCode.REDIS_SAVE_FAILED);
 		}
 	}
 
+	/**
+	 * 보낸 시간이 없는 요청은 적재 시점의 시간으로 채운 사본을 반환합니다.
+	 */
+	private static ChatSessionMessageReq withSendAt(ChatSessionMessageReq request) {
+		if (request.getSendAt() != null) {
+			return request;
+		}
+		return ChatSessionMessageReq.builder()
+			.sessionId(request.getSessionId())
+			.roomId(request.getRoomId())
+			.senderId(request.getSenderId())
+			.content(request.getContent())
+			.messageType(request.getMessageType())
+			.sendAt(LocalDateTime.now())
+			.build();
+	}
+
 	@Override
 	public void flushSessionMessagesToDb(String sessionId) {
 		String listKey = getRedisKey(sessionId);
 		String enterKey = getEnteredSetKey(sessionId);
+		String flushingKey = getFlushingKey(sessionId);
 
-		List<String> messages = redisTemplate.opsForList().range(listKey, 0, -1);
+		String owner = chatFlushLease.tryAcquire(sessionId);
+		if (owner == null) {
+			// 다른 flush가 진행 중 (호출 측에서 재시도)
+			log.info("[flush] 세션 {}: 다른 flush가 진행 중입니다.", sessionId);
+			throw new ChatException(ChatErrorCode.FLUSH_IN_PROGRESS);
+		}
 
-		if (messages == null || messages.isEmpty()) {
-			log.info("[flush] 세션 {}: 저장할 메시지가 없어 키만 정리합니다.", sessionId);
-			redisTemplate.delete(listKey);
+		try {
+			chatMessageAppender.flushPending(listKey);
+
+			// 임대를 얻었는데 남은 청크가 있으면 이전 소유자가 중단된 것이므로 먼저 마무리
+			List<String> leftover = redisTemplate.opsForList().range(flushingKey, 0, -1);
+			int saved = 0;
+			if (leftover != null && !leftover.isEmpty()) {
+				saved += resumeChunk(sessionId, owner, flushingKey, leftover);
+			}
+
+			while (true) {
+				// 청크를 메시지 리스트에서 잘라 flushing 리스트로 옮김 (LRANGE + LTRIM + RPUSH, 원자적)
+				List<String> chunk = redisTemplate.execute(CLAIM_CHUNK_SCRIPT, List.of(listKey, flushingKey),
+					String.valueOf(flushChunkSize));
+				if (chunk == null || chunk.isEmpty()) {
+					break;
+				}
+				saved += saveChunk(sessionId, owner, flushingKey, chunk);
+			}
+
+			if (saved == 0) {
+				log.info("[flush] 세션 {}: 저장할 메시지가 없어 키만 정리합니다.", sessionId);
+			} else {
+				log.info("[flush] Redis → DB 저장 완료 ({}개) [sessionId={}]", saved, sessionId);
+			}
 			redisTemplate.delete(enterKey);
-			return;
+		} finally {
+			chatFlushLease.release(sessionId, owner);
 		}
+	}
 
-		List<ChatMessage> chatMessages = new ArrayList<>();
-		for (String json : messages) {
+	private int saveChunk(String sessionId, String owner, String flushingKey, List<String> chunk) {
+		// 청크 저장 전에 임대 연장 (만료되어 다른 노드가 가져갔으면 중복 저장하지 않고 중단)
+		if (!chatFlushLease.renew(sessionId, owner)) {
+			log.warn("[flush] 세션 {}: 임대가 만료되어 flush를 중단합니다.", sessionId);
+			throw new ChatException(ChatErrorCode.FLUSH_IN_PROGRESS);
+		}
+		List<ChatMessage> chatMessages = toChatMessages(chunk);
+		try {
+			if (!chatMessages.isEmpty()) {
+				chatMessageService.saveAllToDatabase(chatMessages);
+			}
+		} catch (Exception e) {
+			// 청크는 flushing 리스트에 남아 있으므로 다음 flush에서 재시도됨
+			log.error("DB 저장 실패 [sessionId={}]: {}", sessionId, e.getMessage());
+			throw new ChatException(ChatErrorCode.DB_SAVE_FAILED);
+		}
+		redisTemplate.delete(flushingKey);
+		return chatMessages.size();
+	}
+
+	private int resumeChunk(String sessionId, String owner, String flushingKey, List<String> chunk) {
+		List<ChatMessage> chatMessages = toChatMessages(chunk);
+		// 청크는 한 트랜잭션으로 저장되므로 마지막 메시지가 DB에 있으면 청크 전체가 이미 저장된 것
+		if (!chatMessages.isEmpty() && isSaved(chatMessages.get(chatMessages.size() - 1))) {
+			log.info("[flush] 세션 {}: 중단된 청크가 이미 저장되어 있어 정리만 합니다.", sessionId);
+			redisTemplate.delete(flushingKey);
+			return 0;
+		}
+		log.info("[flush] 세션 {}: 중단된 청크({}개)를 이어서 저장합니다.", sessionId, chunk.size());
+		return saveChunk(sessionId, owner, flushingKey, chunk);
+	}
+
+	private boolean isSaved(ChatMessage message) {
+		return message.getSentAt() != null && chatMessageRepository.existsByRoomIdAndSenderIdAndSentAtAndContent(
+			message.getRoomId(), message.getSenderId(), message.getSentAt(), message.getContent());
+	}
+
+	private List<ChatMessage> toChatMessages(List<String> jsons) {
+		List<ChatMessage> chatMessages = new ArrayList<>(jsons.size());
+		for (String json : jsons) {
 			try {
 				ChatSessionMessageReq request = objectMapper.readValue(json, ChatSessionMessageReq.class);
+				if (request.getSendAt() == null) {
+					// 적재 시점에 항상 채우므로 없으면 잘못된 데이터 (임의 시간으로 채우면 재개 시 중복 확인이 어긋남)
+					log.error("Redis 메시지에 보낸 시간이 없어 저장하지 않습니다: {}", json);
+					continue;
+				}
 				ChatMessage message = ChatMessage.builder()
 					.roomId(request.getRoomId())
 					.senderId(request.getSenderId())
@@ -92,19 +212,8 @@ public class ChatRedisServiceImpl implements ChatRedisService {
 				chatMessages.add(message);
 			} catch (JsonProcessingException e) {
 				log.warn("Redis → 객체 변환 실패: {}", e.getMessage());
-				continue;
 			}
 		}
-
-		try {
-			chatMessageRepository.saveAll(chatMessages);
-			log.info("[flush] Redis → DB 저장 완료 ({}개) [sessionId={}]", chatMessages.size(), sessionId);
-
-			redisTemplate.delete(listKey);
-			redisTemplate.delete(enterKey);
-		} catch (Exception e) {
-			log.error("DB 저장 실패: {}", e.getMessage());
-			throw new ChatException(ChatErrorCode.DB_SAVE_FAILED);
-		}
+		return chatMessages;
 	}
 }
@@ -1,6 +1,7 @@
 package com.communet.malmoon.chat.service;
 
 import java.util.List;
+import java.util.Map;
 
 import com.communet.malmoon.chat.dto.request.ChatRoomCreateReq;
 import com.communet.malmoon.chat.dto.response.ChatParticipantRes;
@@ -65,4 +66,30 @@ public interface ChatRoomService {
 	void leaveRoom(Long roomId, Member member);
 
 	List<ChatParticipantRes> getParticipants(Long roomId);
+
+	/**
+	 * 채팅방 읽음 위치를 갱신합니다. (앞으로만 이동)
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param memberId 읽은 사용자 ID
+	 * @param lastReadMessageId 마지막으로 읽은 메시지 ID
+	 */
+	void markAsRead(Long roomId, Long memberId, Long lastReadMessageId);
+
+	/**
+	 * 사용자가 참여 중인 모든 채팅방의 안 읽은 메시지 수를 조회합니다.
+	 *
+	 * @param memberId 사용자 ID
+	 * @return 채팅방 ID → 안 읽은 메시지 수
+	 */
+	Map<Long, Long> getUnreadCounts(Long memberId);
+
+	/**
+	 * STOMP로 메시지를 보내려는 사용자가 채팅방 참여자인지, 세션 채팅이면 세션이 해당 채팅방의 세션인지 검증합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param memberId 발신자 ID
+	 * @param sessionId 세션 ID (일반 채팅이면 null)
+	 */
+	void validateSender(Long roomId, Long memberId, String sessionId);
 }
@@ -2,12 +2,17 @@ package com.communet.malmoon.chat.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,16 +36,23 @@ import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.member.service.MemberService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatRoomServiceImpl implements ChatRoomService {
 
+	private static final Set<RoomType> LISTED_ROOM_TYPES = EnumSet.of(RoomType.ONE_TO_ONE, RoomType.GROUP);
+
 	private final MemberService memberService;
 	private final MemberRepository memberRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomParticipantRepository participantRepository;
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomSummaryService chatRoomSummaryService;
+	private final ChatUnreadCounter chatUnreadCounter;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
@@ -89,14 +101,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.build();
 		chatRoomRepository.saveAndFlush(newRoom);
 
-		// 참여자 등록
-		for (Long memberId : participantIds) {
-			ChatRoomParticipant participant = ChatRoomParticipant.builder()
-				.roomId(newRoom.getRoomId())
-				.memberId(memberId)
-				.build();
-			participantRepository.save(participant);
-		}
+		// 참여자 일괄 등록
+		participantRepository.batchInsert(newRoom.getRoomId(), new LinkedHashSet<>(participantIds));
 
 		return ChatRoomCreateRes.builder()
 			.roomId(newRoom.getRoomId())
@@ -118,17 +124,9 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 		List<Long> sortedIds = new ArrayList<>(uniqueParticipantIds);
 		sortedIds.sort(Long::compareTo); // 1:1 채팅 중복 방지용 정렬
 
-		// 1:1 채팅인 경우 동일한 참여자 조합이 존재하는지 조회
-		if (type == RoomType.ONE_TO_ONE && participantIds.size() == 2) {
-			Optional<ChatRoom> existingRoom = chatRoomRepository
-				.findOneToOneRoomByParticipants(participantIds.get(0), participantIds.get(1));
-			if (existingRoom.isPresent()) {
-				return ChatRoomCreateRes.builder()
-					.roomId(existingRoom.get().getRoomId())
-					.roomType(type)
-					.participantIds(participantIds)
-					.build();
-			}
+		// 1:1 채팅은 참여자 쌍 키로 조회/생성
+		if (type == RoomType.ONE_TO_ONE && sortedIds.size() == 2) {
+			return createOneToOneRoom(request, currentId, sortedIds.get(0), sortedIds.get(1));
 		}
 
 		String roomName = request.getRoomName();
@@ -142,14 +140,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.build();
 		chatRoomRepository.saveAndFlush(newRoom);
 
-		// 참여자 등록
-		for (Long memberId : sortedIds) {
-			ChatRoomParticipant participant = ChatRoomParticipant.builder()
-				.roomId(newRoom.getRoomId())
-				.memberId(memberId)
-				.build();
-			participantRepository.save(participant);
-		}
+		// 참여자 일괄 등록
+		participantRepository.batchInsert(newRoom.getRoomId(), sortedIds);
 
 		return ChatRoomCreateRes.builder()
 			.roomId(newRoom.getRoomId())
@@ -159,6 +151,49 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.build();
 	}
 
+	private ChatRoomCreateRes createOneToOneRoom(ChatRoomCreateReq request, Long currentId, Long minMemberId,
+		Long maxMemberId) {
+		List<Long> participantIds = request.getParticipantIds();
+
+		// 동일한 참여자 쌍의 채팅방이 존재하는지 조회
+		Optional<ChatRoom> existingRoom = chatRoomRepository.findByMinMemberIdAndMaxMemberId(minMemberId, maxMemberId);
+		if (existingRoom.isPresent()) {
+			return ChatRoomCreateRes.builder()
+				.roomId(existingRoom.get().getRoomId())
+				.roomType(RoomType.ONE_TO_ONE)
+				.participantIds(participantIds)
+				.build();
+		}
+
+		String roomName = request.getRoomName();
+		if (roomName == null || roomName.isBlank()) {
+			roomName = generateRoomName(request, currentId);
+		}
+
+		// 동시 생성 시 한 요청만 저장되고, 나머지는 먼저 저장된 방을 사용
+		boolean created = chatRoomRepository.insertOneToOneIfAbsent(roomName, minMemberId, maxMemberId,
+			LocalDateTime.now()) > 0;
+		ChatRoom room = chatRoomRepository.findByMinMemberIdAndMaxMemberId(minMemberId, maxMemberId)
+			.orElseThrow(() -> new ChatException(ChatErrorCode.INVALID_ROOM_ID));
+		if (!created) {
+			return ChatRoomCreateRes.builder()
+				.roomId(room.getRoomId())
+				.roomType(RoomType.ONE_TO_ONE)
+				.participantIds(participantIds)
+				.build();
+		}
+
+		// 참여자 일괄 등록
+		participantRepository.batchInsert(room.getRoomId(), List.of(minMemberId, maxMemberId));
+
+		return ChatRoomCreateRes.builder()
+			.roomId(room.getRoomId())
+			.roomName(roomName)
+			.roomType(RoomType.ONE_TO_ONE)
+			.participantIds(participantIds)
+			.build();
+	}
+
 	@Override
 	public String generateRoomName(ChatRoomCreateReq request, Long currentId) {
 		List<Long> participants = request.getParticipantIds();
@@ -166,50 +201,40 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 		// 상대방 ID들만 추출
 		List<Long> others = participants.stream()
 			.filter(id -> !id.equals(currentId))
+			.distinct()
 			.toList();
 
+		// 상대방 닉네임을 projection 쿼리 한 번으로 조회하고, 없는 회원이 있으면 방을 만들지 않음
+		Map<Long, String> nicknames = memberService.getNicknamesByIds(others);
+		if (nicknames.size() < others.size()) {
+			throw new ChatException(ChatErrorCode.NOT_FOUND_MEMBER);
+		}
+		String firstName = nicknames.get(others.get(0));
 		if (request.getRoomType() == RoomType.ONE_TO_ONE) {
 			// 상대방 단 1명
-			Long opponentId = others.get(0);
-			String opponentName = memberService.getNicknameById(opponentId);
-			return opponentName;
-		} else {
-			// 그룹 채팅일 경우
-			String firstName = memberService.getNicknameById(others.get(0));
-			int othersCount = others.size() - 1;
-			return othersCount > 0 ? firstName + " 외 " + othersCount + "명" : firstName;
+			return firstName;
 		}
+		// 그룹 채팅일 경우
+		int othersCount = others.size() - 1;
+		return othersCount > 0 ? firstName + " 외 " + othersCount + "명" : firstName;
 	}
 
 	@Override
-	public List<ChatRoomSummaryRes> getMyChatRooms(Long memberId) {
-		List<ChatRoomParticipant> participations = participantRepository.findByMemberIdAndLeftAtIsNull(memberId);
-
-		return participations.stream()
-			.map(participant -> {
-				Long roomId = participant.getRoomId();
-				ChatRoom room = chatRoomRepository.findById(roomId)
-					.orElseThrow(() -> new ChatException(ChatErrorCode.INVALID_ROOM_ID));
-
-				if (room.getRoomType() != RoomType.ONE_TO_ONE && room.getRoomType() != RoomType.GROUP) {
-					return null;
-				}
-
-				if (room.getEndedAt() != null)
-					return null;
-
-				ChatMessage lastMessage = chatMessageRepository.findFirstByRoomIdOrderBySentAtDesc(roomId);
+	@Transactional(readOnly = true)
+	public void validateSender(Long roomId, Long memberId, String sessionId) {
+		if (memberId == null || !participantRepository.existsByRoomIdAndMemberId(roomId, memberId)) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+		// 다른 채팅방의 세션 ID로 메시지를 적재하지 못하도록 세션-채팅방 매핑 확인
+		if (sessionId != null && !chatRoomRepository.existsByRoomIdAndSessionId(roomId, sessionId)) {
+			throw new ChatException(ChatErrorCode.SESSION_ROOM_MISMATCH);
+		}
+	}
 
-				return ChatRoomSummaryRes.builder()
-					.roomId(room.getRoomId())
-					.roomName(room.getRoomName())
-					.roomType(room.getRoomType())
-					.lastMessage(lastMessage != null ? lastMessage.getContent() : "")
-					.lastMessageTime(lastMessage != null ? lastMessage.getSentAt() : null)
-					.build();
-			})
-			.filter(Objects::nonNull)
-			.toList();
+	@Override
+	public List<ChatRoomSummaryRes> getMyChatRooms(Long memberId) {
+		// 참여 정보 + 채팅방 + 요약을 한 번의 조인 쿼리로 조회
+		return participantRepository.findRoomSummaries(memberId, LISTED_ROOM_TYPES);
 	}
 
 	@Override
@@ -229,6 +254,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 	}
 
 	@Override
+	@Transactional
 	public void leaveRoom(Long roomId, Member member) {
 		ChatRoom room = chatRoomRepository.findById(roomId)
 			.orElseThrow(() -> new ChatException(ChatErrorCode.INVALID_ROOM_ID));
@@ -253,13 +279,16 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.build();
 
 		chatMessageRepository.save(leaveMessage);
+		chatRoomSummaryService.apply(leaveMessage);
 		participant.setLeftAt();
 		participantRepository.save(participant);
+		eventPublisher.publishEvent(ChatUnreadResetEvent.left(member.getMemberId(), roomId));
 
 		boolean allLeft = !participantRepository.existsByRoomIdAndLeftAtIsNull(roomId);
 		if (allLeft) {
 			room.setEndedAt(LocalDateTime.now());
 			room.setRoomType(RoomType.ENDED);
+			room.releasePairKey();
 			chatRoomRepository.save(room);
 		}
 	}
@@ -269,10 +298,19 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 		List<ChatRoomParticipant> participants =
 			participantRepository.findByRoomIdAndLeftAtIsNull(roomId);
 
+		// 참여자 회원 정보를 한 번에 조회
+		List<Long> memberIds = participants.stream()
+			.map(ChatRoomParticipant::getMemberId)
+			.toList();
+		Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+			.collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
 		return participants.stream()
 			.map(participant -> {
-				Member member = memberRepository.findById(participant.getMemberId())
-					.orElseThrow(() -> new ChatException(ChatErrorCode.NOT_FOUND_MEMBER));
+				Member member = members.get(participant.getMemberId());
+				if (member == null) {
+					throw new ChatException(ChatErrorCode.NOT_FOUND_MEMBER);
+				}
 
 				return ChatParticipantRes.builder()
 					.memberId(member.getMemberId())
@@ -284,4 +322,26 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.toList();
 	}
 
+	@Override
+	@Transactional
+	public void markAsRead(Long roomId, Long memberId, Long lastReadMessageId) {
+		if (lastReadMessageId == null) {
+			throw new ChatException(ChatErrorCode.INVALID_READ_POSITION);
+		}
+		// 행을 잠근 뒤에 세어야 동시에 커밋되는 안 읽은 수 증가분을 덮어쓰지 않음
+		ChatRoomParticipant participant = participantRepository.findForUpdate(roomId, memberId)
+			.orElseThrow(() -> new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS));
+
+		long remaining = chatMessageRepository.countUnreadAfter(roomId, memberId, lastReadMessageId,
+			ChatRoomSummaryService.NOT_COUNTED);
+		if (participant.markRead(lastReadMessageId, (int)remaining)) {
+			// 커밋 이후 Redis 카운터 반영 (롤백 시 카운터가 DB와 어긋나지 않도록)
+			eventPublisher.publishEvent(ChatUnreadResetEvent.read(memberId, roomId, remaining));
+		}
+	}
+
+	@Override
+	public Map<Long, Long> getUnreadCounts(Long memberId) {
+		return chatUnreadCounter.getAll(memberId);
+	}
 }
@@ -0,0 +1,104 @@
+package com.communet.malmoon.chat.service;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.chat.repository.ChatRoomSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 요약(마지막 메시지, 참여자별 안 읽은 수)을 메시지 저장과 같은 트랜잭션에서 갱신합니다.
+ * - 커밋 후 Redis 안 읽은 수 카운터에도 반영 ({@link ChatUnreadCounter})
+ * - 입장/퇴장 시스템 메시지는 마지막 메시지로 반영하되 안 읽은 수에는 포함하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSummaryService {
+
+	static final Set<ChatMessageType> NOT_COUNTED = EnumSet.of(ChatMessageType.ENTER, ChatMessageType.LEAVE);
+
+	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatRoomParticipantRepository participantRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 저장된 메시지 하나를 요약에 반영합니다.
+	 *
+	 * @param message 저장된 메시지
+	 */
+	@Transactional
+	public void apply(ChatMessage message) {
+		apply(List.of(message));
+	}
+
+	/**
+	 * 저장된 메시지들을 채팅방별로 묶어 요약에 반영합니다. (세션 flush 청크 등)
+	 *
+	 * @param messages 저장된 메시지 목록
+	 */
+	@Transactional
+	public void apply(List<ChatMessage> messages) {
+		Map<Long, List<ChatMessage>> byRoom = messages.stream()
+			.collect(Collectors.groupingBy(ChatMessage::getRoomId));
+
+		byRoom.forEach((roomId, roomMessages) -> {
+			ChatMessage last = roomMessages.stream()
+				.max(Comparator.comparing(ChatMessage::getSentAt))
+				.orElseThrow();
+			chatRoomSummaryRepository.upsertLastMessage(roomId, last.getSenderId(), last.getContent(),
+				last.getSentAt());
+
+			Map<Long, Long> countsBySender = roomMessages.stream()
+				.filter(message -> !NOT_COUNTED.contains(message.getMessageType()))
+				.collect(Collectors.groupingBy(ChatMessage::getSenderId, Collectors.counting()));
+			if (countsBySender.isEmpty()) {
+				return;
+			}
+			countsBySender.forEach((senderId, count) ->
+				participantRepository.incrementUnreadExceptSender(roomId, senderId, count.intValue()));
+			eventPublisher.publishEvent(new ChatUnreadChangedEvent(roomId, incrementsByMember(roomId, countsBySender)));
+		});
+	}
+
+	private Map<Long, Long> incrementsByMember(Long roomId, Map<Long, Long> countsBySender) {
+		long total = countsBySender.values().stream().mapToLong(Long::longValue).sum();
+		Map<Long, Long> increments = new HashMap<>();
+		for (ChatRoomParticipant participant : participantRepository.findByRoomIdAndLeftAtIsNull(roomId)) {
+			long increment = total - countsBySender.getOrDefault(participant.getMemberId(), 0L);
+			if (increment > 0) {
+				increments.put(participant.getMemberId(), increment);
+			}
+		}
+		return increments;
+	}
+
+	/**
+	 * 요약이 없는 기존 채팅방을 가장 최근 메시지로 채웁니다. (요약이 있는 방은 건너뛰므로 재실행해도 안전)
+	 */
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillMissingSummaries() {
+		int filled = chatRoomSummaryRepository.backfillMissing();
+		if (filled > 0) {
+			log.info("[chat] 채팅방 요약 {}건 생성", filled);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.communet.malmoon.chat.service;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방의 참여자별 안 읽은 메시지 수가 늘어났음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link ChatUnreadCounter}가 Redis 카운터에 반영합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatUnreadChangedEvent {
+
+	private final Long roomId;
+	private final Map<Long, Long> incrementsByMember;
+}
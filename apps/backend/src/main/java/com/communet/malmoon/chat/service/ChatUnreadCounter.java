@@ -0,0 +1,155 @@
+package com.communet.malmoon.chat.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 채팅방 안 읽은 메시지 수 카운터 (Redis Hash: chat:unread:{memberId} → roomId별 개수)
+ * - 메시지 저장 커밋 후 수신자별로 HINCRBY (파이프라인 1회)
+ * - 읽음 처리 커밋 후 남은 개수로 덮어쓰고, 채팅방을 나가면 커밋 후 해당 필드를 HDEL
+ * - 기준 값은 DB(ChatRoomParticipant.unreadCount)이며, 초기화 표시가 없는 Hash는 DB 값으로 다시 채움
+ *   (Hash를 지우지 않고 없는 필드만 채워, 재적재 도중 들어온 HINCRBY를 잃지 않음)
+ * - Redis 장애 시 DB 값으로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+	private static final String KEY_PREFIX = "chat:unread:";
+	private static final String INITIALIZED_FIELD = "_init";
+
+	/**
+	 * KEYS[1]=회원 카운터 Hash, ARGV=채팅방 ID/개수 쌍 (마지막 쌍은 초기화 표시)
+	 * - 이미 있는 필드는 그대로 두고 없는 필드만 채움 (HSETNX), Hash를 삭제하지 않음
+	 */
+	static final RedisScript<Long> REFILL_SCRIPT = RedisScript.of("""
+		local filled = 0
+		for i = 1, #ARGV, 2 do
+			filled = filled + redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		return filled
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatRoomParticipantRepository participantRepository;
+
+	/**
+	 * 회원이 참여 중인 모든 채팅방의 안 읽은 메시지 수를 조회합니다.
+	 *
+	 * @param memberId 회원 ID
+	 * @return 채팅방 ID → 안 읽은 메시지 수
+	 */
+	public Map<Long, Long> getAll(Long memberId) {
+		try {
+			Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(memberId));
+			if (entries.containsKey(INITIALIZED_FIELD)) {
+				Map<Long, Long> counts = new HashMap<>();
+				entries.forEach((field, value) -> {
+					if (!INITIALIZED_FIELD.equals(field)) {
+						counts.put(Long.valueOf(field.toString()), Long.valueOf(value.toString()));
+					}
+				});
+				return counts;
+			}
+		} catch (Exception e) {
+			log.warn("안 읽은 메시지 수 조회 실패 - memberId: {}", memberId, e);
+			return loadFromDatabase(memberId);
+		}
+
+		Map<Long, Long> counts = loadFromDatabase(memberId);
+		refill(memberId, counts);
+		return counts;
+	}
+
+	/**
+	 * 채팅방의 안 읽은 메시지 수를 지정한 값으로 맞춥니다. (읽음 처리 시)
+	 */
+	public void set(Long memberId, Long roomId, long count) {
+		try {
+			redisTemplate.opsForHash().put(key(memberId), String.valueOf(roomId), String.valueOf(count));
+		} catch (Exception e) {
+			log.warn("안 읽은 메시지 수 저장 실패 - memberId: {}, roomId: {}", memberId, roomId, e);
+		}
+	}
+
+	/**
+	 * 채팅방을 카운터에서 제거합니다. (채팅방 나가기 시)
+	 */
+	public void remove(Long memberId, Long roomId) {
+		try {
+			redisTemplate.opsForHash().delete(key(memberId), String.valueOf(roomId));
+		} catch (Exception e) {
+			log.warn("안 읽은 메시지 수 삭제 실패 - memberId: {}, roomId: {}", memberId, roomId, e);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUnreadReset(ChatUnreadResetEvent event) {
+		if (event.getCount() == null) {
+			remove(event.getMemberId(), event.getRoomId());
+		} else {
+			set(event.getMemberId(), event.getRoomId(), event.getCount());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUnreadChanged(ChatUnreadChangedEvent event) {
+		String field = String.valueOf(event.getRoomId());
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				event.getIncrementsByMember().forEach((memberId, increment) ->
+					stringConnection.hIncrBy(key(memberId), field, increment));
+				return null;
+			});
+		} catch (Exception e) {
+			// 카운터가 어긋나도 읽음 처리 또는 DB 재적재 시 보정됨
+			log.warn("안 읽은 메시지 수 증가 실패 - roomId: {}", event.getRoomId(), e);
+		}
+	}
+
+	private Map<Long, Long> loadFromDatabase(Long memberId) {
+		Map<Long, Long> counts = new HashMap<>();
+		for (ChatRoomParticipant participant : participantRepository.findByMemberIdAndLeftAtIsNull(memberId)) {
+			counts.put(participant.getRoomId(), (long)participant.getUnreadCount());
+		}
+		return counts;
+	}
+
+	private void refill(Long memberId, Map<Long, Long> counts) {
+		List<String> args = new ArrayList<>();
+		counts.forEach((roomId, count) -> {
+			args.add(String.valueOf(roomId));
+			args.add(String.valueOf(count));
+		});
+		// 초기화 표시는 모든 필드를 채운 뒤에 세움
+		args.add(INITIALIZED_FIELD);
+		args.add("1");
+		try {
+			redisTemplate.execute(REFILL_SCRIPT, List.of(key(memberId)), args.toArray());
+		} catch (Exception e) {
+			log.warn("안 읽은 메시지 수 재적재 실패 - memberId: {}", memberId, e);
+		}
+	}
+
+	private String key(Long memberId) {
+		return KEY_PREFIX + memberId;
+	}
+}
@@ -0,0 +1,27 @@
+package com.communet.malmoon.chat.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 채팅방 안 읽은 메시지 수를 다시 맞춰야 함을 알리는 이벤트입니다. (읽음 처리, 채팅방 나가기)
+ * 트랜잭션 커밋 이후 {@link ChatUnreadCounter}가 Redis 카운터에 반영하므로 롤백된 변경은 반영되지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatUnreadResetEvent {
+
+	private final Long memberId;
+	private final Long roomId;
+
+	/** 남은 안 읽은 메시지 수 (null이면 채팅방을 나간 것으로 보고 카운터에서 제거) */
+	private final Long count;
+
+	public static ChatUnreadResetEvent read(Long memberId, Long roomId, long count) {
+		return new ChatUnreadResetEvent(memberId, roomId, count);
+	}
+
+	public static ChatUnreadResetEvent left(Long memberId, Long roomId) {
+		return new ChatUnreadResetEvent(memberId, roomId, null);
+	}
+}
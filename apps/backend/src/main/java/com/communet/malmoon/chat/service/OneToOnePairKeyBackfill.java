@@ -0,0 +1,74 @@
+package com.communet.malmoon.chat.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 참여자 쌍 키가 없는 기존 1:1 채팅방에 키를 채웁니다.
+ * - 여러 노드가 동시에 기동해도 Redis 락을 얻은 노드만 실행
+ * - Redis 장애로 락을 확인할 수 없으면 그대로 실행하고, 다른 노드와 같은 쌍을 채우다 유니크 제약에 걸리면
+ *   이번 실행만 롤백하고 기동은 계속 (키가 있는 방은 건너뛰므로 다음 기동 때 다시 시도해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OneToOnePairKeyBackfill {
+
+	static final String LOCK_KEY = "chat:one-to-one-backfill:lock";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		Boolean acquired = tryLock();
+		if (Boolean.FALSE.equals(acquired)) {
+			log.info("[chat] 다른 노드가 1:1 채팅방 참여자 쌍 키를 채우는 중 - 건너뜀");
+			return;
+		}
+
+		try {
+			int filled = chatRoomRepository.backfillOneToOnePairKeys();
+			if (filled > 0) {
+				log.info("[chat] 1:1 채팅방 참여자 쌍 키 {}건 생성", filled);
+			}
+		} catch (DataIntegrityViolationException e) {
+			log.warn("[chat] 1:1 채팅방 참여자 쌍 키 채우기 충돌 - 다음 기동 때 다시 시도: {}", e.getMessage());
+		} finally {
+			if (Boolean.TRUE.equals(acquired)) {
+				unlock();
+			}
+		}
+	}
+
+	/**
+	 * @return 락 획득 시 true, 다른 노드가 보유 중이면 false, Redis 장애로 확인할 수 없으면 null
+	 */
+	private Boolean tryLock() {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+		} catch (Exception e) {
+			log.warn("[chat] 1:1 채팅방 키 채우기 락 확인 실패, 락 없이 실행: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void unlock() {
+		try {
+			stringRedisTemplate.delete(LOCK_KEY);
+		} catch (Exception e) {
+			log.warn("[chat] 1:1 채팅방 키 채우기 락 해제 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.communet.malmoon.common.auth;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.communet.malmoon.common.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 계산을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - 해시 계산(encode/matches)의 동시 실행 수를 풀 크기로 제한하여 요청 스레드가 CPU를 독점하지 않도록 함
+ * - 큐가 가득 찼거나 대기 시간이 초과되면 {@link ServiceBusyException}으로 즉시 거절 (503)
+ * - 메트릭: password.hash.queue.size(대기 작업 수), password.hash.rejected(거절 횟수),
+ *   password.hash(대기 포함 처리 시간, operation 태그)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolTaskExecutor executor;
+	private final long timeoutMillis;
+
+	private final Counter rejected;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, Duration timeout,
+		MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.executor = executor;
+		this.timeoutMillis = timeout.toMillis();
+
+		Gauge.builder("password.hash.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.register(meterRegistry);
+		this.rejected = meterRegistry.counter("password.hash.rejected");
+		this.encodeTimer = meterRegistry.timer("password.hash", "operation", "encode");
+		this.matchesTimer = meterRegistry.timer("password.hash", "operation", "matches");
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// 해시 문자열의 강도만 확인하므로 풀을 거치지 않음
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T run(Timer timer, Callable<T> task) {
+		long start = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (TaskRejectedException e) {
+			rejected.increment();
+			log.warn("비밀번호 해시 요청 거절 - 큐 포화, queued: {}", executor.getThreadPoolExecutor().getQueue().size());
+			throw new ServiceBusyException(BUSY_MESSAGE);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 아직 시작하지 않은 작업은 취소되어 풀 자원을 쓰지 않음
+			future.cancel(true);
+			rejected.increment();
+			log.warn("비밀번호 해시 요청 거절 - {}ms 대기 초과", timeoutMillis);
+			throw new ServiceBusyException(BUSY_MESSAGE);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServiceBusyException(BUSY_MESSAGE);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("비밀번호 해시 처리 중 오류가 발생했습니다.", e.getCause());
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
@@ -1,27 +1,42 @@
 package com.communet.malmoon.common.auth;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * {@code @CurrentMember} 파라미터에 현재 로그인한 회원을 주입합니다.
+ * - {@link MemberPrincipal} 타입이면 인증 정보만 반환 (DB 조회 없음)
+ * - 인증 필터가 확인한 회원 식별 정보를 재사용하고, 엔티티는 지연 참조(getReferenceById)로 반환
+ * - ID만 사용하면 추가 쿼리가 없고, 다른 필드에 처음 접근할 때 요청의 영속성 컨텍스트에서 PK로 한 번 조회
+ * - 지연 참조는 OSIV(spring.jpa.open-in-view, 기본값 true)로 요청 동안 영속성 컨텍스트가 열려 있어야 초기화 가능
+ *   요청에 열린 영속성 컨텍스트가 없으면(OSIV 비활성 등) 지연 참조 대신 PK로 즉시 조회한 엔티티를 반환
+ * - 엔티티 필드가 필요 없는 핸들러는 {@link MemberPrincipal}로 받는 것을 권장
+ */
 @RequiredArgsConstructor
 public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
 
 	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
 		return parameter.hasParameterAnnotation(CurrentMember.class)
-			&& parameter.getParameterType().equals(Member.class);
+			&& (parameter.getParameterType().equals(Member.class)
+			|| parameter.getParameterType().equals(MemberPrincipal.class));
 	}
 
 	@Override
@@ -36,9 +51,27 @@ public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResol
 			throw new IllegalStateException("인증 정보가 없습니다.");
 		}
 
-		String email = authentication.getName();
+		MemberPrincipal principal = authentication.getDetails() instanceof MemberPrincipal details
+			? details
+			: memberPrincipalCache.get(authentication.getName())
+				.orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
-		return memberRepository.findByEmail(email)
+		if (parameter.getParameterType().equals(MemberPrincipal.class)) {
+			return principal;
+		}
+		if (hasOpenEntityManager()) {
+			return memberRepository.getReferenceById(principal.getMemberId());
+		}
+		// 요청 밖에서 지연 참조를 초기화하면 LazyInitializationException이 발생하므로 즉시 조회
+		return memberRepository.findById(principal.getMemberId())
 			.orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 	}
+
+	/**
+	 * 현재 스레드에 OSIV 등으로 바인딩된 EntityManager가 있는지 확인합니다.
+	 */
+	private static boolean hasOpenEntityManager() {
+		return TransactionSynchronizationManager.getResourceMap().values().stream()
+			.anyMatch(EntityManagerHolder.class::isInstance);
+	}
 }
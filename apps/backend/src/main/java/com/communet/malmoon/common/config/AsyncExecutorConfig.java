@@ -0,0 +1,99 @@
+package com.communet.malmoon.common.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 요청 스레드와 분리해 실행할 작업용 스레드 풀 설정
+ * - 모든 풀은 스레드 수와 큐 크기가 제한되어 있음
+ */
+@Configuration
+public class AsyncExecutorConfig {
+
+	/**
+	 * AAC 이미지 생성 작업용 스레드 풀 (FastAPI 호출 + S3 업로드)
+	 * - 큐가 가득 차면 즉시 거절(AbortPolicy)하고 호출 측에서 503으로 응답
+	 */
+	@Bean(name = "aacGenerationExecutor")
+	public ThreadPoolTaskExecutor aacGenerationExecutor(
+		@Value("${aac.generation.pool-size:4}") int poolSize,
+		@Value("${aac.generation.queue-capacity:50}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("aac-gen-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 비밀번호 해시(BCrypt) 전용 스레드 풀
+	 * - CPU를 많이 쓰는 해시 계산의 동시 실행 수를 제한하여 로그인 폭주 시에도 채팅/세션 요청 처리 유지
+	 * - 큐가 가득 차면 즉시 거절(AbortPolicy)하고 호출 측에서 503으로 응답
+	 */
+	@Bean(name = "passwordHashExecutor")
+	public ThreadPoolTaskExecutor passwordHashExecutor(
+		@Value("${security.password.hash.pool-size:2}") int poolSize,
+		@Value("${security.password.hash.queue-capacity:32}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * S3 multipart 파트 업로드용 스레드 풀
+	 * - 큐가 가득 차면 호출 스레드가 직접 업로드하여 자연스럽게 속도를 조절(CallerRunsPolicy)
+	 */
+	@Bean(name = "s3UploadExecutor")
+	public ThreadPoolTaskExecutor s3UploadExecutor(
+		@Value("${file.upload.pool-size:8}") int poolSize,
+		@Value("${file.upload.queue-capacity:32}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("s3-upload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * S3 비동기 요청용 스레드 풀
+	 * - 업로드 스트림 읽기와 S3 응답 이후의 DB 저장을 Netty 이벤트 루프 밖에서 수행
+	 * - 큐가 가득 차면 즉시 거절(AbortPolicy)하고 호출 측에서 503으로 응답
+	 *   (CallerRunsPolicy는 거절된 작업을 Netty 이벤트 루프에서 실행하게 되므로 사용하지 않음)
+	 */
+	@Bean(name = "fileIoExecutor")
+	public ThreadPoolTaskExecutor fileIoExecutor(
+		@Value("${file.async.pool-size:16}") int poolSize,
+		@Value("${file.async.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("file-io-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+}
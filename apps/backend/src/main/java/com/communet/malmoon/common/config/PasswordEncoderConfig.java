@@ -0,0 +1,37 @@
+package com.communet.malmoon.common.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.communet.malmoon.common.auth.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비밀번호 암호화 설정
+ * - 보안 필터 설정(SecurityConfig)과 분리하여, 필터만 필요한 테스트가 해시 스레드 풀 없이 구성되도록 함
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+	/**
+	 * BCrypt 해시는 전용 스레드 풀에서만 계산 (요청 스레드 보호)
+	 * - security.password.bcrypt-strength: 작업 계수 (기존 해시는 강도와 관계없이 검증 가능)
+	 */
+	@Bean
+	public PasswordEncoder passwordEncoder(
+		@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${security.password.bcrypt-strength:10}") int strength,
+		@Value("${security.password.hash.timeout-millis:3000}") long timeoutMillis) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashExecutor,
+			Duration.ofMillis(timeoutMillis), meterRegistry);
+	}
+}
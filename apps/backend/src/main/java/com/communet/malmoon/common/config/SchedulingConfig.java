@@ -0,0 +1,14 @@
+package com.communet.malmoon.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화 설정
+ * - LiveKit 방 삭제 재시도({@code session.room-deletion-retry.enabled}로 끌 수 있음), 세션 Redis 키 정리 등
+ * - 스레드 수는 spring.task.scheduling.pool.size 로 조정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -9,12 +9,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 import com.communet.malmoon.member.jwt.auth.JwtAuthenticationFilter;
-import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+import com.communet.malmoon.member.service.TokenVersionService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,12 +23,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-	private final MemberRepository memberRepository;
-
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final TokenVersionService tokenVersionService;
 
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
@@ -45,7 +40,7 @@ public class SecurityConfig {
 			.csrf(AbstractHttpConfigurer::disable)
 			.httpBasic(AbstractHttpConfigurer::disable)
 			.cors(AbstractHttpConfigurer::disable)
-			.addFilter(new JwtAuthenticationFilter(authManager, memberRepository))
+			.addFilter(new JwtAuthenticationFilter(authManager, memberPrincipalCache, tokenVersionService))
 			.authorizeHttpRequests(auth -> auth
 				//.requestMatchers("/api/v1/users/me").authenticated()
 				//.requestMatchers("/actuator/health", "/actuator/info").permitAll()
@@ -9,6 +9,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.communet.malmoon.common.auth.CurrentMemberArgumentResolver;
 import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -19,10 +20,11 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 public class WebMvcConfig implements WebMvcConfigurer {
 
 	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-		resolvers.add(new CurrentMemberArgumentResolver(memberRepository));
+		resolvers.add(new CurrentMemberArgumentResolver(memberRepository, memberPrincipalCache));
 	}
 	  @Override
 	  public void addCorsMappings(CorsRegistry registry) {
@@ -1,5 +1,6 @@
 package com.communet.malmoon.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,17 @@ public class GlobalExceptionHandler {
 			.body(ExceptionResponseUtils.build(HttpStatus.BAD_REQUEST, e.getMessage(), request));
 	}
 
+	/**
+	 * 처리 용량 초과 예외 처리 (잠시 후 재시도 안내)
+	 */
+	@ExceptionHandler(ServiceBusyException.class)
+	public ResponseEntity<ApiErrorRes> handleServiceBusy(ServiceBusyException e, WebRequest request) {
+		log.warn("ServiceBusyException: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, "1")
+			.body(ExceptionResponseUtils.build(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), request));
+	}
+
 	/**
 	 * 그 외 모든 예외 처리 + (Swagger 요청 제외)
 	 */
@@ -0,0 +1,11 @@
+package com.communet.malmoon.common.exception;
+
+/**
+ * 제한된 자원(전용 스레드 풀 등)이 포화되어 요청을 바로 거절할 때 사용하는 예외
+ * - {@link GlobalExceptionHandler}에서 503 Service Unavailable로 응답
+ */
+public class ServiceBusyException extends RuntimeException {
+	public ServiceBusyException(String message) {
+		super(message);
+	}
+}
@@ -75,4 +75,27 @@ public class FastApiClient {
 		}
 
 	}
+
+	/**
+	 * FastAPI가 반환한 미리보기 이미지를 내려받습니다.
+	 * @param previewUrl FastAPI가 반환한 preview_url (절대 URL 또는 /static/... 경로)
+	 * @return 이미지 바이트
+	 */
+	public byte[] downloadPreviewImage(String previewUrl) {
+		String url = previewUrl.startsWith("http") ? previewUrl : fastApiProperties.getUrl() + previewUrl;
+		try {
+			byte[] image = restTemplate.getForObject(url, byte[].class);
+			if (image == null || image.length == 0) {
+				throw new AacException(AacErrorCode.FASTAPI_INVALID_RESPONSE);
+			}
+			return image;
+		} catch (HttpClientErrorException e) {
+			log.warn("FastAPI 이미지 다운로드 4xx 에러: {}", url, e);
+			throw new AacException(AacErrorCode.TEMP_IMAGE_NOT_FOUND);
+
+		} catch (ResourceAccessException e) {
+			log.error("FastAPI 이미지 다운로드 네트워크 오류: {}", e.getMessage(), e);
+			throw new AacException(AacErrorCode.FASTAPI_TIMEOUT);
+		}
+	}
 }
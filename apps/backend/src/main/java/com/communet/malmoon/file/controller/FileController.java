@@ -1,5 +1,8 @@
 	package com.communet.malmoon.file.controller;
 
+	import java.util.concurrent.CompletableFuture;
+	import java.util.concurrent.CompletionException;
+
 	import org.springframework.http.ResponseEntity;
 	import org.springframework.web.bind.annotation.GetMapping;
 	import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +14,7 @@
 	import org.springframework.web.multipart.MultipartFile;
 
 	import com.communet.malmoon.common.auth.CurrentMember;
+	import com.communet.malmoon.common.exception.ServiceBusyException;
 	import com.communet.malmoon.file.domain.FileType;
 	import com.communet.malmoon.file.dto.request.PresignPutReq;
 	import com.communet.malmoon.file.dto.request.UploadConfirmReq;
@@ -51,22 +55,29 @@
 			description = "파일 유형과 Multipart 파일을 받아 AWS S3에 업로드하고, 업로드된 파일의 URL을 반환합니다."
 		)
 		@PostMapping("/upload/{type}")
-		public ResponseEntity<FileUploadRes> uploadFile(
+		public CompletableFuture<ResponseEntity<FileUploadRes>> uploadFile(
 			@Parameter(description = "파일 유형 (예: AAC, PROFILE, REPORT)", example = "AAC")
 			@PathVariable("type") FileType type,
 
 			@Parameter(description = "업로드할 파일 (Multipart)", required = true)
 			@RequestPart MultipartFile file
 		) {
-			try {
-				FileUploadRes response = fileService.uploadFile(type.getDirectory(), file);
-				log.info("업로드된 파일 URL: {}", response);
-				return ResponseEntity.ok(response);
-			} catch (Exception e) {
-				log.error("파일 업로드 실패 - type: {}, filename: {}, 이유: {}", type, file.getOriginalFilename(), e.getMessage(),
-					e);
-				return ResponseEntity.internalServerError().build();
-			}
+			// S3 업로드가 끝날 때까지 요청 스레드를 점유하지 않고 비동기로 응답
+			return fileService.uploadFileAsync(type.getDirectory(), file)
+				.thenApply(response -> {
+					log.info("업로드된 파일 URL: {}", response);
+					return ResponseEntity.ok(response);
+				})
+				.exceptionally(e -> {
+					Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					if (cause instanceof ServiceBusyException busy) {
+						// 스레드 풀 포화: GlobalExceptionHandler에서 503으로 응답
+						throw busy;
+					}
+					log.error("파일 업로드 실패 - type: {}, filename: {}, 이유: {}", type, file.getOriginalFilename(),
+						e.getMessage(), e);
+					return ResponseEntity.internalServerError().build();
+				});
 		}
 
 		/**
@@ -92,9 +103,9 @@
 
 		@Operation(summary = "업로드 확정")
 		@PostMapping("/confirm")
-		public ResponseEntity<UploadConfirmRes> confirm(@RequestBody @jakarta.validation.Valid UploadConfirmReq req,
-			@CurrentMember Member me) {
-			return ResponseEntity.ok(fileService.confirmUpload(req, me.getMemberId()));
+		public CompletableFuture<ResponseEntity<UploadConfirmRes>> confirm(
+			@RequestBody @jakarta.validation.Valid UploadConfirmReq req, @CurrentMember Member me) {
+			return fileService.confirmUploadAsync(req, me.getMemberId()).thenApply(ResponseEntity::ok);
 		}
 
 
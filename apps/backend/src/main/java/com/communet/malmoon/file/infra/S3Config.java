@@ -1,12 +1,16 @@
 package com.communet.malmoon.file.infra;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
@@ -41,6 +45,27 @@ public class S3Config {
 
 	}
 
+	/**
+	 * S3AsyncClient Bean 등록 (Netty NIO)
+	 * - 요청 스레드를 S3 응답 대기에 묶지 않기 위한 비동기 클라이언트
+	 *
+	 * @return S3AsyncClient
+	 */
+	@Bean
+	public S3AsyncClient s3AsyncClient(
+		@Value("${cloud.aws.s3.async.max-concurrency:200}") int maxConcurrency,
+		@Value("${cloud.aws.s3.async.connection-acquire-timeout-seconds:10}") long acquireTimeoutSeconds) {
+		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+		return S3AsyncClient.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(credentials))
+			.httpClientBuilder(NettyNioAsyncHttpClient.builder()
+				.maxConcurrency(maxConcurrency)
+				.connectionAcquisitionTimeout(Duration.ofSeconds(acquireTimeoutSeconds)))
+			.build();
+	}
+
 	@Bean
 	public S3Presigner s3Presigner() {
 		AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
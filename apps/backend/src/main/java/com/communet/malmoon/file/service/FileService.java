@@ -1,5 +1,9 @@
 package com.communet.malmoon.file.service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import com.communet.malmoon.file.dto.request.PresignPutReq;
@@ -23,6 +27,16 @@ public interface FileService {
 
 	FileUploadRes uploadFile(String directory, java.io.File file);
 
+	/**
+	 * 메모리에 있는 파일 내용을 S3에 업로드하고 File 정보를 저장합니다.
+	 *
+	 * @param directory 업로드 대상 디렉토리 (aac, profile 등)
+	 * @param content 파일 내용
+	 * @param originalFilename 원본 파일명 (확장자 포함)
+	 * @return 저장된 파일 ID와 URL
+	 */
+	FileUploadRes uploadFile(String directory, byte[] content, String originalFilename);
+
 	/**
 	 * fileId를 통해 S3 이미지 URL을 반환합니다.
 	 *
@@ -38,7 +52,45 @@ public interface FileService {
 	 */
 	String getPresignedFileUrl(Long fileId);
 
+	/**
+	 * 이미 조회된 파일명(S3 키)으로 presigned 이미지 URL을 반환합니다. DB 조회 없이 캐시 또는 서명만 수행합니다.
+	 *
+	 * @param fileId 파일 테이블의 ID (캐시 키)
+	 * @param filename S3 오브젝트 키
+	 * @return Presigned URL (일정 시간만 접근 가능)
+	 */
+	String getPresignedFileUrl(Long fileId, String filename);
+
+	/**
+	 * 여러 fileId의 presigned 이미지 URL을 한 번에 반환합니다.
+	 * 캐시에 없는 파일만 한 번의 쿼리로 조회하여 서명합니다.
+	 *
+	 * @param fileIds 파일 테이블의 ID 목록
+	 * @return fileId → Presigned URL
+	 */
+	Map<Long, String> getPresignedFileUrls(Collection<Long> fileIds);
+
 	// 신규: Pre-Signed 방식
 	PresignPutRes presignPut(PresignPutReq req, Long uploaderId);
 	UploadConfirmRes confirmUpload(UploadConfirmReq req, Long uploaderId);
+
+	/**
+	 * 파일 업로드 (비동기)
+	 * S3 업로드를 기다리는 동안 요청 스레드를 점유하지 않습니다.
+	 *
+	 * @param directory 업로드 대상 디렉토리 (aac, profile 등)
+	 * @param file MultipartFile 업로드할 파일
+	 * @return 업로드 완료 시 저장된 파일 ID와 URL
+	 */
+	CompletableFuture<FileUploadRes> uploadFileAsync(String directory, MultipartFile file);
+
+	/**
+	 * 업로드 확정 (비동기)
+	 * S3 HEAD 확인을 비동기로 수행한 뒤 파일 정보를 저장합니다.
+	 *
+	 * @param req 업로드 확정 요청
+	 * @param uploaderId 업로더 ID
+	 * @return 저장된 파일 ID와 조회용 URL
+	 */
+	CompletableFuture<UploadConfirmRes> confirmUploadAsync(UploadConfirmReq req, Long uploaderId);
 }
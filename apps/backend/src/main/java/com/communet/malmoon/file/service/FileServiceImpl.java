@@ -4,13 +4,21 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.communet.malmoon.common.exception.ServiceBusyException;
 import com.communet.malmoon.file.domain.File;
 import com.communet.malmoon.file.domain.FileType;
 import com.communet.malmoon.file.dto.request.PresignPutReq;
@@ -42,10 +50,14 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 @Slf4j
 public class FileServiceImpl implements FileService {
 
+	static final int PRESIGNED_GET_SECONDS = 600;
+
 	private final S3Presigner s3Presigner;
 	private final S3Client s3Client;
 	private final S3Uploader s3Uploader;
+	private final S3AsyncUploader s3AsyncUploader;
 	private final FileRepository fileRepository;
+	private final PresignedUrlCache presignedUrlCache;
 
 	@Value("${cloud.aws.s3.url-prefix}")
 	private String s3Prefix;
@@ -114,6 +126,30 @@ public class FileServiceImpl implements FileService {
 		}
 	}
 
+	@Override
+	public FileUploadRes uploadFile(String directory, byte[] content, String originalFilename) {
+		try (java.io.InputStream inputStream = new java.io.ByteArrayInputStream(content)) {
+			String contentType = resolveContentType(originalFilename);
+			String filename = s3Uploader.upload(directory, inputStream, originalFilename, contentType);
+
+			File savedFile = fileRepository.save(File.builder()
+				.fileType(FileType.valueOf(directory.toUpperCase()))
+				.filename(filename)
+				.isDeleted(false)
+				.build());
+
+			log.info("파일 저장 완료: id={}, filename={}", savedFile.getId(), filename);
+
+			return FileUploadRes.builder()
+				.fileId(savedFile.getId())
+				.url(s3Prefix + filename)
+				.build();
+		} catch (IOException e) {
+			log.error("파일 업로드 실패", e);
+			throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.");
+		}
+	}
+
 	@Override
 	public String getFileUrl(Long fileId) {
 		File file = fileRepository.findById(fileId)
@@ -128,6 +164,11 @@ public class FileServiceImpl implements FileService {
 
 	@Override
 	public String getPresignedFileUrl(Long fileId) {
+		String cached = presignedUrlCache.get(fileId);
+		if (cached != null) {
+			return cached;
+		}
+
 		File file = fileRepository.findById(fileId)
 			.orElseThrow(() -> new IllegalArgumentException("해당 파일이 존재하지 않습니다. ID=" + fileId));
 
@@ -135,20 +176,48 @@ public class FileServiceImpl implements FileService {
 			throw new IllegalStateException("삭제된 파일입니다. ID=" + fileId);
 		}
 
-		String key = file.getFilename();
+		String url = presignGet(file.getFilename(), PRESIGNED_GET_SECONDS);
+		presignedUrlCache.put(fileId, url);
+		return url;
+	}
 
-		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-			.bucket(bucket)
-			.key(key)
-			.build();
+	@Override
+	public String getPresignedFileUrl(Long fileId, String filename) {
+		String cached = presignedUrlCache.get(fileId);
+		if (cached != null) {
+			return cached;
+		}
 
-		GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-			.signatureDuration(Duration.ofMinutes(10))
-			.getObjectRequest(getObjectRequest)
-			.build();
+		String url = presignGet(filename, PRESIGNED_GET_SECONDS);
+		presignedUrlCache.put(fileId, url);
+		return url;
+	}
+
+	@Override
+	public Map<Long, String> getPresignedFileUrls(Collection<Long> fileIds) {
+		Set<Long> ids = new HashSet<>(fileIds);
+		Map<Long, String> result = new HashMap<>(presignedUrlCache.getAll(ids));
+		ids.removeAll(result.keySet());
+		if (ids.isEmpty()) {
+			return result;
+		}
+
+		// 캐시 미스 파일만 한 번에 조회
+		List<File> files = fileRepository.findAllById(ids);
+		for (File file : files) {
+			if (file.isDeleted()) {
+				throw new IllegalStateException("삭제된 파일입니다. ID=" + file.getId());
+			}
+			String url = presignGet(file.getFilename(), PRESIGNED_GET_SECONDS);
+			presignedUrlCache.put(file.getId(), url);
+			result.put(file.getId(), url);
+			ids.remove(file.getId());
+		}
 
-		PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-		return presignedRequest.url().toString();
+		if (!ids.isEmpty()) {
+			throw new IllegalArgumentException("해당 파일이 존재하지 않습니다. ID=" + ids);
+		}
+		return result;
 	}
 
 	@Override
@@ -193,20 +262,69 @@ public class FileServiceImpl implements FileService {
 		try {
 			HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
 				.bucket(bucket).key(req.getKey()).build());
-			if (req.getSize() != null && head.contentLength() != req.getSize()) {
-				log.warn("사이즈 불일치: client={}, s3={}", req.getSize(), head.contentLength());
-			}
-			if (req.getEtag() != null) {
-				String got = head.eTag(); // 보통 "..." 형태
-				String want = req.getEtag();
-				if (!want.equals(got) && !want.equals(got.replace("\"",""))) {
-					throw new IllegalStateException("ETag 불일치");
-				}
-			}
+			verifyHead(req, head);
 		} catch (Exception e) {
 			throw new IllegalStateException("S3 업로드 확인 실패(HEAD 실패): key=" + req.getKey(), e);
 		}
 
+		return saveConfirmed(req);
+	}
+
+	@Override
+	public CompletableFuture<FileUploadRes> uploadFileAsync(String directory, MultipartFile file) {
+		// S3 업로드는 S3AsyncClient로 수행하고, DB 저장은 fileIoExecutor 스레드에서 이어서 실행
+		return s3AsyncUploader.upload(directory, file)
+			.thenApply(filename -> {
+				File savedFile = fileRepository.save(File.builder()
+					.fileType(FileType.valueOf(directory.toUpperCase()))
+					.filename(filename)
+					.isDeleted(false)
+					.build());
+
+				log.info("파일 저장 완료: id={}, filename={}", savedFile.getId(), filename);
+
+				return FileUploadRes.builder()
+					.fileId(savedFile.getId())
+					.url(s3Prefix + filename)
+					.build();
+			});
+	}
+
+	@Override
+	public CompletableFuture<UploadConfirmRes> confirmUploadAsync(UploadConfirmReq req, Long uploaderId) {
+		return s3AsyncUploader.head(req.getKey())
+			.handle((head, e) -> {
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				if (cause instanceof ServiceBusyException busy) {
+					// 스레드 풀 포화는 S3 확인 실패가 아니므로 그대로 전달 (503)
+					throw busy;
+				}
+				try {
+					if (cause != null) {
+						throw cause;
+					}
+					verifyHead(req, head);
+				} catch (Throwable t) {
+					throw new IllegalStateException("S3 업로드 확인 실패(HEAD 실패): key=" + req.getKey(), t);
+				}
+				return saveConfirmed(req);
+			});
+	}
+
+	private void verifyHead(UploadConfirmReq req, HeadObjectResponse head) {
+		if (req.getSize() != null && head.contentLength() != req.getSize()) {
+			log.warn("사이즈 불일치: client={}, s3={}", req.getSize(), head.contentLength());
+		}
+		if (req.getEtag() != null) {
+			String got = head.eTag(); // 보통 "..." 형태
+			String want = req.getEtag();
+			if (!want.equals(got) && !want.equals(got.replace("\"",""))) {
+				throw new IllegalStateException("ETag 불일치");
+			}
+		}
+	}
+
+	private UploadConfirmRes saveConfirmed(UploadConfirmReq req) {
 		// DB 저장 (기존 구조 재사용: filename=key)
 		// fileType은 key 경로에서 역추론 가능하나, 필요시 confirmReq에 넣어도 됨
 		FileType type = guessTypeFromKey(req.getKey());
@@ -217,7 +335,8 @@ public class FileServiceImpl implements FileService {
 			.build());
 
 		// 조회용 URL: 짧은 Pre-Signed GET(10분)
-		String viewUrl = presignGet(req.getKey(), 600);
+		String viewUrl = presignGet(req.getKey(), PRESIGNED_GET_SECONDS);
+		presignedUrlCache.put(saved.getId(), viewUrl);
 		return UploadConfirmRes.builder()
 			.fileId(saved.getId())
 			.viewUrl(viewUrl)
@@ -0,0 +1,67 @@
+package com.communet.malmoon.file.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * fileId 기준 Presigned GET URL 캐시
+ * - 서명 유효시간(10분)보다 짧게 보관하여 만료 직전 URL이 응답되지 않도록 함
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 파일의 S3 키는 바뀌지 않고 교체 시 새 fileId가 생기므로 별도 무효화 없이 TTL로만 만료
+ */
+@Component
+public class PresignedUrlCache {
+
+	private final Cache<Long, String> cache;
+
+	public PresignedUrlCache(
+		@Value("${file.presigned-cache.max-size:10000}") long maxSize,
+		@Value("${file.presigned-cache.ttl-seconds:480}") long ttlSeconds) {
+		this(maxSize, ttlSeconds, Ticker.systemTicker());
+	}
+
+	PresignedUrlCache(long maxSize, long ttlSeconds, Ticker ticker) {
+		// 서명 유효시간 이상 보관하면 이미 만료된 URL을 응답하게 되므로 설정 단계에서 거절
+		if (ttlSeconds >= FileServiceImpl.PRESIGNED_GET_SECONDS) {
+			throw new IllegalArgumentException("presigned URL 캐시 TTL은 서명 유효시간("
+				+ FileServiceImpl.PRESIGNED_GET_SECONDS + "초)보다 짧아야 합니다. ttlSeconds=" + ttlSeconds);
+		}
+		this.cache = CacheBuilder.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.ticker(ticker)
+			.build();
+	}
+
+	/**
+	 * 캐시된 URL 조회
+	 *
+	 * @param fileId 파일 ID
+	 * @return 캐시된 presigned URL, 없으면 null
+	 */
+	public String get(Long fileId) {
+		return cache.getIfPresent(fileId);
+	}
+
+	/**
+	 * 여러 fileId의 캐시된 URL을 한 번에 조회합니다. 캐시에 없는 ID는 결과에 포함되지 않습니다.
+	 *
+	 * @param fileIds 파일 ID 목록
+	 * @return fileId → presigned URL
+	 */
+	public Map<Long, String> getAll(Collection<Long> fileIds) {
+		return cache.getAllPresent(fileIds);
+	}
+
+	public void put(Long fileId, String url) {
+		cache.put(fileId, url);
+	}
+}
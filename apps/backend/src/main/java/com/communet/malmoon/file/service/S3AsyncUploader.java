@@ -0,0 +1,264 @@
+package com.communet.malmoon.file.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.communet.malmoon.common.exception.ServiceBusyException;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * AWS S3 비동기 업로더
+ * - 업로드는 S3AsyncClient(Netty)로 수행하여 S3 응답을 기다리는 동안 스레드를 점유하지 않음
+ * - 파트 크기보다 큰 파일은 multipart 업로드로 스트리밍 (파일 전체를 메모리에 올리지 않음)
+ * - fileIoExecutor는 로컬 임시 파일에서 파트 하나를 읽는 짧은 작업에만 사용하고, 동시 업로드 파트 수는 max-parts-in-flight로 제한
+ * - 완료 콜백은 fileIoExecutor에서 이어 후속 DB 작업이 Netty 이벤트 루프를 막지 않음
+ * - fileIoExecutor가 포화되면 호출 스레드에서 실행하지 않고 {@link ServiceBusyException}으로 실패한 future를 반환 (503)
+ */
+@Slf4j
+@Component
+public class S3AsyncUploader {
+
+	private static final String BUSY_MESSAGE = "파일 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+	private final S3AsyncClient s3AsyncClient;
+	private final ExecutorService fileIoExecutor;
+	private final String bucket;
+	private final int partSize;
+	private final int maxPartsInFlight;
+
+	public S3AsyncUploader(
+		S3AsyncClient s3AsyncClient,
+		@Qualifier("fileIoExecutor") ThreadPoolTaskExecutor fileIoExecutor,
+		@Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${file.upload.part-size-bytes:8388608}") int partSize,
+		@Value("${file.upload.max-parts-in-flight:4}") int maxPartsInFlight) {
+		if (partSize < S3Uploader.MIN_PART_SIZE) {
+			throw new IllegalArgumentException("multipart 파트 크기는 5MiB 이상이어야 합니다: " + partSize);
+		}
+		this.s3AsyncClient = s3AsyncClient;
+		this.fileIoExecutor = fileIoExecutor.getThreadPoolExecutor();
+		this.bucket = bucket;
+		this.partSize = partSize;
+		this.maxPartsInFlight = Math.max(1, maxPartsInFlight);
+	}
+
+	/**
+	 * S3에 파일을 비동기로 업로드합니다.
+	 *
+	 * @param directory 업로드 경로 (aac, profile 등)
+	 * @param file 업로드할 파일
+	 * @return S3 저장 키 (fileIoExecutor 포화 시 ServiceBusyException으로 실패)
+	 */
+	public CompletableFuture<String> upload(String directory, MultipartFile file) {
+		String key = S3Uploader.createKey(directory, file.getOriginalFilename());
+		CompletableFuture<String> upload = file.getSize() > partSize
+			? uploadMultipart(key, file)
+			: read(file::getBytes)
+				.thenCompose(bytes -> s3AsyncClient.putObject(PutObjectRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.contentType(file.getContentType())
+						.build(),
+					AsyncRequestBody.fromBytesUnsafe(bytes)))
+				.thenApply(response -> key);
+
+		return upload
+			.thenApplyAsync(uploadedKey -> uploadedKey, fileIoExecutor)
+			.exceptionally(e -> {
+				throw busyIfRejected(e);
+			});
+	}
+
+	/**
+	 * S3 오브젝트 메타데이터를 비동기로 조회합니다.
+	 *
+	 * @param key S3 키
+	 * @return HEAD 응답 (fileIoExecutor 포화 시 ServiceBusyException으로 실패)
+	 */
+	public CompletableFuture<HeadObjectResponse> head(String key) {
+		return s3AsyncClient.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build())
+			.thenApplyAsync(response -> response, fileIoExecutor)
+			.exceptionally(e -> {
+				throw busyIfRejected(e);
+			});
+	}
+
+	private CompletableFuture<String> uploadMultipart(String key, MultipartFile file) {
+		InputStream inputStream;
+		try {
+			inputStream = file.getInputStream();
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		MultipartState state = new MultipartState(key, inputStream);
+		return s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.contentType(file.getContentType())
+				.build())
+			.thenCompose(created -> {
+				state.uploadId = created.uploadId();
+				return uploadParts(state, 1);
+			})
+			.thenCompose(ignored -> CompletableFuture.allOf(state.parts.toArray(CompletableFuture[]::new)))
+			.thenCompose(ignored -> {
+				List<CompletedPart> completedParts = state.parts.stream().map(CompletableFuture::join).toList();
+				return s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.uploadId(state.uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+					.build());
+			})
+			.handle((completed, e) -> {
+				closeQuietly(inputStream);
+				if (e != null) {
+					state.parts.forEach(part -> part.cancel(true));
+					abort(state);
+					throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+				}
+				log.info("S3 multipart 업로드 완료: key={}, parts={}", key, state.parts.size());
+				return key;
+			});
+	}
+
+	/**
+	 * 파트를 하나씩 읽어 업로드를 시작하고, 업로드 중인 파트가 max-parts-in-flight에 도달하면
+	 * 가장 오래된 파트가 끝난 뒤에 다음 파트를 읽습니다. (메모리 사용량을 (동시 파트 수 + 1) x 파트 크기로 고정)
+	 */
+	private CompletableFuture<Void> uploadParts(MultipartState state, int partNumber) {
+		return read(() -> state.inputStream.readNBytes(partSize))
+			.thenCompose(bytes -> {
+				if (bytes.length == 0) {
+					return CompletableFuture.completedFuture(null);
+				}
+				state.parts.add(uploadPart(state, partNumber, bytes));
+				if (bytes.length < partSize) {
+					return CompletableFuture.completedFuture(null);
+				}
+
+				int oldestInFlight = state.parts.size() - maxPartsInFlight;
+				CompletableFuture<?> slot = oldestInFlight >= 0
+					? state.parts.get(oldestInFlight)
+					: CompletableFuture.completedFuture(null);
+				return slot.thenCompose(ignored -> state.failedPart()
+					.<CompletableFuture<Void>>map(failed -> failed.thenApply(part -> null))
+					.orElseGet(() -> uploadParts(state, partNumber + 1)));
+			});
+	}
+
+	private CompletableFuture<CompletedPart> uploadPart(MultipartState state, int partNumber, byte[] bytes) {
+		return s3AsyncClient.uploadPart(UploadPartRequest.builder()
+					.bucket(bucket)
+					.key(state.key)
+					.uploadId(state.uploadId)
+					.partNumber(partNumber)
+					.contentLength((long)bytes.length)
+					.build(),
+				AsyncRequestBody.fromBytesUnsafe(bytes))
+			.thenApply(response -> CompletedPart.builder()
+				.partNumber(partNumber)
+				.eTag(response.eTag())
+				.build());
+	}
+
+	/**
+	 * 로컬 임시 파일 읽기만 fileIoExecutor에서 수행합니다.
+	 */
+	private CompletableFuture<byte[]> read(Callable<byte[]> reader) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return reader.call();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			}, fileIoExecutor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new ServiceBusyException(BUSY_MESSAGE));
+		}
+	}
+
+	private void abort(MultipartState state) {
+		if (state.uploadId == null) {
+			return;
+		}
+		s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(state.key)
+				.uploadId(state.uploadId)
+				.build())
+			.whenComplete((response, e) -> {
+				if (e != null) {
+					log.error("S3 multipart 업로드 중단 실패: key={}, uploadId={}", state.key, state.uploadId, e);
+				}
+			});
+	}
+
+	private static void closeQuietly(InputStream inputStream) {
+		try {
+			inputStream.close();
+		} catch (IOException e) {
+			log.warn("업로드 스트림 닫기 실패", e);
+		}
+	}
+
+	private static CompletionException busyIfRejected(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		if (cause instanceof RejectedExecutionException) {
+			return new CompletionException(new ServiceBusyException(BUSY_MESSAGE));
+		}
+		return e instanceof CompletionException completion ? completion : new CompletionException(e);
+	}
+
+	/**
+	 * multipart 업로드 한 건의 진행 상태 (파트 읽기는 순차적으로 이어지므로 별도 동기화가 필요 없음)
+	 */
+	private static final class MultipartState {
+
+		private final String key;
+		private final InputStream inputStream;
+		private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+		private volatile String uploadId;
+
+		private MultipartState(String key, InputStream inputStream) {
+			this.key = key;
+			this.inputStream = inputStream;
+		}
+
+		/** 이미 실패한 파트가 있으면 남은 파트를 읽지 않고 바로 실패시키기 위해 사용 */
+		private Optional<CompletableFuture<CompletedPart>> failedPart() {
+			return parts.stream().filter(CompletableFuture::isCompletedExceptionally).findFirst();
+		}
+	}
+}
@@ -1,30 +1,75 @@
 package com.communet.malmoon.file.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * AWS S3 업로더
  * - S3에 파일 업로드 및 URL 반환 처리
+ * - 파트 크기보다 큰 파일은 multipart 업로드로 스트리밍 (파일 전체를 메모리에 올리지 않음)
+ * - 첫 파트는 읽은 만큼만 버퍼링하여, 파트 크기에 도달했을 때만 multipart로 전환 (작은 파일은 파일 크기만큼만 할당)
+ * - 동시에 업로드 중인 파트 수를 제한하여 업로드당 메모리 사용량을 (동시 파트 수 + 1) x 파트 크기로 고정
+ * - 업로드가 끝난 파트 버퍼는 풀에 반납하여 다음 파트/업로드에서 재사용 (풀에 남기는 버퍼 수는 pooled-buffers로 제한)
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3Uploader {
 
+	/** S3 multipart 업로드의 마지막 파트를 제외한 최소 파트 크기 (5MiB) */
+	static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
 	private final S3Client s3Client;
+	private final Executor uploadExecutor;
+	private final String bucket;
+	private final int partSize;
+	private final int maxPartsInFlight;
+	private final BlockingQueue<byte[]> partBuffers;
 
-	@Value("${cloud.aws.s3.bucket}")
-	private String bucket;
+	public S3Uploader(
+		S3Client s3Client,
+		@Qualifier("s3UploadExecutor") Executor uploadExecutor,
+		@Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${file.upload.part-size-bytes:8388608}") int partSize,
+		@Value("${file.upload.max-parts-in-flight:4}") int maxPartsInFlight,
+		@Value("${file.upload.pooled-buffers:4}") int pooledBuffers) {
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("multipart 파트 크기는 5MiB 이상이어야 합니다: " + partSize);
+		}
+		this.s3Client = s3Client;
+		this.uploadExecutor = uploadExecutor;
+		this.bucket = bucket;
+		this.partSize = partSize;
+		this.maxPartsInFlight = maxPartsInFlight;
+		this.partBuffers = new ArrayBlockingQueue<>(Math.max(1, pooledBuffers));
+	}
 
 	/**
 	 * S3에 파일 업로드
@@ -35,9 +80,15 @@ public class S3Uploader {
 	 * @throws IOException 파일 스트림 처리 중 예외 발생 시
 	 */
 	public String upload(String directory, MultipartFile file) throws IOException {
+		// 파트 크기보다 큰 파일(자격 증빙 PDF, 영상, 음성 등)은 multipart 스트리밍
+		if (file.getSize() > partSize) {
+			try (InputStream inputStream = file.getInputStream()) {
+				return upload(directory, inputStream, file.getOriginalFilename(), file.getContentType());
+			}
+		}
+
 		String originalFilename = file.getOriginalFilename();
-		String uuid = UUID.randomUUID().toString();
-		String fileName = directory + "/" + uuid + "_" + originalFilename;
+		String fileName = createKey(directory, originalFilename);
 
 		// S3 업로드 요청 생성
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -55,28 +106,170 @@ public class S3Uploader {
 	}
 
 	/**
-	 * java.io.File 기반 업로드 (InputStream 사용)
+	 * InputStream 기반 스트리밍 업로드
+	 * 길이를 모르는 스트림도 처리하며, 첫 파트 크기 이내에서 끝나면 단일 PUT, 아니면 multipart 업로드를 사용합니다.
 	 *
 	 * @param directory 업로드 경로 (aac/create 등)
-	 * @param inputStream 파일 스트림
+	 * @param inputStream 파일 스트림 (호출 측에서 닫음)
 	 * @param originalFilename 원본 파일명 (확장자 포함)
+	 * @param contentType 콘텐츠 타입
 	 * @return S3 저장 키 (ex: aac/create/uuid_filename.png)
-	 * @throws IOException 스트림 처리 예외
+	 * @throws IOException 스트림 처리 또는 업로드 실패 시
 	 */
 	public String upload(String directory, InputStream inputStream, String originalFilename, String contentType) throws
 		IOException {
-		String uuid = UUID.randomUUID().toString();
-		String fileName = directory + "/" + uuid + "_" + originalFilename;
+		String fileName = createKey(directory, originalFilename);
 
-		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+		// 읽은 크기만큼만 버퍼를 늘려 가며 첫 파트를 읽음 (파트 크기를 미리 할당하지 않음)
+		byte[] firstPart = inputStream.readNBytes(partSize);
+		int firstLength = firstPart.length;
+
+		if (firstLength < partSize) {
+			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+				.bucket(bucket)
+				.key(fileName)
+				.contentType(contentType)
+				.build();
+
+			s3Client.putObject(putObjectRequest,
+				RequestBody.fromInputStream(new ByteArrayInputStream(firstPart, 0, firstLength), firstLength));
+			return fileName;
+		}
+
+		uploadMultipart(fileName, contentType, inputStream, firstPart);
+		return fileName;
+	}
+
+	private void uploadMultipart(String key, String contentType, InputStream inputStream, byte[] firstPart) throws
+		IOException {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
 			.bucket(bucket)
-			.key(fileName)
+			.key(key)
 			.contentType(contentType)
-			.build();
+			.build()).uploadId();
 
-		s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, inputStream.available()));
+		Semaphore inFlight = new Semaphore(maxPartsInFlight);
+		List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
 
-		return fileName;
+		try {
+			byte[] buffer = firstPart;
+			int length = partSize;
+			int partNumber = 1;
+
+			while (true) {
+				// 파트 버퍼는 업로드 작업에 넘기기 전까지 이 반복이 소유 (중단/예외 시 finally에서 풀에 반납)
+				boolean handedOff = false;
+				try {
+					if (buffer == null) {
+						buffer = borrowBuffer();
+						length = inputStream.readNBytes(buffer, 0, partSize);
+						if (length == 0) {
+							break;
+						}
+					}
+					// 동시 업로드 파트 수 제한 (완료된 파트의 버퍼는 업로드 작업이 풀에 반납)
+					inFlight.acquire();
+					parts.add(uploadPartAsync(key, uploadId, partNumber++, buffer, length, inFlight));
+					handedOff = true;
+				} finally {
+					if (!handedOff) {
+						releaseBuffer(buffer);
+					}
+				}
+
+				if (length < partSize || parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+					break;
+				}
+				buffer = null;
+			}
+
+			List<CompletedPart> completedParts = parts.stream()
+				.map(CompletableFuture::join)
+				.toList();
+
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+				.build());
+
+			log.info("S3 multipart 업로드 완료: key={}, parts={}", key, completedParts.size());
+		} catch (Exception e) {
+			parts.forEach(part -> part.cancel(true));
+			abort(key, uploadId);
+
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			throw cause instanceof IOException io ? io : new IOException("S3 multipart 업로드 실패: " + key, cause);
+		}
+	}
+
+	private CompletableFuture<CompletedPart> uploadPartAsync(String key, String uploadId, int partNumber,
+		byte[] buffer, int length, Semaphore inFlight) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.partNumber(partNumber)
+							.contentLength((long)length)
+							.build(),
+						RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+
+					return CompletedPart.builder()
+						.partNumber(partNumber)
+						.eTag(response.eTag())
+						.build();
+				} finally {
+					releaseBuffer(buffer);
+					inFlight.release();
+				}
+			}, uploadExecutor);
+		} catch (RejectedExecutionException e) {
+			// 작업이 실행되지 않으므로 permit만 되돌리고, 버퍼는 호출 측에서 반납
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	private byte[] borrowBuffer() {
+		byte[] buffer = partBuffers.poll();
+		return buffer != null ? buffer : new byte[partSize];
+	}
+
+	/**
+	 * 파트 크기의 버퍼만 풀에 반납합니다. 풀이 가득 차면 버리고 GC에 맡깁니다.
+	 */
+	private void releaseBuffer(byte[] buffer) {
+		if (buffer.length == partSize) {
+			partBuffers.offer(buffer);
+		}
+	}
+
+	int pooledBufferCount() {
+		return partBuffers.size();
+	}
+
+	private void abort(String key, String uploadId) {
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.build());
+		} catch (Exception e) {
+			log.error("S3 multipart 업로드 중단 실패: key={}, uploadId={}", key, uploadId, e);
+		}
+	}
+
+	static String createKey(String directory, String originalFilename) {
+		String uuid = UUID.randomUUID().toString();
+		return directory + "/" + uuid + "_" + originalFilename;
 	}
 
 	/**
@@ -3,10 +3,19 @@ package com.communet.malmoon.filter.repository;
 import com.communet.malmoon.filter.domain.FilterSet;
 import com.communet.malmoon.filter.domain.FilterSetInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface FilterSetInfoRepository extends JpaRepository<FilterSetInfo, Long> {
+public interface FilterSetInfoRepository extends JpaRepository<FilterSetInfo, Long>, FilterSetInfoRepositoryCustom {
     List<FilterSetInfo> findByFilterSet(FilterSet filterSet);
-    void deleteByFilterSet(FilterSet filterSet);
+
+    /**
+     * 필터 묶음의 모든 구성 항목을 단일 DELETE 쿼리로 삭제합니다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from FilterSetInfo i where i.filterSet = :filterSet")
+    void deleteByFilterSet(@Param("filterSet") FilterSet filterSet);
 }
@@ -0,0 +1,17 @@
+package com.communet.malmoon.filter.repository;
+
+import java.util.List;
+
+/**
+ * 필터 묶음 구성(FilterSetInfo) 일괄 저장을 정의합니다.
+ */
+public interface FilterSetInfoRepositoryCustom {
+
+    /**
+     * 필터 묶음에 필터들을 JDBC 배치로 한 번에 저장합니다.
+     *
+     * @param filterSetId 필터 묶음 ID
+     * @param filterIds 묶음에 포함할 필터 ID 목록
+     */
+    void batchInsert(Long filterSetId, List<Long> filterIds);
+}
@@ -0,0 +1,24 @@
+package com.communet.malmoon.filter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FilterSetInfoRepositoryCustomImpl implements FilterSetInfoRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO filter_set_info (filter_set_filter_set_id, filter_filter_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(Long filterSetId, List<Long> filterIds) {
+        // IDENTITY 키는 Hibernate 배치 insert가 비활성화되므로 JDBC 배치로 직접 저장
+        List<Object[]> params = filterIds.stream()
+                .map(filterId -> new Object[]{filterSetId, filterId})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params);
+    }
+}
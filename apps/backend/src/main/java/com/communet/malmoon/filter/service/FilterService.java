@@ -19,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,13 +37,16 @@ public class FilterService {
     }
 
     private List<FilterDto> filterToDto(List<Filter> filters) {
+        Map<Long, String> fileUrls = fileService.getPresignedFileUrls(
+                filters.stream().map(Filter::getFileId).toList());
+
         List<FilterDto> filterDtoList = new ArrayList<>();
         filters.forEach(filter -> {
             FilterDto filterDto = new FilterDto();
             filterDto.setFilterId(filter.getFilterId());
             filterDto.setName(filter.getName());
             filterDto.setFilterLensId(filter.getFilterLensId());
-            filterDto.setFileUrl(fileService.getPresignedFileUrl(filter.getFileId()));
+            filterDto.setFileUrl(fileUrls.get(filter.getFileId()));
             filterDtoList.add(filterDto);
         });
         return filterDtoList;
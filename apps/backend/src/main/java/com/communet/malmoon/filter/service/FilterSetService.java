@@ -1,6 +1,5 @@
 package com.communet.malmoon.filter.service;
 
-import com.communet.malmoon.filter.domain.Filter;
 import com.communet.malmoon.filter.domain.FilterSet;
 import com.communet.malmoon.filter.domain.FilterSetInfo;
 import com.communet.malmoon.filter.dto.request.FilterSetCreateReq;
@@ -56,16 +55,9 @@ public class FilterSetService {
                         .build()
         );
 
-        // 2. FilterSetInfo 저장
-        for (Long filterId : request.getFilterIds()) {
-            Filter filter = filterRepository.findById(filterId)
-                    .orElseThrow(() -> new FilterException(FilterErrorCode.FILTER_NOT_FOUND));
-
-            filterSetInfoRepository.save(FilterSetInfo.builder()
-                    .filterSet(filterSet)
-                    .filter(filter)
-                    .build());
-        }
+        // 2. FilterSetInfo 저장 (존재 여부 일괄 검증 후 배치 insert)
+        validateFiltersExist(request.getFilterIds());
+        filterSetInfoRepository.batchInsert(filterSet.getFilterSetId(), request.getFilterIds());
 
         return FilterSetCreateRes.builder().filterSetId(filterSet.getFilterSetId()).build();
     }
@@ -112,21 +104,17 @@ public class FilterSetService {
             throw new FilterException(FilterErrorCode.UNAUTHORIZED_ACCESS);
         }
 
+        List<Long> filterIds = request.getFilterIds() == null ? List.of() : request.getFilterIds();
+        validateFiltersExist(filterIds);
+
         // 이름, 설명 수정
         filterSet.setName(request.getName());
         filterSet.setDescription(request.getDescription());
 
-        // 기존 매핑 삭제 후 재등록
+        // 기존 매핑 일괄 삭제 후 배치 재등록
         filterSetInfoRepository.deleteByFilterSet(filterSet);
-
-        for (Long filterId : request.getFilterIds()) {
-            Filter filter = filterRepository.findById(filterId)
-                    .orElseThrow(() -> new FilterException(FilterErrorCode.FILTER_NOT_FOUND));
-
-            filterSetInfoRepository.save(FilterSetInfo.builder()
-                    .filterSet(filterSet)
-                    .filter(filter)
-                    .build());
+        if (!filterIds.isEmpty()) {
+            filterSetInfoRepository.batchInsert(filterSetId, filterIds);
         }
     }
 
@@ -145,4 +133,17 @@ public class FilterSetService {
         filterSetInfoRepository.deleteByFilterSet(filterSet);
         filterSetRepository.delete(filterSet);
     }
+
+    /**
+     * 요청된 필터가 모두 존재하는지 한 번의 조회로 검증합니다.
+     */
+    private void validateFiltersExist(List<Long> filterIds) {
+        if (filterIds.isEmpty()) {
+            return;
+        }
+        Set<Long> uniqueIds = new HashSet<>(filterIds);
+        if (filterRepository.findAllById(uniqueIds).size() != uniqueIds.size()) {
+            throw new FilterException(FilterErrorCode.FILTER_NOT_FOUND);
+        }
+    }
 }
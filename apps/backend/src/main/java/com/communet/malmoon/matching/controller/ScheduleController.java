@@ -8,6 +8,7 @@ import com.communet.malmoon.matching.dto.request.ScheduleUpdateReq;
 import com.communet.malmoon.matching.dto.response.*;
 import com.communet.malmoon.matching.service.ScheduleService;
 import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -58,7 +59,7 @@ public class ScheduleController {
 
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ROLE_THERAPIST')")
-    public ResponseEntity<List<MemberPendingRes>> getPendingSchedules(@CurrentMember Member member) {
+    public ResponseEntity<List<MemberPendingRes>> getPendingSchedules(@CurrentMember MemberPrincipal member) {
         return ResponseEntity.ok(scheduleService.getPendingSchedules(member.getMemberId()));
     }
 
@@ -86,14 +87,14 @@ public class ScheduleController {
     }
 
     @GetMapping("/me/today")
-    public ResponseEntity<List<MemberScheduleRes>> getMemberSchedules(@CurrentMember Member member) {
+    public ResponseEntity<List<MemberScheduleRes>> getMemberSchedules(@CurrentMember MemberPrincipal member) {
         return ResponseEntity.ok(scheduleService.getMemberSchedules(member.getMemberId()));
     }
 
     @GetMapping("/therapist/date")
     @PreAuthorize("hasRole('ROLE_THERAPIST')")
     public ResponseEntity<List<TherapistScheduleRes>> getTherapistSchedule(
-            @CurrentMember Member member,
+            @CurrentMember MemberPrincipal member,
             @RequestParam LocalDate date) {
         return ResponseEntity.ok(scheduleService.getTherapistSchedules(member.getMemberId(), date));
     }
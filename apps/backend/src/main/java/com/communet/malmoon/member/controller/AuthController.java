@@ -8,9 +8,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.communet.malmoon.member.dto.request.MemberLoginReq;
+import com.communet.malmoon.member.dto.request.TokenRefreshReq;
 import com.communet.malmoon.member.dto.response.MemberLoginRes;
+import com.communet.malmoon.member.dto.response.TokenRefreshRes;
 import com.communet.malmoon.member.service.AuthService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,4 +35,14 @@ public class AuthController {
 		MemberLoginRes memberLoginRes = authService.login(memberLoginReq);
 		return ResponseEntity.ok(memberLoginRes);
 	}
+
+	/**
+	 * 토큰 재발급 API
+	 * @param tokenRefreshReq 로그인 또는 이전 재발급 때 받은 리프레시 토큰
+	 * @return 새 액세스 토큰과 리프레시 토큰 (이전 리프레시 토큰은 더 이상 사용할 수 없음)
+	 */
+	@PostMapping("/refresh")
+	public ResponseEntity<TokenRefreshRes> refresh(@RequestBody @Valid TokenRefreshReq tokenRefreshReq) {
+		return ResponseEntity.ok(authService.refresh(tokenRefreshReq));
+	}
 }
@@ -0,0 +1,10 @@
+package com.communet.malmoon.member.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class TokenRefreshReq {
+	@NotBlank(message = "리프레시 토큰은 필수입니다.")
+	private String refreshToken;
+}
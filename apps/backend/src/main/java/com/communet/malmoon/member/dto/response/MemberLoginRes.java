@@ -12,6 +12,7 @@ import java.time.LocalDate;
 @Builder
 public class MemberLoginRes {
 	private String accessToken;
+	private String refreshToken;
 	private Long memberId;
 	private String email;
 	private String name;
@@ -0,0 +1,11 @@
+package com.communet.malmoon.member.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TokenRefreshRes {
+	private String accessToken;
+	private String refreshToken;
+}
@@ -0,0 +1,7 @@
+package com.communet.malmoon.member.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+	public InvalidRefreshTokenException(String message) {
+		super(message);
+	}
+}
@@ -1,5 +1,7 @@
 package com.communet.malmoon.member.exception;
 
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +13,7 @@ import com.communet.malmoon.common.exception.ExceptionResponseUtils;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RestControllerAdvice(basePackages = "com.communet.malmoon.member")
 public class MemberExceptionHandler {
 
@@ -20,4 +23,11 @@ public class MemberExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT)
 			.body(ExceptionResponseUtils.build(HttpStatus.CONFLICT, e.getMessage(), request));
 	}
+
+	@ExceptionHandler(InvalidRefreshTokenException.class)
+	public ResponseEntity<?> handleInvalidRefreshToken(InvalidRefreshTokenException e, WebRequest request) {
+		log.warn("InvalidRefreshTokenException: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+			.body(ExceptionResponseUtils.build(HttpStatus.UNAUTHORIZED, e.getMessage(), request));
+	}
 }
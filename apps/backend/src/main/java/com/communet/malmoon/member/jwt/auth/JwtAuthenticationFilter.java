@@ -16,11 +16,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
-import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+import com.communet.malmoon.member.service.TokenVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 
@@ -32,18 +32,31 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * 요청 헤더에 JWT 토큰이 있는 경우:
  *  - 토큰 유효성 검사
- *  - 사용자 정보 추출
+ *  - 사용자 정보 추출 (회원 식별 정보는 캐시에서 조회하여 인증 객체의 details에 보관)
  *  - Spring Security 인증 객체(SecurityContextHolder)에 설정
  *
  * 인증 실패 시 401 Unauthorized 응답 반환
  */
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
-	private final MemberRepository memberRepository;
+	private static final String REFRESH_PATH = "/api/v1/auth/refresh";
 
-	public JwtAuthenticationFilter(AuthenticationManager authenticationManager, MemberRepository memberRepository) {
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final TokenVersionService tokenVersionService;
+
+	public JwtAuthenticationFilter(AuthenticationManager authenticationManager,
+		MemberPrincipalCache memberPrincipalCache, TokenVersionService tokenVersionService) {
 		super(authenticationManager);
-		this.memberRepository = memberRepository;
+		this.memberPrincipalCache = memberPrincipalCache;
+		this.tokenVersionService = tokenVersionService;
+	}
+
+	/**
+	 * 토큰 재발급 요청은 만료된 액세스 토큰이 헤더에 남아 있어도 통과 (리프레시 토큰으로만 인증)
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return REFRESH_PATH.equals(request.getRequestURI());
 	}
 
 	/**
@@ -86,32 +99,44 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
 	/**
 	 * JWT 토큰에서 사용자 정보를 추출하여 Authentication 객체 생성
+	 * - memberId가 담긴 토큰은 DB 조회 없이 클레임으로 인증하고, 폐기 여부만 토큰 버전으로 확인
+	 * - 이전 형식 토큰(email, role만 포함)은 이메일로 회원 식별 정보를 조회 (캐시)
 	 */
 	@Transactional(readOnly = true)
 	public Authentication getAuthentication(HttpServletRequest request) throws Exception {
 		String token = request.getHeader(JwtTokenUtil.HEADER_STRING);
 		if (token != null) {
-			JWTVerifier verifier = JwtTokenUtil.getVerifier();
-			JwtTokenUtil.handleError(token);
-			DecodedJWT decodedJWT = verifier.verify(token.replace(JwtTokenUtil.TOKEN_PREFIX, ""));
+			// 검증은 요청당 한 번 (최근 검증한 토큰은 캐시된 결과 사용)
+			DecodedJWT decodedJWT = JwtTokenUtil.verify(token);
 			String email = decodedJWT.getSubject();
 
+			if (!decodedJWT.getClaim(JwtTokenUtil.CLAIM_MEMBER_ID).isNull()) {
+				MemberPrincipal principal = MemberPrincipal.from(decodedJWT);
+				Long tokenVersion = decodedJWT.getClaim(JwtTokenUtil.CLAIM_TOKEN_VERSION).asLong();
+				if (tokenVersionService.isRevoked(principal.getMemberId(), tokenVersion == null ? 0L : tokenVersion)) {
+					throw new JWTVerificationException("폐기된 토큰입니다.");
+				}
+				return createAuthentication(email, decodedJWT, principal);
+			}
+
 			if (email != null) {
-				Optional<Member> member = memberRepository.getByEmail(email);
-				if(member.isPresent()) {
-					String role = decodedJWT.getClaim("role").asString();
-					Collection<? extends GrantedAuthority> authorities =
-							List.of(new SimpleGrantedAuthority(role));
-					MemberDetails userDetails = new MemberDetails(member.get());
-					UsernamePasswordAuthenticationToken jwtAuthentication = new UsernamePasswordAuthenticationToken(email,
-						null, authorities);
-					jwtAuthentication.setDetails(userDetails);
-					return jwtAuthentication;
+				Optional<MemberPrincipal> principal = memberPrincipalCache.get(email);
+				if(principal.isPresent()) {
+					return createAuthentication(email, decodedJWT, principal.get());
 				}
 			}
 			return null;
 		}
 		return null;
 	}
-}
 
+	private Authentication createAuthentication(String email, DecodedJWT decodedJWT, MemberPrincipal principal) {
+		String role = decodedJWT.getClaim(JwtTokenUtil.CLAIM_ROLE).asString();
+		Collection<? extends GrantedAuthority> authorities =
+				List.of(new SimpleGrantedAuthority(role));
+		UsernamePasswordAuthenticationToken jwtAuthentication = new UsernamePasswordAuthenticationToken(email,
+			null, authorities);
+		jwtAuthentication.setDetails(principal);
+		return jwtAuthentication;
+	}
+}
@@ -0,0 +1,35 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증된 요청의 회원 식별 정보 (요청마다 DB를 조회하지 않도록 엔티티 대신 보관하는 가벼운 값)
+ * - JwtAuthenticationFilter에서 한 번 확인하여 인증 객체에 담고, @CurrentMember 해석 시 재사용
+ * - 컨트롤러에서 {@code @CurrentMember MemberPrincipal}로 받으면 Member 엔티티를 조회하지 않음
+ * - 토큰 클레임으로 만든 경우 status는 알 수 없으므로 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberPrincipal {
+
+	private final Long memberId;
+	private final String email;
+	private final MemberType role;
+	private final MemberStatusType status;
+
+	public static MemberPrincipal from(Member member) {
+		return new MemberPrincipal(member.getMemberId(), member.getEmail(), member.getRole(), member.getStatus());
+	}
+
+	public static MemberPrincipal from(DecodedJWT jwt) {
+		return new MemberPrincipal(jwt.getClaim(JwtTokenUtil.CLAIM_MEMBER_ID).asLong(), jwt.getSubject(),
+			MemberType.valueOf(jwt.getClaim(JwtTokenUtil.CLAIM_ROLE).asString()), null);
+	}
+}
@@ -1,8 +1,12 @@
 package com.communet.malmoon.member.jwt.util;
 
-import java.time.Instant;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -11,14 +15,21 @@ import org.springframework.stereotype.Component;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.communet.malmoon.member.domain.MemberType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import jakarta.annotation.PostConstruct;
 
 /**
  * JWT 토큰 관련 유틸리티 클래스
  * - 토큰 생성, 검증, 만료시간 계산, 예외 처리 기능 제공
+ * - 서명 알고리즘과 검증기는 시작 시 한 번만 만들어 공유 (JWTVerifier는 불변이라 스레드 안전)
+ * - 최근 검증한 토큰은 다이제스트 → 디코딩 결과로 캐시하여 같은 토큰의 반복 검증을 생략 (토큰 만료 시각까지만 사용)
+ * - 토큰에 memberId, role, tokenVersion을 담아 인증 시 회원 조회 없이 식별 (tokenVersion으로 폐기 확인)
+ * - 액세스 토큰은 짧게 발급하고 만료 시 리프레시 토큰으로 재발급 (RefreshTokenService)
  */
 @Component
 public class JwtTokenUtil {
@@ -26,49 +37,79 @@ public class JwtTokenUtil {
 	@Value("${jwt.secret}")
 	private String secret; // 인스턴스 필드
 
-	@Value("${jwt.expiration}")
+	// 액세스 토큰 만료 시간(ms). 리프레시 흐름을 쓰는 클라이언트 기준으로 짧게 설정 (미설정 시 jwt.expiration)
+	@Value("${jwt.access-expiration-millis:${jwt.expiration}}")
 	private Integer expiration;
 
+	@Value("${jwt.verify-cache.max-size:10000}")
+	private long verifyCacheMaxSize;
+
+	@Value("${jwt.verify-cache.ttl-seconds:300}")
+	private long verifyCacheTtlSeconds;
+
 	public static String secretKey; // static 필드
 	public static int expirationTime;
 
+	private static Algorithm algorithm;
+	private static JWTVerifier verifier;
+	private static Cache<String, DecodedJWT> verifiedTokens;
+
 	@PostConstruct
 	public void init() {
+		configure(secret, expiration, verifyCacheMaxSize, Duration.ofSeconds(verifyCacheTtlSeconds));
+	}
+
+	/**
+	 * 서명 키와 검증 캐시를 설정합니다. (Spring 컨텍스트 밖의 벤치마크에서도 사용)
+	 */
+	static void configure(String secret, int expiration, long cacheMaxSize, Duration cacheTtl) {
 		secretKey = secret;
 		expirationTime = expiration;
+		algorithm = Algorithm.HMAC512(secret.getBytes());
+		verifier = JWT.require(algorithm)
+			.withIssuer(ISSUER)
+			.build();
+		verifiedTokens = CacheBuilder.newBuilder()
+			.maximumSize(cacheMaxSize)
+			.expireAfterWrite(cacheTtl)
+			.build();
 	}
 
 	public static final String TOKEN_PREFIX = "Bearer ";
 	public static final String HEADER_STRING = "Authorization";
 	public static final String ISSUER = "malmoon.communet.com";
+	public static final String CLAIM_MEMBER_ID = "memberId";
+	public static final String CLAIM_ROLE = "role";
+	public static final String CLAIM_TOKEN_VERSION = "tokenVersion";
 
 	/**
-	 * JWTVerifier 생성
-	 * - 토큰 검증 시 사용하는 객체
+	 * 공유 JWTVerifier 반환
+	 * - 토큰 검증 시 사용하는 객체 (시작 시 한 번 생성)
 	 * @return JWTVerifier 인스턴스
 	 */
 	public static JWTVerifier getVerifier() {
-		return JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
+		return verifier;
 	}
 
 	/**
-	 * JWT 토큰 생성 (email, 회원 유형 기반)
+	 * JWT 토큰 생성 (회원 ID, email, 회원 유형, 토큰 버전 기반)
+	 * @param memberId 회원 ID
 	 * @param email 사용자 이메일(토큰 subject)
 	 * @param memberType 사용자 타입(권한 정보)
+	 * @param tokenVersion 발급 시점의 토큰 버전 (이보다 높은 버전이 저장되면 폐기된 토큰)
 	 * @return 생성된 JWT 토큰 문자열
 	 */
-	public static String getToken(String email, MemberType memberType) {
+	public static String getToken(Long memberId, String email, MemberType memberType, long tokenVersion) {
 		Date expires = JwtTokenUtil.getTokenExpiration(expirationTime);
 		return JWT.create()
 			.withSubject(email)
-			.withClaim("role", memberType.name())
+			.withClaim(CLAIM_MEMBER_ID, memberId)
+			.withClaim(CLAIM_ROLE, memberType.name())
+			.withClaim(CLAIM_TOKEN_VERSION, tokenVersion)
 			.withExpiresAt(expires)
 			.withIssuer(ISSUER)
 			.withIssuedAt(Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()))
-			.sign(Algorithm.HMAC512(secretKey.getBytes()));
+			.sign(algorithm);
 	}
 
 	/**
@@ -81,37 +122,47 @@ public class JwtTokenUtil {
 		return new Date(now.getTime() + expirationTime);
 	}
 
+	/**
+	 * JWT 토큰 검증 (요청당 한 번 호출)
+	 * - 최근 검증에 성공한 같은 토큰이면 서명 검증 없이 캐시된 결과 반환
+	 * - 캐시된 토큰도 만료 시각이 지나면 다시 검증하여 TokenExpiredException 발생
+	 * @param token 검증할 JWT 토큰 문자열 (Bearer 접두어 포함 가능)
+	 * @return 디코딩된 토큰
+	 * @throws JWTVerificationException 검증 실패 시
+	 */
+	public static DecodedJWT verify(String token) {
+		String jwt = token.startsWith(TOKEN_PREFIX) ? token.substring(TOKEN_PREFIX.length()) : token;
+		String digest = digest(jwt);
+
+		DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+		if (cached != null) {
+			Date expiresAt = cached.getExpiresAt();
+			if (expiresAt == null || expiresAt.after(new Date())) {
+				return cached;
+			}
+			verifiedTokens.invalidate(digest);
+		}
+
+		DecodedJWT decoded = verifier.verify(jwt);
+		verifiedTokens.put(digest, decoded);
+		return decoded;
+	}
+
 	/**
 	 * JWT 토큰 검증 및 예외 처리 메서드
 	 * @param token 검증할 JWT 토큰 문자열 (Bearer 접두어 포함)
 	 * @throws JWTVerificationException 검증 실패 시 각종 예외 던짐
 	 */
 	public static void handleError(String token) {
-		JWTVerifier verifier = JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
+		verify(token);
+	}
 
+	private static String digest(String jwt) {
 		try {
-			verifier.verify(token.replace(TOKEN_PREFIX, ""));
-		} catch (AlgorithmMismatchException ex) {
-			throw ex;
-		} catch (InvalidClaimException ex) {
-			throw ex;
-		} catch (SignatureGenerationException ex) {
-			throw ex;
-		} catch (SignatureVerificationException ex) {
-			throw ex;
-		} catch (TokenExpiredException ex) {
-			throw ex;
-		} catch (JWTCreationException ex) {
-			throw ex;
-		} catch (JWTDecodeException ex) {
-			throw ex;
-		} catch (JWTVerificationException ex) {
-			throw ex;
-		} catch (Exception ex) {
-			throw ex;
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
 		}
 	}
 }
@@ -1,10 +1,13 @@
 package com.communet.malmoon.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.communet.malmoon.member.domain.MemberType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.communet.malmoon.member.domain.Member;
@@ -20,4 +23,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	List<Member> findByRole(MemberType role);
 
 	Member getMemberInfoByEmail(String therapistEmail);
+
+	/**
+	 * 회원 엔티티 전체 대신 ID와 닉네임만 조회합니다.
+	 */
+	@Query("SELECT m.memberId AS memberId, m.nickname AS nickname FROM Member m WHERE m.memberId IN :memberIds")
+	List<MemberNickname> findNicknamesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+	interface MemberNickname {
+		Long getMemberId();
+
+		String getNickname();
+	}
 }
@@ -1,6 +1,7 @@
 package com.communet.malmoon.member.service;
 
 import com.communet.malmoon.member.dto.response.MemberLoginRes;
+import com.communet.malmoon.member.dto.response.TokenRefreshRes;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -8,25 +9,33 @@ import org.springframework.stereotype.Service;
 
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.dto.request.MemberLoginReq;
+import com.communet.malmoon.member.dto.request.TokenRefreshReq;
+import com.communet.malmoon.member.exception.InvalidRefreshTokenException;
 import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
 import com.communet.malmoon.member.repository.MemberRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final TokenVersionService tokenVersionService;
+	private final RefreshTokenService refreshTokenService;
 
 	/**
 	 * 로그인 처리
 	 * 1. 이메일로 회원 조회
 	 * 2. 비밀번호 검증
-	 * 3. JWT 토큰 생성 후 반환
+	 * 3. JWT 액세스 토큰과 리프레시 토큰 생성 후 반환
+	 * - Redis 장애 시에도 로그인은 성공: 토큰 버전은 0으로 발급하고 리프레시 토큰 없이(null) 반환
+	 *   (클라이언트는 액세스 토큰 만료 후 다시 로그인)
 	 * @param memberLoginReq 로그인 요청 DTO(email, password)
-	 * @return JWT 액세스 토큰 문자열
+	 * @return JWT 액세스 토큰, 리프레시 토큰과 회원 정보
 	 * @throws UsernameNotFoundException 사용자가 없으면 발생
 	 * @throws BadCredentialsException 비밀번호가 틀리면 발생
 	 */
@@ -39,8 +48,11 @@ public class AuthService {
 			throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
 		}
 
+        long tokenVersion = currentTokenVersion(member.getMemberId());
         return MemberLoginRes.builder()
-                .accessToken(JwtTokenUtil.getToken(member.getEmail(), member.getRole()))
+                .accessToken(JwtTokenUtil.getToken(member.getMemberId(), member.getEmail(), member.getRole(),
+                        tokenVersion))
+                .refreshToken(issueRefreshToken(member, tokenVersion))
                 .memberId(member.getMemberId())
                 .email(member.getEmail())
                 .role(member.getRole())
@@ -52,4 +64,43 @@ public class AuthService {
                 .profile(member.getProfile())
                 .build();
 	}
+
+	/**
+	 * 토큰 재발급
+	 * - 리프레시 토큰을 교체하고 새 액세스 토큰 발급 (비밀번호 검증, 회원 조회 없음)
+	 * @param tokenRefreshReq 재발급 요청 DTO(refreshToken)
+	 * @return 새 액세스 토큰과 리프레시 토큰
+	 * @throws InvalidRefreshTokenException 만료, 폐기, 재사용된 리프레시 토큰이면 발생
+	 */
+	public TokenRefreshRes refresh(TokenRefreshReq tokenRefreshReq) {
+		return refreshTokenService.rotate(tokenRefreshReq.getRefreshToken());
+	}
+
+	/**
+	 * 토큰 버전을 조회합니다. Redis 장애 시 0으로 발급하며,
+	 * 저장된 버전이 더 높았다면 Redis 복구 후 그 토큰은 폐기된 것으로 처리됩니다.
+	 */
+	private long currentTokenVersion(Long memberId) {
+		try {
+			return tokenVersionService.current(memberId);
+		} catch (Exception e) {
+			log.warn("토큰 버전 조회 실패, 기본 버전으로 발급 - memberId: {}, {}", memberId,
+				e.getMessage());
+			return 0L;
+		}
+	}
+
+	/**
+	 * 리프레시 토큰을 발급합니다. Redis 장애 시 로그인을 막지 않도록 null을 반환합니다.
+	 */
+	private String issueRefreshToken(Member member, long tokenVersion) {
+		try {
+			return refreshTokenService.issue(member.getMemberId(), member.getEmail(), member.getRole(),
+				tokenVersion);
+		} catch (Exception e) {
+			log.warn("리프레시 토큰 발급 실패, 액세스 토큰만 발급 - memberId: {}, {}", member.getMemberId(),
+				e.getMessage());
+			return null;
+		}
+	}
 }
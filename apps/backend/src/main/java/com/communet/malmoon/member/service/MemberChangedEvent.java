@@ -0,0 +1,19 @@
+package com.communet.malmoon.member.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 정보 변경(내 정보 수정, 비밀번호 변경, 탈퇴)을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link MemberPrincipalCache}와 {@link TokenVersionService}가 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+	private final Long memberId;
+	private final String email;
+
+	/** 비밀번호 변경/탈퇴처럼 기존에 발급된 토큰을 폐기해야 하는 변경인지 여부 */
+	private final boolean credentialsChanged;
+}
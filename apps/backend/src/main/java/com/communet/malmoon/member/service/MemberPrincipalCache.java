@@ -0,0 +1,96 @@
+package com.communet.malmoon.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 → 회원 식별 정보 캐시 (인증 필터의 요청당 회원 조회 제거)
+ * - 크기 제한과 짧은 TTL을 두어 다른 경로의 변경도 잠시 후 반영
+ * - 회원 정보 변경 시 커밋 후 즉시 무효화하고 Redis 채널로 다른 노드에 전파
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache implements MessageListener {
+
+	static final String CHANNEL = "member:principal:invalidate";
+
+	private final MemberRepository memberRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final Cache<String, MemberPrincipal> principals;
+
+	public MemberPrincipalCache(
+		MemberRepository memberRepository,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		@Value("${member.principal-cache.max-size:10000}") long maxSize,
+		@Value("${member.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.memberRepository = memberRepository;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.principals = CacheBuilder.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 회원 식별 정보를 조회합니다. 캐시에 없으면 DB에서 읽어 저장합니다.
+	 *
+	 * @param email 회원 이메일 (토큰 subject)
+	 * @return 회원 식별 정보 (존재하지 않는 회원이면 빈 값)
+	 */
+	public Optional<MemberPrincipal> get(String email) {
+		MemberPrincipal cached = principals.getIfPresent(email);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<MemberPrincipal> loaded = memberRepository.findByEmail(email).map(MemberPrincipal::from);
+		loaded.ifPresent(principal -> principals.put(email, principal));
+		return loaded;
+	}
+
+	/**
+	 * 회원 정보가 바뀐 경우 커밋 후 캐시를 비우고 다른 노드에 알립니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		principals.invalidate(event.getEmail());
+
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, event.getEmail());
+		} catch (Exception e) {
+			// 전파 실패 시 다른 노드는 TTL이 지나면 새 정보를 읽음
+			log.warn("회원 캐시 무효화 전파 실패 - email: {}", event.getEmail(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		principals.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
@@ -1,8 +1,12 @@
 package com.communet.malmoon.member.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +46,7 @@ public class MemberService {
 	private final TherapistRepository therapistRepository;
 	private final CareerRepository careerRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 일반 회원 가입 처리
@@ -156,6 +161,7 @@ public class MemberService {
 	@Transactional
 	public void withdraw(Member member) {
 		member.setStatus(MemberStatusType.WITHDRAWN);
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberId(), member.getEmail(), true));
 	}
 
 	/**
@@ -276,6 +282,7 @@ public class MemberService {
 			}
 			therapistRepository.save(therapist);
 		}
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberId(), member.getEmail(), false));
 	}
 
 	public void changePassword(MemberPasswordChangeReq req, Member member) {
@@ -284,8 +291,8 @@ public class MemberService {
 			throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
 		}
 
-		// 같은 비밀번호로 변경 시도 방지
-		if (passwordEncoder.matches(req.getNewPassword(), member.getPassword())) {
+		// 같은 비밀번호로 변경 시도 방지 (현재 비밀번호가 위에서 확인되었으므로 해시 재계산 없이 비교)
+		if (req.getNewPassword().equals(req.getCurrentPassword())) {
 			throw new IllegalArgumentException("기존과 동일한 비밀번호로 변경할 수 없습니다.");
 		}
 
@@ -293,11 +300,21 @@ public class MemberService {
 		String encodedNewPassword = passwordEncoder.encode(req.getNewPassword());
 		member.setPassword(encodedNewPassword);
 		memberRepository.save(member);
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberId(), member.getEmail(), true));
 	}
 
-	public String getNicknameById(Long opponentId) {
-		return memberRepository.findById(opponentId)
-			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."))
-			.getNickname();
+	/**
+	 * 여러 회원의 닉네임을 한 번의 쿼리로 조회합니다.
+	 *
+	 * @param memberIds 회원 ID 목록
+	 * @return 회원 ID → 닉네임 (존재하지 않는 회원은 제외)
+	 */
+	public Map<Long, String> getNicknamesByIds(Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return Map.of();
+		}
+		return memberRepository.findNicknamesByMemberIdIn(memberIds).stream()
+			.collect(Collectors.toMap(MemberRepository.MemberNickname::getMemberId,
+				MemberRepository.MemberNickname::getNickname));
 	}
 }
@@ -0,0 +1,161 @@
+package com.communet.malmoon.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.dto.response.TokenRefreshRes;
+import com.communet.malmoon.member.exception.InvalidRefreshTokenException;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰을 Redis에 보관하고 사용할 때마다 교체(rotation)합니다.
+ * - 토큰 형식: {familyId}.{secret} (로그인 한 번이 하나의 family, Redis에는 secret의 SHA-256만 저장)
+ * - family 해시에 현재 유효한 secret 다이제스트와 회원 식별 정보를 보관하고, 로그인 시점부터 TTL이 지나면 만료
+ * - 이미 교체된 토큰이 다시 사용되면 탈취로 보고 family 전체를 폐기 (재사용 감지)
+ * - 재발급은 Redis만 사용 (비밀번호 해시 계산, DB 조회 없음), 토큰 버전이 올라간 회원(비밀번호 변경/탈퇴)은 거절
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+	private static final String KEY_PREFIX = "auth:refresh:";
+	private static final String SEPARATOR = ".";
+	private static final int SECRET_BYTES = 32;
+
+	/**
+	 * KEYS[1]=family 해시
+	 * ARGV[1]=현재 secret 다이제스트, ARGV[2]=TTL(ms), ARGV[3]=memberId, ARGV[4]=email, ARGV[5]=role, ARGV[6]=tokenVersion
+	 */
+	static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+		redis.call('HSET', KEYS[1], 'current', ARGV[1], 'memberId', ARGV[3], 'email', ARGV[4],
+			'role', ARGV[5], 'tokenVersion', ARGV[6])
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS[1]=family 해시, ARGV[1]=제시된 secret 다이제스트, ARGV[2]=새 secret 다이제스트
+	 * - family가 없으면 {'MISSING'} (만료 또는 폐기)
+	 * - 현재 secret이 아니면 family를 삭제하고 {'REUSED'}
+	 * - 현재 secret이면 새 secret으로 교체하고 {'OK', memberId, email, role, tokenVersion} (TTL은 유지)
+	 */
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+		local current = redis.call('HGET', KEYS[1], 'current')
+		if not current then
+			return {'MISSING'}
+		end
+		if current ~= ARGV[1] then
+			redis.call('DEL', KEYS[1])
+			return {'REUSED'}
+		end
+		redis.call('HSET', KEYS[1], 'current', ARGV[2])
+		local member = redis.call('HMGET', KEYS[1], 'memberId', 'email', 'role', 'tokenVersion')
+		return {'OK', member[1], member[2], member[3], member[4]}
+		""", List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final TokenVersionService tokenVersionService;
+	private final String ttlMillis;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	public RefreshTokenService(
+		StringRedisTemplate stringRedisTemplate,
+		TokenVersionService tokenVersionService,
+		@Value("${jwt.refresh.ttl-days:14}") long ttlDays) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.tokenVersionService = tokenVersionService;
+		this.ttlMillis = String.valueOf(Duration.ofDays(ttlDays).toMillis());
+	}
+
+	/**
+	 * 로그인 시 새 family의 리프레시 토큰을 발급합니다.
+	 *
+	 * @param memberId 회원 ID
+	 * @param email 회원 이메일
+	 * @param role 회원 유형
+	 * @param tokenVersion 발급 시점의 토큰 버전
+	 * @return 리프레시 토큰
+	 */
+	public String issue(Long memberId, String email, MemberType role, long tokenVersion) {
+		String familyId = UUID.randomUUID().toString().replace("-", "");
+		String secret = newSecret();
+		stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(KEY_PREFIX + familyId),
+			digest(secret), ttlMillis, String.valueOf(memberId), email, role.name(), String.valueOf(tokenVersion));
+		return familyId + SEPARATOR + secret;
+	}
+
+	/**
+	 * 리프레시 토큰을 교체하고 새 액세스 토큰을 발급합니다.
+	 *
+	 * @param refreshToken 클라이언트가 보관 중인 리프레시 토큰
+	 * @return 새 액세스 토큰과 리프레시 토큰
+	 * @throws InvalidRefreshTokenException 만료, 폐기, 재사용된 토큰인 경우
+	 */
+	public TokenRefreshRes rotate(String refreshToken) {
+		int separator = refreshToken.indexOf(SEPARATOR);
+		if (separator <= 0 || separator == refreshToken.length() - 1) {
+			throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
+		}
+		String familyId = refreshToken.substring(0, separator);
+		String key = KEY_PREFIX + familyId;
+		String newSecret = newSecret();
+
+		List<?> result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(key),
+			digest(refreshToken.substring(separator + 1)), digest(newSecret));
+		String status = result == null || result.isEmpty() ? "MISSING" : String.valueOf(result.get(0));
+
+		if ("REUSED".equals(status)) {
+			log.warn("리프레시 토큰 재사용 감지 - family 폐기: {}", familyId);
+			throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+		}
+		if (!"OK".equals(status)) {
+			throw new InvalidRefreshTokenException("만료되었거나 폐기된 리프레시 토큰입니다.");
+		}
+
+		Long memberId = Long.valueOf(String.valueOf(result.get(1)));
+		String email = String.valueOf(result.get(2));
+		MemberType role = MemberType.valueOf(String.valueOf(result.get(3)));
+		long tokenVersion = Long.parseLong(String.valueOf(result.get(4)));
+
+		// 비밀번호 변경/탈퇴로 토큰 버전이 올라갔으면 family도 함께 폐기
+		if (tokenVersionService.isRevoked(memberId, tokenVersion)) {
+			stringRedisTemplate.delete(key);
+			throw new InvalidRefreshTokenException("만료되었거나 폐기된 리프레시 토큰입니다.");
+		}
+
+		return TokenRefreshRes.builder()
+			.accessToken(JwtTokenUtil.getToken(memberId, email, role, tokenVersion))
+			.refreshToken(familyId + SEPARATOR + newSecret)
+			.build();
+	}
+
+	private String newSecret() {
+		byte[] bytes = new byte[SECRET_BYTES];
+		secureRandom.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static String digest(String secret) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+}
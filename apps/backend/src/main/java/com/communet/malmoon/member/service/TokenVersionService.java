@@ -0,0 +1,72 @@
+package com.communet.malmoon.member.service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 토큰 버전을 Redis에 보관합니다. (액세스 토큰 폐기용)
+ * - 토큰 발급 시 현재 버전을 tokenVersion 클레임에 담고, 인증 시 저장된 버전보다 낮으면 폐기된 토큰으로 처리
+ * - 비밀번호 변경/탈퇴 시 버전을 올려 이전에 발급된 토큰을 모두 무효화
+ * - 키가 없으면 버전 0 (한 번도 폐기하지 않은 회원)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+	private static final String KEY_PREFIX = "member:token-version:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 현재 토큰 버전을 조회합니다.
+	 *
+	 * @param memberId 회원 ID
+	 * @return 현재 토큰 버전
+	 */
+	public long current(Long memberId) {
+		String version = stringRedisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+		return version == null ? 0L : Long.parseLong(version);
+	}
+
+	/**
+	 * 토큰이 폐기되었는지 확인합니다.
+	 * Redis 장애 시에는 인증 전체가 멈추지 않도록 폐기되지 않은 것으로 보고 경고만 남깁니다. (토큰 만료 시간으로 제한)
+	 *
+	 * @param memberId 회원 ID
+	 * @param tokenVersion 토큰에 담긴 버전
+	 * @return 폐기 여부
+	 */
+	public boolean isRevoked(Long memberId, long tokenVersion) {
+		try {
+			return tokenVersion < current(memberId);
+		} catch (Exception e) {
+			log.warn("토큰 버전 조회 실패 - memberId: {}, {}", memberId, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 회원의 기존 토큰을 모두 폐기합니다.
+	 *
+	 * @param memberId 회원 ID
+	 */
+	public void revokeAll(Long memberId) {
+		stringRedisTemplate.opsForValue().increment(KEY_PREFIX + memberId);
+	}
+
+	/**
+	 * 비밀번호 변경/탈퇴가 커밋되면 기존 토큰을 폐기합니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		if (event.isCredentialsChanged() && event.getMemberId() != null) {
+			revokeAll(event.getMemberId());
+		}
+	}
+}
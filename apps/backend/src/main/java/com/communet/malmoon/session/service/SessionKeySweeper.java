@@ -0,0 +1,287 @@
+package com.communet.malmoon.session.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.service.ChatRedisService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션/세션 채팅 Redis 키를 주기적으로 점검하고 방치된 키를 정리합니다.
+ * - KEYS 대신 SCAN으로 순회하여 Redis를 블로킹하지 않음
+ * - 생성 후 최대 유지 시간을 넘긴 세션은 치료사 종료와 같은 종료 후처리 큐로 보냄
+ * - 세션도 종료 후처리도 없는 채팅 메시지는 DB로 flush, 세션 없는 매핑/ENTER 세트는 삭제
+ * - 점검 중 센 키 개수를 키 종류별 게이지(redis.keys)로 노출
+ * - 여러 노드 중 락을 얻은 노드만 주기마다 한 번 실행
+ * - 센 개수는 Redis Hash에 게시하고, 락을 얻지 못한 노드는 게시된 값으로 게이지를 갱신
+ *   (어느 노드를 조회해도 같은 값, 다음 주기까지 지연될 수 있음)
+ */
+@Slf4j
+@Component
+public class SessionKeySweeper {
+
+	private static final String LOCK_KEY = "session:sweeper:lock";
+	static final String KEY_COUNTS_KEY = "session:sweeper:key-counts";
+	private static final String ROOM_PREFIX = "session:room:";
+	private static final String THERAPIST_PREFIX = "user:therapist:";
+	private static final String CLIENT_PREFIX = "user:client:";
+	private static final String CHAT_SESSION_PREFIX = "chat:session:";
+	private static final String MESSAGES_SUFFIX = ":messages";
+	private static final String ENTERED_SUFFIX = ":entered";
+	private static final String FLUSHING_SUFFIX = ":flushing";
+	private static final long SCAN_COUNT = 1000;
+
+	private final RedisTemplate<String, Object> sessionRedisTemplate;
+	private final StringRedisTemplate chatRedisTemplate;
+	private final SessionService sessionService;
+	private final ChatRedisService chatRedisService;
+	private final Duration maxSessionAge;
+	private final Duration lockTtl;
+	private final Duration keyCountsTtl;
+
+	private final Map<String, AtomicLong> keyCounts = new LinkedHashMap<>();
+
+	public SessionKeySweeper(
+		@Qualifier("redisTemplate0") RedisTemplate<String, Object> sessionRedisTemplate,
+		StringRedisTemplate chatRedisTemplate,
+		SessionService sessionService,
+		ChatRedisService chatRedisService,
+		MeterRegistry meterRegistry,
+		@Value("${session.sweeper.max-session-age-hours:6}") long maxSessionAgeHours,
+		@Value("${session.sweeper.interval-millis:300000}") long intervalMillis) {
+		this.sessionRedisTemplate = sessionRedisTemplate;
+		this.chatRedisTemplate = chatRedisTemplate;
+		this.sessionService = sessionService;
+		this.chatRedisService = chatRedisService;
+		this.maxSessionAge = Duration.ofHours(maxSessionAgeHours);
+		this.lockTtl = Duration.ofMillis(intervalMillis);
+		// 점검 노드가 몇 주기 동안 게시하지 못하면 게시된 개수도 만료
+		this.keyCountsTtl = Duration.ofMillis(intervalMillis * 3);
+
+		for (String family : List.of("session-room", "session-therapist", "session-client", "chat-room-mapping",
+			"chat-messages", "chat-entered", "chat-flushing")) {
+			keyCounts.put(family, meterRegistry.gauge("redis.keys", Tags.of("family", family), new AtomicLong()));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${session.sweeper.interval-millis:300000}",
+		initialDelayString = "${session.sweeper.initial-delay-millis:60000}")
+	public void sweep() {
+		Boolean acquired = chatRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockTtl);
+		if (!Boolean.TRUE.equals(acquired)) {
+			refreshKeyCounts();
+			return;
+		}
+
+		try {
+			Map<String, Long> counts = new HashMap<>();
+			sweepSessions(counts);
+			sweepUserMappings(THERAPIST_PREFIX, "session-therapist", counts);
+			sweepUserMappings(CLIENT_PREFIX, "session-client", counts);
+			counts.put("chat-room-mapping", countSessionKeys(CHAT_SESSION_PREFIX));
+			sweepChatKeys(counts);
+
+			publishKeyCounts(counts);
+		} catch (Exception e) {
+			log.warn("[sweeper] 세션 키 점검 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 점검한 키 개수를 이 노드의 게이지에 반영하고 다른 노드가 읽을 수 있도록 Redis에 게시합니다.
+	 */
+	private void publishKeyCounts(Map<String, Long> counts) {
+		Map<String, String> published = new HashMap<>();
+		keyCounts.forEach((family, gauge) -> {
+			long count = counts.getOrDefault(family, 0L);
+			gauge.set(count);
+			published.put(family, String.valueOf(count));
+		});
+		chatRedisTemplate.opsForHash().putAll(KEY_COUNTS_KEY, published);
+		chatRedisTemplate.expire(KEY_COUNTS_KEY, keyCountsTtl);
+	}
+
+	/**
+	 * 점검 노드가 게시한 키 개수로 이 노드의 게이지를 갱신합니다. 게시된 값이 없으면 이전 값을 유지합니다.
+	 */
+	private void refreshKeyCounts() {
+		try {
+			Map<Object, Object> published = chatRedisTemplate.opsForHash().entries(KEY_COUNTS_KEY);
+			keyCounts.forEach((family, gauge) -> {
+				Object count = published.get(family);
+				if (count != null) {
+					gauge.set(Long.parseLong(count.toString()));
+				}
+			});
+		} catch (Exception e) {
+			log.warn("[sweeper] 게시된 키 개수 조회 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 최대 유지 시간을 넘긴 세션을 종료 후처리 큐로 보냅니다.
+	 */
+	private void sweepSessions(Map<String, Long> counts) {
+		LocalDateTime threshold = LocalDateTime.now().minus(maxSessionAge);
+		long[] count = {0};
+		scanSessionKeys(ROOM_PREFIX, key -> {
+			count[0]++;
+			String roomName = key.substring(ROOM_PREFIX.length());
+			Object createdAt = sessionRedisTemplate.opsForHash().get(key, "createdAt");
+			if (createdAt != null && isBefore(createdAt.toString(), threshold) && sessionService.expireRoom(roomName)) {
+				log.info("[sweeper] 세션 {}: 최대 유지 시간 초과로 종료 처리", roomName);
+			}
+		});
+		counts.put("session-room", count[0]);
+	}
+
+	/**
+	 * 가리키는 세션이 없는 치료사/클라이언트 매핑을 삭제합니다.
+	 */
+	private void sweepUserMappings(String prefix, String family, Map<String, Long> counts) {
+		long[] count = {0};
+		scanSessionKeys(prefix, key -> {
+			count[0]++;
+			Object roomName = sessionRedisTemplate.opsForValue().get(key);
+			if (roomName == null || !Boolean.TRUE.equals(sessionRedisTemplate.hasKey(ROOM_PREFIX + roomName))) {
+				sessionRedisTemplate.delete(key);
+				log.info("[sweeper] 세션 없는 매핑 삭제: {}", key);
+			}
+		});
+		counts.put(family, count[0]);
+	}
+
+	/**
+	 * 세션도 종료 후처리도 남아 있지 않은 세션 채팅 키를 정리합니다.
+	 * 메시지가 남아 있으면 DB로 flush하고, ENTER 세트만 남았으면 삭제합니다.
+	 */
+	private void sweepChatKeys(Map<String, Long> counts) {
+		Set<String> withMessages = new HashSet<>();
+		Set<String> rooms = new HashSet<>();
+		long messages = 0;
+		long entered = 0;
+		long flushing = 0;
+
+		ScanOptions options = ScanOptions.scanOptions().match(CHAT_SESSION_PREFIX + "*").count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = chatRedisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				if (key.endsWith(MESSAGES_SUFFIX)) {
+					messages++;
+					withMessages.add(roomNameOf(key, MESSAGES_SUFFIX));
+				} else if (key.endsWith(FLUSHING_SUFFIX)) {
+					flushing++;
+					withMessages.add(roomNameOf(key, FLUSHING_SUFFIX));
+				} else if (key.endsWith(ENTERED_SUFFIX)) {
+					entered++;
+					rooms.add(roomNameOf(key, ENTERED_SUFFIX));
+				}
+			}
+		}
+		rooms.addAll(withMessages);
+		counts.put("chat-messages", messages);
+		counts.put("chat-entered", entered);
+		counts.put("chat-flushing", flushing);
+
+		for (String roomName : rooms) {
+			boolean active = Boolean.TRUE.equals(sessionRedisTemplate.hasKey(ROOM_PREFIX + roomName));
+			// 채팅방 매핑은 종료 후처리가 끝날 때 마지막으로 삭제되므로, 남아 있으면 후처리 진행 중
+			boolean finalizing = Boolean.TRUE.equals(sessionRedisTemplate.hasKey(CHAT_SESSION_PREFIX + roomName));
+			if (active || finalizing) {
+				continue;
+			}
+			try {
+				if (withMessages.contains(roomName)) {
+					log.info("[sweeper] 세션 {}: 방치된 채팅 메시지를 DB로 flush", roomName);
+					chatRedisService.flushSessionMessagesToDb(roomName);
+				} else {
+					chatRedisTemplate.delete(CHAT_SESSION_PREFIX + roomName + ENTERED_SUFFIX);
+				}
+			} catch (Exception e) {
+				log.warn("[sweeper] 세션 {}: 채팅 키 정리 실패: {}", roomName, e.getMessage());
+			}
+		}
+	}
+
+	private long countSessionKeys(String prefix) {
+		long[] count = {0};
+		scanSessionKeys(prefix, key -> {
+			// chat:session:{roomName} 매핑만 집계 (:messages 등 채팅 키는 제외)
+			if (key.indexOf(':', prefix.length()) < 0) {
+				count[0]++;
+			}
+		});
+		return count[0];
+	}
+
+	/**
+	 * 세션 Redis(redisTemplate0)의 키를 SCAN으로 순회합니다.
+	 * 키가 JDK 직렬화되어 저장되므로 접두사 앞에 와일드카드를 두고, 역직렬화되지 않는 다른 형식의 키는 건너뜁니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void scanSessionKeys(String prefix, Consumer<String> action) {
+		RedisSerializer<Object> keySerializer = (RedisSerializer<Object>)sessionRedisTemplate.getKeySerializer();
+		ScanOptions options = ScanOptions.scanOptions().match("*" + prefix + "*").count(SCAN_COUNT).build();
+		List<String> keys = sessionRedisTemplate.execute((RedisCallback<List<String>>)connection -> {
+			List<String> found = new ArrayList<>();
+			try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+				while (cursor.hasNext()) {
+					String key = deserialize(keySerializer, cursor.next());
+					if (key != null && key.startsWith(prefix)) {
+						found.add(key);
+					}
+				}
+			}
+			return found;
+		});
+		if (keys != null) {
+			keys.forEach(action);
+		}
+	}
+
+	private String deserialize(RedisSerializer<Object> serializer, byte[] raw) {
+		try {
+			Object key = serializer.deserialize(raw);
+			return key instanceof String str ? str : null;
+		} catch (SerializationException e) {
+			return null;
+		}
+	}
+
+	private String roomNameOf(String key, String suffix) {
+		return key.substring(CHAT_SESSION_PREFIX.length(), key.length() - suffix.length());
+	}
+
+	private boolean isBefore(String createdAt, LocalDateTime threshold) {
+		try {
+			return LocalDateTime.parse(createdAt).isBefore(threshold);
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.communet.malmoon.session.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -10,12 +11,12 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.domain.ChatMessageType;
 import com.communet.malmoon.chat.domain.RoomType;
 import com.communet.malmoon.chat.dto.request.ChatRoomSessionCreateReq;
@@ -23,31 +24,27 @@ import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
 import com.communet.malmoon.chat.dto.response.ChatRoomCreateRes;
 import com.communet.malmoon.chat.exception.ChatErrorCode;
 import com.communet.malmoon.chat.exception.ChatException;
-import com.communet.malmoon.chat.repository.ChatMessageRepository;
 import com.communet.malmoon.chat.service.ChatRedisService;
 import com.communet.malmoon.chat.service.ChatRoomService;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.session.config.LiveKitConfig;
 import com.communet.malmoon.session.dto.response.SessionTokenRes;
-import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue;
+import com.communet.malmoon.session.service.finalize.SessionFinalizationQueue;
 
 import io.livekit.server.AccessToken;
 import io.livekit.server.RoomJoin;
 import io.livekit.server.RoomName;
-import io.livekit.server.RoomServiceClient;
 import io.livekit.server.WebhookReceiver;
 import jakarta.persistence.EntityNotFoundException;
 import livekit.LivekitWebhook;
 import lombok.extern.slf4j.Slf4j;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
 /**
  * LiveKit 세션 생성/참여/종료 및 채팅방 연동을 담당하는 서비스.
  * - 치료사/클라이언트 최초 입장 시 ENTER 시스템 메시지를 Redis에 1회 저장
- * - 세션 종료 시 LEAVE 메시지는 즉시 DB 저장, 나머지는 Redis → DB flush
+ * - 세션 종료 시 LEAVE 저장, 채팅방 종료, Redis → DB flush, LiveKit 방 삭제는 종료 후처리 큐에서 비동기 처리
+ * - 세션 키는 TTL을 두고 입장할 때마다 갱신 (종료되지 않은 세션은 {@link SessionKeySweeper}가 정리)
  */
 @Slf4j
 @Service
@@ -62,32 +59,29 @@ public class SessionService {
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final HashOperations<String, Object, Object> hashOps;
 	private final MemberRepository memberRepository;
-	private final RoomServiceClient roomServiceClient;
 
 	private final ChatRoomService chatRoomService;
 	private final ChatRedisService chatRedisService;
-	private final ChatMessageRepository chatMessageRepository;
 
-	private final FailedRoomDeletionQueue failedRoomDeletionQueue;
+	private final SessionFinalizationQueue sessionFinalizationQueue;
+	private final Duration sessionTtl;
 
 	public SessionService(
 		@Qualifier("redisTemplate0") RedisTemplate<String, Object> redisTemplate,
 		MemberRepository memberRepository,
 		LiveKitConfig liveKitConfig,
-		RoomServiceClient roomServiceClient,
 		ChatRoomService chatRoomService,
 		ChatRedisService chatRedisService,
-		ChatMessageRepository chatMessageRepository,
-		FailedRoomDeletionQueue failedRoomDeletionQueue) {
+		SessionFinalizationQueue sessionFinalizationQueue,
+		@Value("${session.redis.ttl-hours:12}") long sessionTtlHours) {
 		this.liveKitConfig = liveKitConfig;
 		this.redisTemplate = redisTemplate;
 		this.hashOps = redisTemplate.opsForHash();
 		this.memberRepository = memberRepository;
-		this.roomServiceClient = roomServiceClient;
 		this.chatRoomService = chatRoomService;
 		this.chatRedisService = chatRedisService;
-		this.chatMessageRepository = chatMessageRepository;
-		this.failedRoomDeletionQueue = failedRoomDeletionQueue;
+		this.sessionFinalizationQueue = sessionFinalizationQueue;
+		this.sessionTtl = Duration.ofHours(sessionTtlHours);
 	}
 
 	/**
@@ -118,6 +112,9 @@ public class SessionService {
 
 			Long chatRoomId = Long.valueOf(chatRoomIdStr);
 
+			Object clientEmail = hashOps.get(REDIS_ROOM_PREFIX + roomName, "client");
+			refreshSessionTtl(roomName, therapist.getEmail(), clientEmail == null ? null : clientEmail.toString());
+
 			return SessionTokenRes.builder()
 				.token(generateAccessToken(therapist, roomName))
 				.chatRoomId(chatRoomId)
@@ -143,6 +140,7 @@ public class SessionService {
 		// Redis String에 therapist/client → roomName 매핑 저장
 		redisTemplate.opsForValue().set(REDIS_THERAPIST_PREFIX + therapist.getEmail(), roomName);
 		redisTemplate.opsForValue().set(REDIS_CLIENT_PREFIX + clientEmail, roomName);
+		refreshSessionTtl(roomName, therapist.getEmail(), clientEmail);
 
 		chatRedisService.saveToRedis(enterMessage(roomName, createdRoom.getRoomId(), therapist));
 
@@ -188,6 +186,7 @@ public class SessionService {
 
 	/**
 	 * 치료사의 세션 방 정보를 Redis에서 삭제
+	 * - 채팅방 종료, Redis → DB flush, LiveKit 방 삭제는 종료 후처리 큐에 등록하여 비동기로 처리
 	 * @param therapistEmail 삭제 대상 치료사 이메일
 	 */
 	@Transactional
@@ -196,68 +195,44 @@ public class SessionService {
 			redisTemplate.opsForValue().get(REDIS_THERAPIST_PREFIX + therapistEmail), "생성한 세션이 없습니다.").toString();
 		String clientEmail = Objects.requireNonNull(hashOps.get(REDIS_ROOM_PREFIX + roomName, "client")).toString();
 
-		redisTemplate.delete(REDIS_ROOM_PREFIX + roomName);
-		redisTemplate.delete(REDIS_THERAPIST_PREFIX + therapistEmail);
-		redisTemplate.delete(REDIS_CLIENT_PREFIX + clientEmail);
-
-		handleChatRoomOnSessionEnd(therapistEmail, roomName);
-
-		roomServiceClient.deleteRoom(roomName).enqueue(new Callback<Void>() {
-			@Override
-			public void onResponse(Call<Void> call, Response<Void> response) {
-				if (response.isSuccessful()) {
-					log.info("{} room 세션 삭제 성공", roomName);
-				} else {
-					log.warn("삭제 실패: {}, 재시도 큐에 등록", response.code());
-					failedRoomDeletionQueue.add(roomName, 1);
-				}
-			}
-
-			@Override
-			public void onFailure(Call<Void> call, Throwable t) {
-				log.warn("삭제 요청 실패: {}, 재시도 큐에 등록", t.getMessage());
-				failedRoomDeletionQueue.add(roomName, 1);
-			}
-		});
+		endSession(roomName, therapistEmail, clientEmail);
 	}
 
 	/**
-	 * 세션 종료 시 채팅방 상태 및 메시지를 처리합니다.
-	 * - 채팅방 종료 메시지 저장
-	 * - 채팅방 soft delete 처리
-	 * - Redis → DB flush 처리
-	 *
-	 * @param therapistEmail 치료사 이메일
-	 * @param roomName       세션 이름 (roomName)
+	 * 오래 방치된 세션을 치료사 종료와 같은 방식으로 정리합니다. (세션 키 정리 스케줄러에서 호출)
+	 * @param roomName 세션 이름 (roomName)
+	 * @return 종료 처리 여부 (이미 정리된 세션이면 false)
 	 */
-	private void handleChatRoomOnSessionEnd(String therapistEmail, String roomName) {
-		Member member = memberRepository.getMemberInfoByEmail(therapistEmail);
-		if (member == null) {
-			throw new ChatException(ChatErrorCode.NOT_FOUND_MEMBER);
+	public boolean expireRoom(String roomName) {
+		String therapistEmail = (String)hashOps.get(REDIS_ROOM_PREFIX + roomName, "therapist");
+		if (therapistEmail == null) {
+			return false;
 		}
+		String clientEmail = (String)hashOps.get(REDIS_ROOM_PREFIX + roomName, "client");
 
-		String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
-
-		if (chatRoomIdStr != null && !chatRoomIdStr.isBlank()) {
-			Long chatRoomId = Long.valueOf(chatRoomIdStr);
-
-			ChatMessage leaveMessage = ChatMessage.builder()
-				.roomId(chatRoomId)
-				.senderId(member.getMemberId())
-				.messageType(ChatMessageType.LEAVE)
-				.content("치료 세션 종료")
-				.sentAt(LocalDateTime.now())
-				.build();
-			chatMessageRepository.save(leaveMessage);
+		endSession(roomName, therapistEmail, clientEmail);
+		return true;
+	}
 
-			// 방 종료 처리
-			chatRoomService.deleteSessionRoom(chatRoomId);
+	private void endSession(String roomName, String therapistEmail, String clientEmail) {
+		redisTemplate.delete(REDIS_ROOM_PREFIX + roomName);
+		redisTemplate.delete(REDIS_THERAPIST_PREFIX + therapistEmail);
+		if (clientEmail != null) {
+			redisTemplate.delete(REDIS_CLIENT_PREFIX + clientEmail);
+		}
 
-			// flush: 메시지 없어도 예외 없음
-			chatRedisService.flushSessionMessagesToDb(roomName);
+		sessionFinalizationQueue.enqueue(therapistEmail, roomName);
+	}
 
-			// 세션 매핑 제거
-			redisTemplate.delete(REDIS_CHAT_ROOM_PREFIX + roomName);
+	/**
+	 * 세션 관련 키(방 정보, 치료사/클라이언트 매핑, 채팅방 매핑)의 TTL을 갱신합니다.
+	 */
+	private void refreshSessionTtl(String roomName, String therapistEmail, String clientEmail) {
+		redisTemplate.expire(REDIS_ROOM_PREFIX + roomName, sessionTtl);
+		redisTemplate.expire(REDIS_CHAT_ROOM_PREFIX + roomName, sessionTtl);
+		redisTemplate.expire(REDIS_THERAPIST_PREFIX + therapistEmail, sessionTtl);
+		if (clientEmail != null) {
+			redisTemplate.expire(REDIS_CLIENT_PREFIX + clientEmail, sessionTtl);
 		}
 	}
 
@@ -280,6 +255,11 @@ public class SessionService {
 
 			Long chatRoomId = Long.valueOf(chatRoomIdStr);
 
+			Object therapistEmail = hashOps.get(REDIS_ROOM_PREFIX + roomName, "therapist");
+			if (therapistEmail != null) {
+				refreshSessionTtl(roomName, therapistEmail.toString(), client.getEmail());
+			}
+
 			chatRedisService.saveToRedis(enterMessage(roomName, chatRoomId, client));
 
 			return SessionTokenRes.builder()
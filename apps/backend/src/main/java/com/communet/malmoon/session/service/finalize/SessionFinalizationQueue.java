@@ -0,0 +1,210 @@
+package com.communet.malmoon.session.service.finalize;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 종료 후처리 작업 큐 (Redis Streams + Consumer Group).
+ * - 세션 종료 요청은 작업만 등록(XADD)하고 바로 반환
+ * - 모든 노드의 워커가 같은 그룹으로 작업을 나눠 처리하고, 성공 시 XACK
+ * - 처리 중 노드가 죽어 오래 대기 중인 작업은 다른 워커가 가져가 재처리 (at-least-once)
+ *   (재처리 기준 대기 시간은 후처리 임대 시간보다 길게 두고, 진행 중인 후처리와는 세션별 임대로 겹치지 않음)
+ * - 최대 전달 횟수를 넘긴 작업은 dead-letter 스트림(session:finalize:dead)으로 옮긴 뒤 원래 스트림에서 제거
+ */
+@Slf4j
+@Component
+public class SessionFinalizationQueue {
+
+	static final String STREAM_KEY = "session:finalize";
+	static final String GROUP = "session-finalizers";
+	static final String DEAD_LETTER_KEY = "session:finalize:dead";
+	private static final String FIELD_THERAPIST_EMAIL = "therapistEmail";
+	private static final String FIELD_ROOM_NAME = "roomName";
+	private static final String FIELD_ORIGINAL_ID = "originalId";
+	private static final String FIELD_DELIVERIES = "deliveries";
+	private static final int RECLAIM_BATCH_SIZE = 100;
+
+	private final StringRedisTemplate redisTemplate;
+	private final SessionFinalizer sessionFinalizer;
+	private final int workers;
+	private final Duration claimIdle;
+	private final Duration reclaimInterval;
+	private final long maxDeliveries;
+	private final String consumerName;
+
+	private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+	private ScheduledExecutorService reclaimer;
+
+	public SessionFinalizationQueue(
+		StringRedisTemplate redisTemplate,
+		SessionFinalizer sessionFinalizer,
+		@Value("${session.finalize.workers:2}") int workers,
+		@Value("${session.finalize.claim-idle-seconds:600}") long claimIdleSeconds,
+		@Value("${session.finalize.reclaim-interval-seconds:60}") long reclaimIntervalSeconds,
+		@Value("${session.finalize.max-deliveries:5}") long maxDeliveries) {
+		this.redisTemplate = redisTemplate;
+		this.sessionFinalizer = sessionFinalizer;
+		this.workers = workers;
+		this.claimIdle = Duration.ofSeconds(claimIdleSeconds);
+		this.reclaimInterval = Duration.ofSeconds(reclaimIntervalSeconds);
+		this.maxDeliveries = maxDeliveries;
+		this.consumerName = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID();
+	}
+
+	/**
+	 * 세션 종료 후처리 작업을 등록합니다.
+	 *
+	 * @param therapistEmail 세션을 종료한 치료사 이메일
+	 * @param roomName 세션 이름 (roomName)
+	 */
+	public void enqueue(String therapistEmail, String roomName) {
+		RecordId id = redisTemplate.opsForStream().add(STREAM_KEY,
+			Map.of(FIELD_THERAPIST_EMAIL, therapistEmail, FIELD_ROOM_NAME, roomName));
+		log.info("[finalize] 세션 {} 종료 후처리 등록: {}", roomName, id);
+	}
+
+	@PostConstruct
+	void start() {
+		createGroupIfAbsent();
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+			StreamMessageListenerContainerOptions.builder()
+				.pollTimeout(Duration.ofSeconds(2))
+				.batchSize(10)
+				.errorHandler(e -> log.warn("[finalize] 스트림 읽기 실패: {}", e.getMessage()))
+				.build();
+		RedisConnectionFactory connectionFactory = redisTemplate.getRequiredConnectionFactory();
+		container = StreamMessageListenerContainer.create(connectionFactory, options);
+		for (int i = 0; i < workers; i++) {
+			container.receive(Consumer.from(GROUP, consumerName + "-" + i),
+				StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()),
+				record -> handle(record.getId(), record.getValue()));
+		}
+		container.start();
+
+		reclaimer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "session-finalize-reclaimer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = reclaimInterval.toSeconds();
+		reclaimer.scheduleWithFixedDelay(this::reclaimStale, period, period, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		if (reclaimer != null) {
+			reclaimer.shutdownNow();
+		}
+		if (container != null) {
+			container.stop();
+		}
+	}
+
+	/**
+	 * 다른 워커에 전달된 뒤 오래 처리되지 않은 작업을 가져와 재처리합니다.
+	 */
+	void reclaimStale() {
+		try {
+			PendingMessages pending = redisTemplate.opsForStream()
+				.pending(STREAM_KEY, GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE);
+			for (PendingMessage message : pending) {
+				if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) < 0) {
+					continue;
+				}
+				if (message.getTotalDeliveryCount() >= maxDeliveries) {
+					deadLetter(message);
+					continue;
+				}
+				List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+					.claim(STREAM_KEY, GROUP, consumerName + "-reclaim", claimIdle, message.getId());
+				for (MapRecord<String, Object, Object> record : claimed) {
+					handle(record.getId(), record.getValue());
+				}
+			}
+		} catch (Exception e) {
+			log.warn("[finalize] 대기 작업 재처리 실패: {}", e.getMessage());
+		}
+	}
+
+	private void handle(RecordId id, Map<?, ?> value) {
+		String therapistEmail = (String)value.get(FIELD_THERAPIST_EMAIL);
+		String roomName = (String)value.get(FIELD_ROOM_NAME);
+		try {
+			if (!sessionFinalizer.finalizeSession(therapistEmail, roomName)) {
+				// 다른 워커가 처리 중: ACK 하지 않고 남겨 두면 그 워커가 ACK하거나 나중에 재처리됨
+				return;
+			}
+			complete(id);
+			log.info("[finalize] 세션 {} 종료 후처리 완료", roomName);
+		} catch (Exception e) {
+			// ACK 하지 않으면 pending 상태로 남아 reclaimStale에서 재처리됨
+			log.error("[finalize] 세션 {} 종료 후처리 실패: {}", roomName, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 최대 전달 횟수를 넘긴 작업을 dead-letter 스트림으로 옮깁니다. (원래 필드 + 원래 ID, 전달 횟수)
+	 */
+	private void deadLetter(PendingMessage message) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+			.range(STREAM_KEY, Range.closed(message.getIdAsString(), message.getIdAsString()));
+		Map<String, String> fields = new HashMap<>();
+		if (records != null && !records.isEmpty()) {
+			records.get(0).getValue()
+				.forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+		}
+		fields.put(FIELD_ORIGINAL_ID, message.getIdAsString());
+		fields.put(FIELD_DELIVERIES, String.valueOf(message.getTotalDeliveryCount()));
+		redisTemplate.opsForStream().add(DEAD_LETTER_KEY, fields);
+		complete(message.getId());
+		log.error("[finalize] 최대 전달 횟수 초과로 dead-letter 이동: {} (세션 {})", message.getId(),
+			fields.get(FIELD_ROOM_NAME));
+	}
+
+	private void complete(RecordId id) {
+		redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, id);
+		redisTemplate.opsForStream().delete(STREAM_KEY, id);
+	}
+
+	private void createGroupIfAbsent() {
+		try {
+			redisTemplate.execute((RedisCallback<String>)connection -> connection.streamCommands()
+				.xGroupCreate(STREAM_KEY.getBytes(), GROUP, ReadOffset.from("0"), true));
+		} catch (RedisSystemException e) {
+			// 이미 그룹이 있으면 BUSYGROUP 오류 → 무시
+			String message = e.getMostSpecificCause().getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+}
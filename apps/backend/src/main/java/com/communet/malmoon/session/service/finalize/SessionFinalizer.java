@@ -0,0 +1,162 @@
+package com.communet.malmoon.session.service.finalize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.chat.service.ChatRedisService;
+import com.communet.malmoon.chat.service.ChatRoomService;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue;
+
+import io.livekit.server.RoomServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import retrofit2.Response;
+
+/**
+ * 세션 종료 후처리(채팅방 종료, Redis → DB flush, LiveKit 방 삭제)를 수행합니다.
+ * - {@link SessionFinalizationQueue} 워커에서 호출되며 같은 작업이 다시 전달될 수 있음
+ * - 각 단계는 재실행해도 결과가 같도록 구성 (LEAVE 1회 저장, 종료 시간 1회 기록, 재개 가능한 flush)
+ * - 같은 세션의 후처리는 세션별 임대(session:finalize:lock:{roomName})로 한 번에 하나만 실행
+ *   (재처리 워커가 진행 중인 작업을 가져가도 임대를 얻지 못하면 건너뛰고 나중에 다시 시도)
+ */
+@Slf4j
+@Service
+public class SessionFinalizer {
+
+	private static final String REDIS_CHAT_ROOM_PREFIX = "chat:session:";
+	private static final String LOCK_PREFIX = "session:finalize:lock:";
+
+	static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final MemberRepository memberRepository;
+	private final RoomServiceClient roomServiceClient;
+	private final ChatRoomService chatRoomService;
+	private final ChatRedisService chatRedisService;
+	private final ChatMessageRepository chatMessageRepository;
+	private final FailedRoomDeletionQueue failedRoomDeletionQueue;
+	private final StringRedisTemplate lockRedisTemplate;
+	private final Duration leaseTime;
+
+	public SessionFinalizer(
+		@Qualifier("redisTemplate0") RedisTemplate<String, Object> redisTemplate,
+		MemberRepository memberRepository,
+		RoomServiceClient roomServiceClient,
+		ChatRoomService chatRoomService,
+		ChatRedisService chatRedisService,
+		ChatMessageRepository chatMessageRepository,
+		FailedRoomDeletionQueue failedRoomDeletionQueue,
+		StringRedisTemplate lockRedisTemplate,
+		@Value("${session.finalize.lease-seconds:300}") long leaseSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.memberRepository = memberRepository;
+		this.roomServiceClient = roomServiceClient;
+		this.chatRoomService = chatRoomService;
+		this.chatRedisService = chatRedisService;
+		this.chatMessageRepository = chatMessageRepository;
+		this.failedRoomDeletionQueue = failedRoomDeletionQueue;
+		this.lockRedisTemplate = lockRedisTemplate;
+		this.leaseTime = Duration.ofSeconds(leaseSeconds);
+	}
+
+	/**
+	 * 세션 종료 후처리를 수행합니다.
+	 *
+	 * @param therapistEmail 세션을 종료한 치료사 이메일
+	 * @param roomName 세션 이름 (roomName)
+	 * @return 후처리를 마쳤으면 true, 다른 워커가 같은 세션을 처리 중이면 false
+	 */
+	public boolean finalizeSession(String therapistEmail, String roomName) {
+		String lockKey = LOCK_PREFIX + roomName;
+		String owner = UUID.randomUUID().toString();
+		if (!Boolean.TRUE.equals(lockRedisTemplate.opsForValue().setIfAbsent(lockKey, owner, leaseTime))) {
+			log.info("[finalize] 세션 {}: 다른 워커가 후처리 중입니다.", roomName);
+			return false;
+		}
+		try {
+			handleChatRoomOnSessionEnd(therapistEmail, roomName);
+			deleteLiveKitRoom(roomName);
+			return true;
+		} finally {
+			lockRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), owner);
+		}
+	}
+
+	/**
+	 * 세션 종료 시 채팅방 상태 및 메시지를 처리합니다.
+	 * - 채팅방 종료 메시지 저장
+	 * - 채팅방 soft delete 처리
+	 * - Redis → DB flush 처리
+	 * 세션 매핑이 이미 없으면 이전 시도에서 처리가 끝난 것으로 보고 건너뜁니다.
+	 */
+	private void handleChatRoomOnSessionEnd(String therapistEmail, String roomName) {
+		String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
+		if (chatRoomIdStr == null || chatRoomIdStr.isBlank()) {
+			log.info("[finalize] 세션 {}: 채팅방 매핑이 없어 채팅 후처리를 건너뜁니다.", roomName);
+			return;
+		}
+
+		Member member = memberRepository.getMemberInfoByEmail(therapistEmail);
+		if (member == null) {
+			throw new ChatException(ChatErrorCode.NOT_FOUND_MEMBER);
+		}
+
+		Long chatRoomId = Long.valueOf(chatRoomIdStr);
+
+		// 재전달 시 LEAVE 중복 저장 방지
+		if (!chatMessageRepository.existsByRoomIdAndMessageType(chatRoomId, ChatMessageType.LEAVE)) {
+			ChatMessage leaveMessage = ChatMessage.builder()
+				.roomId(chatRoomId)
+				.senderId(member.getMemberId())
+				.messageType(ChatMessageType.LEAVE)
+				.content("치료 세션 종료")
+				.sentAt(LocalDateTime.now())
+				.build();
+			chatMessageRepository.save(leaveMessage);
+		}
+
+		// 방 종료 처리
+		chatRoomService.deleteSessionRoom(chatRoomId);
+
+		// flush: 메시지 없어도 예외 없음
+		chatRedisService.flushSessionMessagesToDb(roomName);
+
+		// 세션 매핑 제거 (마지막에 제거하여 완료 표시로 사용)
+		redisTemplate.delete(REDIS_CHAT_ROOM_PREFIX + roomName);
+	}
+
+	private void deleteLiveKitRoom(String roomName) {
+		try {
+			Response<Void> response = roomServiceClient.deleteRoom(roomName).execute();
+			if (response.isSuccessful()) {
+				log.info("{} room 세션 삭제 성공", roomName);
+			} else {
+				log.warn("삭제 실패: {}, 재시도 큐에 등록", response.code());
+				failedRoomDeletionQueue.add(roomName, 1);
+			}
+		} catch (Exception e) {
+			log.warn("삭제 요청 실패: {}, 재시도 큐에 등록", e.getMessage());
+			failedRoomDeletionQueue.add(roomName, 1);
+		}
+	}
+}
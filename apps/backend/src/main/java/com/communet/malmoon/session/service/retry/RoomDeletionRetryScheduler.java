@@ -3,13 +3,20 @@ package com.communet.malmoon.session.service.retry;
 import io.livekit.server.RoomServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import retrofit2.Response;
 
 import java.io.IOException;
 
+/**
+ * 삭제에 실패한 LiveKit 방을 주기적으로 다시 삭제합니다.
+ * - {@link com.communet.malmoon.common.config.SchedulingConfig}로 스케줄링이 활성화되면서 동작 (기본 활성)
+ * - session.room-deletion-retry.enabled=false 이면 빈을 등록하지 않음 (실패 항목은 큐에 남음)
+ */
 @Component
+@ConditionalOnProperty(name = "session.room-deletion-retry.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RoomDeletionRetryScheduler {
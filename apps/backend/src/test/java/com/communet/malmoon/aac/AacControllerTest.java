@@ -31,13 +31,17 @@ import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
+import com.communet.malmoon.aac.service.AacGenerationJobService;
 import com.communet.malmoon.aac.service.AacService;
 import com.communet.malmoon.common.auth.CurrentMemberArgumentResolver;
 import com.communet.malmoon.common.config.SecurityConfig;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.domain.MemberStatusType;
 import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+import com.communet.malmoon.member.service.TokenVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -84,6 +88,16 @@ public class AacControllerTest {
 			return mock(AacService.class);
 		}
 
+		/**
+		 * Mock AacGenerationJobService 빈 등록
+		 * @return Mockito로 생성한 AacGenerationJobService
+		 */
+		@Bean
+		@Primary
+		public AacGenerationJobService aacGenerationJobService() {
+			return mock(AacGenerationJobService.class);
+		}
+
 		/**
 		 * 이메일 기반으로 Mock 사용자 정보를 반환하는 {@link MemberRepository}
 		 * @return Mockito로 생성한 MemberRepository
@@ -100,22 +114,52 @@ public class AacControllerTest {
 
 			MemberRepository repository = mock(MemberRepository.class);
 			given(repository.findByEmail("test@example.com")).willReturn(Optional.of(mockMember));
+			given(repository.getReferenceById(1L)).willReturn(mockMember);
+			// 슬라이스 테스트는 OSIV가 없으므로 @CurrentMember Member는 findById로 조회됨
+			given(repository.findById(1L)).willReturn(Optional.of(mockMember));
 			return repository;
 		}
 
+		/**
+		 * 이메일 기반으로 Mock 회원 식별 정보를 반환하는 {@link MemberPrincipalCache}
+		 * @return Mockito로 생성한 MemberPrincipalCache
+		 */
+		@Bean
+		@Primary
+		public MemberPrincipalCache memberPrincipalCache() {
+			MemberPrincipal principal =
+				new MemberPrincipal(1L, "test@example.com", MemberType.ROLE_THERAPIST, MemberStatusType.ACTIVE);
+
+			MemberPrincipalCache cache = mock(MemberPrincipalCache.class);
+			given(cache.get("test@example.com")).willReturn(Optional.of(principal));
+			return cache;
+		}
+
+		/**
+		 * 토큰 폐기 확인용 Mock {@link TokenVersionService} (SecurityConfig 의존성)
+		 * @return Mockito로 생성한 TokenVersionService
+		 */
+		@Bean
+		@Primary
+		public TokenVersionService tokenVersionService() {
+			return mock(TokenVersionService.class);
+		}
+
 		/**
 		 * {@link @CurrentMember}를 처리하는 ArgumentResolver 등록
 		 * @param memberRepository mock 회원 저장소
+		 * @param memberPrincipalCache mock 회원 식별 정보 캐시
 		 * @return ArgumentResolver
 		 */
 		@Bean
-		public CurrentMemberArgumentResolver currentMemberArgumentResolver(MemberRepository memberRepository) {
-			return new CurrentMemberArgumentResolver(memberRepository);
+		public CurrentMemberArgumentResolver currentMemberArgumentResolver(MemberRepository memberRepository,
+			MemberPrincipalCache memberPrincipalCache) {
+			return new CurrentMemberArgumentResolver(memberRepository, memberPrincipalCache);
 		}
 
 		@Override
 		public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-			resolvers.add(currentMemberArgumentResolver(memberRepository()));
+			resolvers.add(currentMemberArgumentResolver(memberRepository(), memberPrincipalCache()));
 		}
 	}
 
@@ -34,7 +34,10 @@ import com.communet.malmoon.common.config.SecurityConfig;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.domain.MemberStatusType;
 import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+import com.communet.malmoon.member.service.TokenVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(AacSetController.class)
@@ -72,17 +75,38 @@ public class AacSetControllerTest {
 
 			MemberRepository repository = mock(MemberRepository.class);
 			given(repository.findByEmail("test@example.com")).willReturn(Optional.of(mockMember));
+			given(repository.getReferenceById(1L)).willReturn(mockMember);
+			// 슬라이스 테스트는 OSIV가 없으므로 @CurrentMember Member는 findById로 조회됨
+			given(repository.findById(1L)).willReturn(Optional.of(mockMember));
 			return repository;
 		}
 
 		@Bean
-		public CurrentMemberArgumentResolver currentMemberArgumentResolver(MemberRepository memberRepository) {
-			return new CurrentMemberArgumentResolver(memberRepository);
+		@Primary
+		public MemberPrincipalCache memberPrincipalCache() {
+			MemberPrincipal principal =
+				new MemberPrincipal(1L, "test@example.com", MemberType.ROLE_THERAPIST, MemberStatusType.ACTIVE);
+
+			MemberPrincipalCache cache = mock(MemberPrincipalCache.class);
+			given(cache.get("test@example.com")).willReturn(Optional.of(principal));
+			return cache;
+		}
+
+		@Bean
+		@Primary
+		public TokenVersionService tokenVersionService() {
+			return mock(TokenVersionService.class);
+		}
+
+		@Bean
+		public CurrentMemberArgumentResolver currentMemberArgumentResolver(MemberRepository memberRepository,
+			MemberPrincipalCache memberPrincipalCache) {
+			return new CurrentMemberArgumentResolver(memberRepository, memberPrincipalCache);
 		}
 
 		@Override
 		public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-			resolvers.add(currentMemberArgumentResolver(memberRepository()));
+			resolvers.add(currentMemberArgumentResolver(memberRepository(), memberPrincipalCache()));
 		}
 	}
 
@@ -0,0 +1,85 @@
+package com.communet.malmoon.aac.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.communet.malmoon.aac.domain.AacItemSet;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AAC 묶음 구성 저장 방식 비교 벤치마크
+ * - 항목별 save (IDENTITY 키로 항목마다 INSERT 1회)
+ * - batchInsert (JDBC 배치 1회)
+ * - 항목 수와 반복 횟수는 -Dperf.aac-set.items, -Dperf.aac-set.rounds 로 조정
+ * - 실행: ./gradlew performanceTest
+ */
+@Slf4j
+@Tag("performance")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class AacItemSetBatchInsertBenchmarkTest {
+
+	private static final int ITEMS = Integer.getInteger("perf.aac-set.items", 100);
+	private static final int ROUNDS = Integer.getInteger("perf.aac-set.rounds", 50);
+
+	@Autowired
+	private AacItemSetRepository aacItemSetRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("AAC 묶음 구성 저장 - 항목별 save와 JDBC 배치 비교")
+	void compareSavePerItemAndBatchInsert() {
+		List<Long> itemIds = LongStream.rangeClosed(1, ITEMS).boxed().toList();
+
+		// 워밍업
+		savePerItem(-1L, itemIds);
+		aacItemSetRepository.batchInsert(-2L, itemIds);
+
+		long perItemNanos = 0;
+		long batchNanos = 0;
+		for (long round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			savePerItem(round * 2, itemIds);
+			perItemNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			aacItemSetRepository.batchInsert(round * 2 + 1, itemIds);
+			batchNanos += System.nanoTime() - start;
+		}
+
+		log.info("AAC 묶음 구성 저장 ({}개 x {}회) - 항목별 save: {}ms/회, batchInsert: {}ms/회",
+			ITEMS, ROUNDS, perItemNanos / ROUNDS / 1_000_000.0, batchNanos / ROUNDS / 1_000_000.0);
+
+		assertThat(aacItemSetRepository.findByAacSetIdOrderByOrderNo(1L))
+			.extracting(AacItemSet::getOrderNo)
+			.containsExactlyElementsOf(LongStream.rangeClosed(1, ITEMS).mapToObj(i -> (int)i).toList());
+	}
+
+	private void savePerItem(Long aacSetId, List<Long> itemIds) {
+		int order = 1;
+		for (Long itemId : itemIds) {
+			aacItemSetRepository.save(AacItemSet.builder()
+				.aacSetId(aacSetId)
+				.aacItemId(itemId)
+				.orderNo(order++)
+				.addedAt(LocalDateTime.now())
+				.build());
+		}
+		em.flush();
+		em.clear();
+	}
+}
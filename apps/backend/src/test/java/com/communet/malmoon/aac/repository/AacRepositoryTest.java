@@ -0,0 +1,128 @@
+package com.communet.malmoon.aac.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.file.domain.File;
+import com.communet.malmoon.file.domain.FileType;
+import com.communet.malmoon.file.repository.FileRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class AacRepositoryTest {
+
+	private static final Long THERAPIST_ID = 1L;
+
+	@Autowired
+	private AacRepository aacRepository;
+
+	@Autowired
+	private FileRepository fileRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private EntityManagerFactory emf;
+
+	@BeforeEach
+	void setup() {
+		for (int i = 0; i < 60; i++) {
+			File file = fileRepository.save(File.builder()
+				.fileType(FileType.AAC)
+				.filename("aac/" + i + ".png")
+				.isDeleted(false)
+				.build());
+
+			aacRepository.save(Aac.builder()
+				.name("aac-" + i)
+				.situation(i % 2 == 0 ? "학교" : "집")
+				.action("요청")
+				.description("테스트 AAC")
+				.fileId(file.getId())
+				.therapistId(THERAPIST_ID)
+				.status(AacStatus.PUBLIC)
+				.build());
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("AAC 목록 조회 - 페이지 크기와 관계없이 SQL 실행 횟수가 일정")
+	void findAllWithFile_constantStatementsPerPage() {
+		long smallPage = countStatements(5);
+		long largePage = countStatements(20);
+
+		assertThat(smallPage).isEqualTo(largePage);
+		// 본문 조회 1회 + count 1회
+		assertThat(largePage).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("AAC 목록 조회 - 파일명이 함께 조회됨")
+	void findAllWithFile_containsFilename() {
+		Page<AacFileRow> page = aacRepository.findAllWithFile(
+			AacSpecification.withFilters("학교", null, null, THERAPIST_ID),
+			PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+		assertThat(page.getTotalElements()).isEqualTo(30);
+		assertThat(page.getContent()).hasSize(10)
+			.allSatisfy(row -> {
+				assertThat(row.getAac().getSituation()).isEqualTo("학교");
+				assertThat(row.getFilename()).startsWith("aac/");
+				assertThat(row.isFileDeleted()).isFalse();
+			});
+	}
+
+	@Test
+	@DisplayName("AAC 목록 조회 - 파일이 없는 AAC는 목록과 전체 개수 모두에서 제외")
+	void findAllWithFile_countMatchesFileJoin() {
+		aacRepository.save(Aac.builder()
+			.name("orphan")
+			.situation("학교")
+			.action("요청")
+			.description("파일이 없는 AAC")
+			.fileId(-1L)
+			.therapistId(THERAPIST_ID)
+			.status(AacStatus.PUBLIC)
+			.build());
+		em.flush();
+		em.clear();
+
+		// count 쿼리가 실행되도록 마지막 페이지가 아닌 페이지를 조회
+		Page<AacFileRow> page = aacRepository.findAllWithFile(
+			AacSpecification.withFilters("학교", null, null, THERAPIST_ID),
+			PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+		assertThat(page.getTotalElements()).isEqualTo(30);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+	}
+
+	private long countStatements(int size) {
+		Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		aacRepository.findAllWithFile(
+			AacSpecification.withFilters(null, null, null, THERAPIST_ID),
+			PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,184 @@
+package com.communet.malmoon.aac.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * AacSpecification 필터 조합별 첫 페이지 조회 성능 테스트
+ * - H2(PostgreSQL 모드)에 대량의 AAC/File 데이터를 시드한 뒤 실제 Specification으로 조회
+ * - 필터 조합은 performance-test/aac/*.js (k6) 스크립트에서 사용하는 값 그대로 사용
+ * - 시드 건수와 지연 예산은 -Dperf.aac.rows, -Dperf.aac.budget-ms 로 조정
+ * - 실행: ./gradlew performanceTest
+ */
+@Tag("performance")
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:aac-perf;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AacSpecificationPerformanceTest {
+
+	private static final int ROWS = Integer.getInteger("perf.aac.rows", 1_000_000);
+	private static final long BUDGET_MS = Long.getLong("perf.aac.budget-ms", 300L);
+	private static final int PAGE_SIZE = 10;
+	private static final Long THERAPIST_ID = 7L;
+
+	// aac-api-ramping.js, aac-api-ramping2.js, aac-api-test2.js
+	private static final List<String> RAMPING_SITUATIONS =
+		List.of("감정", "달력", "동작", "사람", "상태", "식사", "신체", "장소", "질문");
+
+	// aac-api-test.js
+	private static final List<String> TEST_SITUATIONS =
+		List.of("첫 만남", "목마를 때", "수업 시작 전", "피곤할 때", "수업 후", "조용한 시간");
+	private static final List<String> TEST_ACTIONS =
+		List.of("인사하기", "물 달라", "앉기", "쉬기", "게임 하자", "책 읽기");
+	private static final List<String> TEST_EMOTIONS =
+		List.of("기쁨", "간절함", "차분함", "피곤함", "흥분", "평온");
+
+	@Autowired
+	private AacRepository aacRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		List<String> situations = new ArrayList<>(RAMPING_SITUATIONS);
+		situations.addAll(TEST_SITUATIONS);
+		situations.add("학교");
+
+		List<String> actions = new ArrayList<>(TEST_ACTIONS);
+		actions.add("먹다");
+		actions.add("(미사용)");
+
+		List<String> emotions = new ArrayList<>(TEST_EMOTIONS);
+		emotions.add("(미사용)");
+
+		jdbcTemplate.update("""
+			INSERT INTO file (id, file_type, filename, is_deleted, created_at)
+			SELECT X, 'AAC', CONCAT('aac/', X, '.png'), FALSE, TIMESTAMP '2025-01-01 00:00:00'
+			FROM SYSTEM_RANGE(1, ?)
+			""", ROWS);
+
+		// 상황/동작/감정이 서로 독립적으로 분포하도록 서로 다른 자릿수로 값을 선택
+		int s = situations.size();
+		int a = actions.size();
+		jdbcTemplate.update("""
+			INSERT INTO aac_item (id, name, situation, action, emotion, description, file_id, therapist_id, created_at, status)
+			SELECT X, CONCAT('aac-', X), %s, %s, %s, '성능 테스트 AAC', X, MOD(X, 100) + 1,
+				DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'),
+				CASE MOD(X, 10) WHEN 0 THEN 'PRIVATE' WHEN 1 THEN 'DELETED' WHEN 2 THEN 'DEFAULT' ELSE 'PUBLIC' END
+			FROM SYSTEM_RANGE(1, ?)
+			""".formatted(
+			caseOf("MOD(X, " + s + ")", situations),
+			caseOf("MOD(X / " + s + ", " + a + ")", actions),
+			caseOf("MOD(X / " + (s * a) + ", " + emotions.size() + ")", emotions)), ROWS);
+
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@ParameterizedTest(name = "situation={0}, action={1}, emotion={2}")
+	@MethodSource("k6FilterCombinations")
+	@DisplayName("k6 필터 조합 - 첫 페이지 조회가 지연 예산 이내")
+	void firstPage_withinLatencyBudget(String situation, String action, String emotion) {
+		Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+		// 워밍업 (쿼리 플랜/커넥션 캐시)
+		aacRepository.findAllWithFile(AacSpecification.withFilters(situation, action, emotion, THERAPIST_ID), pageable);
+
+		long start = System.nanoTime();
+		Page<AacFileRow> page = aacRepository.findAllWithFile(
+			AacSpecification.withFilters(situation, action, emotion, THERAPIST_ID), pageable);
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(page.getContent()).allSatisfy(row -> {
+			if (situation != null) {
+				assertThat(row.getAac().getSituation()).isEqualTo(situation);
+			}
+			if (action != null) {
+				assertThat(row.getAac().getAction()).isEqualTo(action);
+			}
+			if (emotion != null) {
+				assertThat(row.getAac().getEmotion()).isEqualTo(emotion);
+			}
+		});
+		assertThat(elapsedMs)
+			.as("첫 페이지 조회 시간(ms), 예산 %dms", BUDGET_MS)
+			.isLessThanOrEqualTo(BUDGET_MS);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("situationFilterShapes")
+	@DisplayName("상황 필터 조회 - 상황 컬럼으로 시작하는 인덱스 사용")
+	void situationFilter_usesSituationIndex(String shape, String where) {
+		List<String> plan = jdbcTemplate.queryForList(
+			"EXPLAIN SELECT a.id FROM aac_item a WHERE " + where + " ORDER BY a.created_at DESC LIMIT 10",
+			String.class);
+
+		assertThat(String.join("\n", plan).toLowerCase()).contains("idx_aac_item_situation");
+	}
+
+	Stream<Arguments> k6FilterCombinations() {
+		List<Arguments> combinations = new ArrayList<>();
+		// 필터 없음 (모든 스크립트의 기본 목록/부트스트랩 조회)
+		combinations.add(Arguments.of(null, null, null));
+		// 상황 단독 필터 (aac-api-ramping.js, aac-api-ramping2.js, aac-api-test2.js)
+		RAMPING_SITUATIONS.forEach(situation -> combinations.add(Arguments.of(situation, null, null)));
+		// 상황 + 동작 (aac-lisit-get-test2.js)
+		combinations.add(Arguments.of("학교", "먹다", null));
+		// 상황 + 동작 + 감정 (aac-api-test.js)
+		for (String situation : TEST_SITUATIONS) {
+			for (String action : TEST_ACTIONS) {
+				for (String emotion : TEST_EMOTIONS) {
+					combinations.add(Arguments.of(situation, action, emotion));
+				}
+			}
+		}
+		return combinations.stream();
+	}
+
+	Stream<Arguments> situationFilterShapes() {
+		String visible = "(a.status IN ('DEFAULT', 'PUBLIC') OR (a.status = 'PRIVATE' AND a.therapist_id = 7))";
+		return Stream.of(
+			Arguments.of("situation", visible + " AND a.situation = '식사'"),
+			Arguments.of("situation+action", visible + " AND a.situation = '학교' AND a.action = '먹다'"),
+			Arguments.of("situation+action+emotion",
+				visible + " AND a.situation = '첫 만남' AND a.action = '인사하기' AND a.emotion = '기쁨'")
+		);
+	}
+
+	private static String caseOf(String expression, List<String> values) {
+		StringBuilder sb = new StringBuilder("CASE ").append(expression);
+		for (int i = 0; i < values.size(); i++) {
+			sb.append(" WHEN ").append(i).append(" THEN '").append(values.get(i)).append('\'');
+		}
+		return sb.append(" END").toString();
+	}
+}
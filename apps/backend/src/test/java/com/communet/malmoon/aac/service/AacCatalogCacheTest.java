@@ -0,0 +1,92 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.aac.repository.AacRepository;
+
+class AacCatalogCacheTest {
+
+	private final AacRepository aacRepository = mock(AacRepository.class);
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	private final ExecutorService rebuildExecutor = mock(ExecutorService.class);
+	private final AacCatalogCache cache = new AacCatalogCache(aacRepository, stringRedisTemplate,
+		mock(RedisMessageListenerContainer.class), rebuildExecutor);
+
+	@Test
+	@DisplayName("공개 AAC 변경 이벤트는 호출 스레드에서 재빌드하지 않고 비동기 재빌드를 예약")
+	@SuppressWarnings("unchecked")
+	void onCatalogChanged_schedulesRebuild() {
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Sort.class))).willReturn(List.of());
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PUBLIC, 7L));
+
+		then(aacRepository).should(never()).findAllWithFile(any(Specification.class), any(Sort.class));
+		then(stringRedisTemplate).should().convertAndSend(eq(AacCatalogCache.CHANNEL), anyString());
+
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		then(rebuildExecutor).should().execute(task.capture());
+		task.getValue().run();
+
+		then(aacRepository).should(times(1)).findAllWithFile(any(Specification.class), any(Sort.class));
+		assertThat(cache.get().getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("재빌드 실행 전에 무효화가 몰려도 재빌드는 한 번만 예약되고 DB도 한 번만 조회")
+	@SuppressWarnings("unchecked")
+	void concurrentInvalidations_reloadOnce() {
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Sort.class))).willReturn(List.of());
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PUBLIC, 7L));
+		cache.onCatalogChanged(new AacCatalogChangedEvent(2L, AacStatus.DEFAULT, 7L));
+		cache.onMessage(new DefaultMessage(AacCatalogCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"other-node".getBytes(StandardCharsets.UTF_8)), null);
+
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		then(rebuildExecutor).should(times(1)).execute(task.capture());
+		task.getValue().run();
+		cache.get();
+
+		then(aacRepository).should(times(1)).findAllWithFile(any(Specification.class), any(Sort.class));
+	}
+
+	@Test
+	@DisplayName("재빌드가 시작된 뒤 들어온 무효화는 다음 재빌드를 다시 예약")
+	@SuppressWarnings("unchecked")
+	void invalidationAfterRebuildStarted_schedulesAgain() {
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Sort.class))).willReturn(List.of());
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PUBLIC, 7L));
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		then(rebuildExecutor).should().execute(task.capture());
+		task.getValue().run();
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(2L, AacStatus.PUBLIC, 7L));
+
+		then(rebuildExecutor).should(times(2)).execute(any(Runnable.class));
+	}
+
+	@Test
+	@DisplayName("PRIVATE AAC 변경은 카탈로그 재빌드를 예약하지 않음")
+	void onCatalogChanged_private_ignored() {
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PRIVATE, 7L));
+
+		then(rebuildExecutor).shouldHaveNoInteractions();
+		then(stringRedisTemplate).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,82 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.aac.repository.AacFileRow;
+
+class AacCatalogTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 1, 10, 0);
+
+	@Test
+	@DisplayName("카탈로그 - 최신순으로 정렬되고 필터 조합별로 조회됨")
+	void find_filtersAndKeepsOrder() {
+		AacCatalog catalog = AacCatalog.of(1L, List.of(
+			row(1L, "학교", "먹다", "기쁨", 1, AacStatus.DEFAULT),
+			row(2L, "학교", "앉기", "기쁨", 2, AacStatus.PUBLIC),
+			row(3L, "집", "먹다", null, 3, AacStatus.PUBLIC),
+			row(4L, "학교", "먹다", "피곤함", 4, AacStatus.PUBLIC)
+		));
+
+		assertThat(ids(catalog.find(null, null, null))).containsExactly(4L, 3L, 2L, 1L);
+		assertThat(ids(catalog.find("학교", null, null))).containsExactly(4L, 2L, 1L);
+		assertThat(ids(catalog.find("학교", "먹다", null))).containsExactly(4L, 1L);
+		assertThat(ids(catalog.find("학교", "먹다", "기쁨"))).containsExactly(1L);
+		assertThat(catalog.find("병원", null, null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("카탈로그 병합 - PRIVATE 항목이 정렬 순서대로 끼워지고 offset 이후 size개만 반환")
+	void merge_interleavesByCreatedAt() {
+		List<AacFileRow> publicRows = List.of(
+			row(5L, "학교", "먹다", null, 5, AacStatus.PUBLIC),
+			row(1L, "학교", "먹다", null, 1, AacStatus.DEFAULT));
+		List<AacFileRow> privateRows = List.of(
+			row(4L, "학교", "먹다", null, 4, AacStatus.PRIVATE),
+			row(2L, "학교", "먹다", null, 2, AacStatus.PRIVATE));
+
+		assertThat(ids(AacCatalog.merge(publicRows, privateRows, 0, 3))).containsExactly(5L, 4L, 2L);
+		assertThat(ids(AacCatalog.merge(publicRows, privateRows, 1, 2))).containsExactly(4L, 2L);
+		assertThat(AacCatalog.merge(publicRows, privateRows, 4, 2)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("카탈로그 조회 - 필터가 하나 이하이면 인덱스 목록을 복사하지 않고 그대로 반환")
+	void find_singleFilter_returnsIndexWithoutCopy() {
+		AacCatalog catalog = AacCatalog.of(1L, List.of(
+			row(1L, "학교", "먹다", "기쁨", 1, AacStatus.DEFAULT),
+			row(2L, "학교", "가다", null, 2, AacStatus.PUBLIC)));
+
+		assertThat(catalog.find(null, null, null)).isSameAs(catalog.find(null, null, null));
+		assertThat(catalog.find("학교", null, null)).isSameAs(catalog.find("학교", null, null));
+		assertThat(catalog.find("학교", "먹다", null)).isNotSameAs(catalog.find("학교", "먹다", null));
+	}
+
+	private AacFileRow row(Long id, String situation, String action, String emotion, int minutes, AacStatus status) {
+		Aac aac = Aac.builder()
+			.id(id)
+			.name("aac-" + id)
+			.situation(situation)
+			.action(action)
+			.emotion(emotion)
+			.description("테스트 AAC")
+			.fileId(id)
+			.therapistId(1L)
+			.createdAt(BASE.plusMinutes(minutes))
+			.status(status)
+			.build();
+		return new AacFileRow(aac, "aac/" + id + ".png", false);
+	}
+
+	private List<Long> ids(List<AacFileRow> rows) {
+		return rows.stream().map(row -> row.getAac().getId()).toList();
+	}
+}
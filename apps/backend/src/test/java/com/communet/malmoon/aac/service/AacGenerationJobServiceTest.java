@@ -0,0 +1,240 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
+import com.communet.malmoon.aac.dto.request.AacGenerationConfirmReq;
+import com.communet.malmoon.aac.dto.response.AacCreateRes;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.external.fastapi.FastApiClient;
+import com.communet.malmoon.file.dto.response.FileUploadRes;
+import com.communet.malmoon.file.service.FileService;
+
+class AacGenerationJobServiceTest {
+
+	private static final Long THERAPIST_ID = 7L;
+
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+	private final FileService fileService = mock(FileService.class);
+	private final AacService aacService = mock(AacService.class);
+	private final InMemoryJobStore jobStore = new InMemoryJobStore();
+	// 생성 작업은 호출 스레드에서 바로 실행
+	private final AacGenerationJobService jobService = new AacGenerationJobService(fastApiClient, fileService,
+		aacService, jobStore, mock(RedisMessageListenerContainer.class), Runnable::run, 2, 120);
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		given(fastApiClient.requestPreviewImage(any(AacCreateReq.class))).willReturn("http://fastapi/static/a.png");
+		given(fastApiClient.downloadPreviewImage("http://fastapi/static/a.png")).willReturn(new byte[] {1});
+		given(fileService.uploadFile(anyString(), any(byte[].class), eq("a.png")))
+			.willReturn(FileUploadRes.builder().fileId(100L).url("aac/a.png").build());
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("확정 성공 - 생성된 파일 ID로 AAC를 저장하고 작업을 제거")
+	void confirm_success() {
+		String jobId = succeededJob();
+		given(aacService.createFromFileId(any(AacCustomPresignReq.class), eq(THERAPIST_ID)))
+			.willReturn(AacCreateRes.of("https://presigned/a.png"));
+
+		AacCreateRes res = jobService.confirm(jobId, confirmReq(), THERAPIST_ID);
+
+		assertThat(res).isNotNull();
+		then(aacService).should().createFromFileId(argThat(req -> req.getFileId().equals(100L)
+			&& "학교".equals(req.getSituation())), eq(THERAPIST_ID));
+		assertThatThrownBy(() -> jobService.getJob(jobId, THERAPIST_ID))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.GENERATION_JOB_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("없거나 만료된 작업은 확정할 수 없음")
+	void confirm_missingJob_throws() {
+		assertThatThrownBy(() -> jobService.confirm("expired", confirmReq(), THERAPIST_ID))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.GENERATION_JOB_NOT_FOUND);
+
+		then(aacService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("동시에 두 번 확정하면 AAC는 한 번만 생성되고 두 번째는 NOT_FOUND")
+	void confirm_concurrentDouble_createsOnce() throws Exception {
+		String jobId = succeededJob();
+		CountDownLatch creating = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(aacService.createFromFileId(any(AacCustomPresignReq.class), eq(THERAPIST_ID))).willAnswer(inv -> {
+			creating.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return AacCreateRes.of("https://presigned/a.png");
+		});
+
+		Future<AacCreateRes> first = executor.submit(() -> jobService.confirm(jobId, confirmReq(), THERAPIST_ID));
+		assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> jobService.confirm(jobId, confirmReq(), THERAPIST_ID))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.GENERATION_JOB_NOT_FOUND);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+		then(aacService).should(times(1)).createFromFileId(any(AacCustomPresignReq.class), eq(THERAPIST_ID));
+	}
+
+	@Test
+	@DisplayName("AAC 저장에 실패하면 작업을 되돌려 다시 확정할 수 있음")
+	void confirm_saveFailure_restoresJob() {
+		String jobId = succeededJob();
+		given(aacService.createFromFileId(any(AacCustomPresignReq.class), eq(THERAPIST_ID)))
+			.willThrow(new AacException(AacErrorCode.AAC_SAVE_FAILED))
+			.willReturn(AacCreateRes.of("https://presigned/a.png"));
+
+		assertThatThrownBy(() -> jobService.confirm(jobId, confirmReq(), THERAPIST_ID))
+			.isInstanceOf(AacException.class);
+
+		assertThat(jobService.confirm(jobId, confirmReq(), THERAPIST_ID)).isNotNull();
+		then(aacService).should(times(2)).createFromFileId(any(AacCustomPresignReq.class), eq(THERAPIST_ID));
+	}
+
+	@Test
+	@DisplayName("다른 재활사의 작업은 확정할 수 없고 작업도 유지됨")
+	void confirm_otherTherapist_throws() {
+		String jobId = succeededJob();
+
+		assertThatThrownBy(() -> jobService.confirm(jobId, confirmReq(), 99L))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.UNAUTHORIZED_ACCESS);
+
+		assertThat(jobService.getJob(jobId, THERAPIST_ID)).isNotNull();
+		then(aacService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("재활사별 동시 작업 한도를 넘으면 등록을 거절")
+	void submit_overLimit_throws() {
+		jobStore.active.put(THERAPIST_ID, 2);
+
+		assertThatThrownBy(() -> jobService.submit(new AacCreateReq("학교", "공부", "신남", null), THERAPIST_ID))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.GENERATION_JOB_LIMIT_EXCEEDED);
+		then(fastApiClient).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("작업이 끝나면 저장소에 완료 상태가 남고 슬롯을 반납하며 상태 변경을 발행")
+	void run_savesStatusReleasesSlotAndPublishes() {
+		String jobId = succeededJob();
+
+		assertThat(jobService.getJob(jobId, THERAPIST_ID).getStatus()).isEqualTo(AacGenerationJobStatus.SUCCEEDED);
+		assertThat(jobStore.active).doesNotContainKey(THERAPIST_ID);
+		assertThat(jobStore.published).containsEntry(jobId, 2);
+	}
+
+	private String succeededJob() {
+		return jobService.submit(new AacCreateReq("학교", "공부", "신남", "이유"), THERAPIST_ID).getJobId();
+	}
+
+	private static AacGenerationConfirmReq confirmReq() {
+		return AacGenerationConfirmReq.builder()
+			.name("공부해요")
+			.description("학교에서 공부하는 상황")
+			.status(AacStatus.PRIVATE)
+			.build();
+	}
+
+	/**
+	 * Redis 스크립트와 같은 의미로 동작하는 메모리 저장소 (선점은 SUCCEEDED 작업에 한 번만 성공)
+	 */
+	private static class InMemoryJobStore extends AacGenerationJobStore {
+
+		private final Map<String, AacGenerationJob> jobs = new ConcurrentHashMap<>();
+		private final Map<String, Boolean> claimed = new ConcurrentHashMap<>();
+		private final Map<Long, Integer> active = new ConcurrentHashMap<>();
+		private final Map<String, Integer> published = new ConcurrentHashMap<>();
+
+		InMemoryJobStore() {
+			super(mock(StringRedisTemplate.class), 30);
+		}
+
+		@Override
+		public void save(AacGenerationJob job) {
+			jobs.put(job.getJobId(), job);
+		}
+
+		@Override
+		public Optional<AacGenerationJob> find(String jobId) {
+			return Optional.ofNullable(jobs.get(jobId)).map(job -> new AacGenerationJob(job.getJobId(),
+				job.getTherapistId(), job.getRequest(), job.getCreatedAt(), job.getStatus(), job.getFileId(),
+				job.getErrorMessage(), claimed.containsKey(jobId)));
+		}
+
+		@Override
+		public synchronized boolean claim(String jobId, Long therapistId) {
+			AacGenerationJob job = jobs.get(jobId);
+			if (job == null || !job.getTherapistId().equals(therapistId)
+				|| job.getStatus() != AacGenerationJobStatus.SUCCEEDED) {
+				return false;
+			}
+			return claimed.putIfAbsent(jobId, true) == null;
+		}
+
+		@Override
+		public void unclaim(String jobId) {
+			claimed.remove(jobId);
+		}
+
+		@Override
+		public void delete(String jobId) {
+			jobs.remove(jobId);
+			claimed.remove(jobId);
+		}
+
+		@Override
+		public synchronized boolean acquireSlot(Long therapistId, int maxJobs) {
+			int count = active.getOrDefault(therapistId, 0);
+			if (count >= maxJobs) {
+				return false;
+			}
+			active.put(therapistId, count + 1);
+			return true;
+		}
+
+		@Override
+		public synchronized void releaseSlot(Long therapistId) {
+			active.computeIfPresent(therapistId, (id, count) -> count <= 1 ? null : count - 1);
+		}
+
+		@Override
+		public void publish(String jobId) {
+			published.merge(jobId, 1, Integer::sum);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.communet.malmoon.aac.domain.AacGenerationJobStatus;
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+
+class AacGenerationJobStoreTest {
+
+	private static final String JOB_KEY = "aac:generation:job:job-1";
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+	private final AacGenerationJobStore jobStore = new AacGenerationJobStore(redisTemplate, 30);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+	}
+
+	@Test
+	@DisplayName("저장 - 작업 해시를 TTL과 함께 한 번에 쓰고 값이 없는 필드는 생략")
+	void save_writesHashWithTtl() {
+		AacGenerationJob job = new AacGenerationJob(7L, new AacCreateReq("학교", "공부", null, null));
+
+		jobStore.save(job);
+
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		then(redisTemplate).should().execute(eq(AacGenerationJobStore.SAVE_SCRIPT),
+			eq(List.of("aac:generation:job:" + job.getJobId())), args.capture());
+		assertThat(args.getValue()[0]).isEqualTo("1800");
+		assertThat(args.getValue()).contains("therapistId", "7", "status", "PENDING", "situation", "학교")
+			.doesNotContain("emotion", "fileId", "errorMessage");
+	}
+
+	@Test
+	@DisplayName("조회 - 해시에서 작업 상태와 요청, 선점 여부를 복원")
+	void find_restoresJob() {
+		given(hashOperations.entries(JOB_KEY)).willReturn(Map.of(
+			"therapistId", "7", "status", "SUCCEEDED", "createdAt", "2026-10-18T10:00",
+			"situation", "학교", "action", "공부", "emotion", "신남", "fileId", "100", "claimed", "1"));
+
+		AacGenerationJob job = jobStore.find("job-1").orElseThrow();
+
+		assertThat(job.getJobId()).isEqualTo("job-1");
+		assertThat(job.getTherapistId()).isEqualTo(7L);
+		assertThat(job.getStatus()).isEqualTo(AacGenerationJobStatus.SUCCEEDED);
+		assertThat(job.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 10, 18, 10, 0));
+		assertThat(job.getRequest()).isEqualTo(new AacCreateReq("학교", "공부", "신남", null));
+		assertThat(job.getFileId()).isEqualTo(100L);
+		assertThat(job.isClaimed()).isTrue();
+	}
+
+	@Test
+	@DisplayName("조회 - 만료되었거나 삭제된 작업은 비어 있음")
+	void find_missing_returnsEmpty() {
+		given(hashOperations.entries(JOB_KEY)).willReturn(Map.of());
+
+		assertThat(jobStore.find("job-1")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("선점 - 스크립트가 claimed를 세운 경우에만 성공")
+	void claim_usesScriptResult() {
+		given(redisTemplate.execute(AacGenerationJobStore.CLAIM_SCRIPT, List.of(JOB_KEY), "7"))
+			.willReturn(1L)
+			.willReturn(0L);
+
+		assertThat(jobStore.claim("job-1", 7L)).isTrue();
+		assertThat(jobStore.claim("job-1", 7L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("슬롯 - 한도와 TTL을 넘겨 카운터 스크립트로 차지")
+	void acquireSlot_passesLimitAndTtl() {
+		given(redisTemplate.execute(AacGenerationJobStore.ACQUIRE_SLOT_SCRIPT,
+			List.of("aac:generation:active:7"), "2", "1800")).willReturn(0L);
+
+		assertThat(jobStore.acquireSlot(7L, 2)).isFalse();
+	}
+
+	@Test
+	@DisplayName("상태 발행 실패는 삼키고 구독자는 폴링으로 확인")
+	void publish_failure_isSwallowed() {
+		willThrow(new IllegalStateException("redis down")).given(redisTemplate)
+			.convertAndSend(AacGenerationJobStore.CHANNEL, "job-1");
+
+		assertThatCode(() -> jobStore.publish("job-1")).doesNotThrowAnyException();
+	}
+}
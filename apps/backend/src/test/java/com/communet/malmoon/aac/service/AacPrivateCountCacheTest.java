@@ -0,0 +1,60 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.aac.repository.AacRepository;
+
+class AacPrivateCountCacheTest {
+
+	private final AacRepository aacRepository = mock(AacRepository.class);
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	private final AacPrivateCountCache cache = new AacPrivateCountCache(aacRepository, stringRedisTemplate,
+		mock(RedisMessageListenerContainer.class), 100, 300);
+
+	@Test
+	@DisplayName("재활사별 PRIVATE 개수는 한 번만 카운트하고 이후에는 캐시에서 반환")
+	@SuppressWarnings("unchecked")
+	void count_cachedPerTherapist() {
+		given(aacRepository.count(any(Specification.class))).willReturn(0L);
+
+		assertThat(cache.count(7L)).isZero();
+		assertThat(cache.count(7L)).isZero();
+
+		then(aacRepository).should(times(1)).count(any(Specification.class));
+	}
+
+	@Test
+	@DisplayName("PRIVATE AAC 변경 이벤트는 해당 재활사 개수만 버리고 다른 노드에 전파")
+	@SuppressWarnings("unchecked")
+	void onCatalogChanged_private_invalidatesTherapist() {
+		given(aacRepository.count(any(Specification.class))).willReturn(0L, 1L);
+		cache.count(7L);
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PRIVATE, 7L));
+
+		assertThat(cache.count(7L)).isEqualTo(1L);
+		then(stringRedisTemplate).should().convertAndSend(AacPrivateCountCache.CHANNEL, "7");
+	}
+
+	@Test
+	@DisplayName("공개 AAC 변경 이벤트는 PRIVATE 개수 캐시에 영향 없음")
+	@SuppressWarnings("unchecked")
+	void onCatalogChanged_public_isIgnored() {
+		given(aacRepository.count(any(Specification.class))).willReturn(0L);
+		cache.count(7L);
+
+		cache.onCatalogChanged(new AacCatalogChangedEvent(1L, AacStatus.PUBLIC, 7L));
+
+		assertThat(cache.count(7L)).isZero();
+		then(aacRepository).should(times(1)).count(any(Specification.class));
+		then(stringRedisTemplate).shouldHaveNoInteractions();
+	}
+}
@@ -16,10 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.communet.malmoon.aac.domain.Aac;
@@ -27,7 +30,9 @@ import com.communet.malmoon.aac.domain.AacStatus;
 import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
+import com.communet.malmoon.aac.dto.request.AacScrollReq;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
+import com.communet.malmoon.aac.repository.AacFileRow;
 import com.communet.malmoon.aac.repository.AacRepository;
 import com.communet.malmoon.external.fastapi.FastApiClient;
 import com.communet.malmoon.file.domain.FileType;
@@ -50,6 +55,15 @@ class AacServiceTest {
 	@Mock
 	private FastApiClient fastApiClient;
 
+	@Mock
+	private AacCatalogCache aacCatalogCache;
+
+	@Mock
+	private AacPrivateCountCache aacPrivateCountCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Test
 	@DisplayName("AAC 목록 전체 조회 성공 - 필터 조건 없이 페이징만 전달")
 	void getAacList_success() {
@@ -62,16 +76,17 @@ class AacServiceTest {
 			.emotion("불안")
 			.description("도움을 요청하는 상황")
 			.fileId(100L) // 실제 경로가 아닌 file 테이블의 Long ID
-			.status(AacStatus.PUBLIC)
+			.therapistId(1L)
+			.status(AacStatus.PRIVATE)
 			.build();
 
-		PageRequest pageRequest = PageRequest.of(0, 10);
-		Page<Aac> page = new PageImpl<>(List.of(mockAac), pageRequest, 1);
-
-		given(fileService.getFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/image.png");
-		given(aacRepository.findAll(any(Specification.class), any(Pageable.class)))
-			.willReturn(page);
-		;
+		given(aacCatalogCache.get()).willReturn(AacCatalog.of(1L, List.of()));
+		given(aacPrivateCountCache.count(1L)).willReturn(1L);
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Pageable.class)))
+			.willReturn(new PageImpl<>(List.of(new AacFileRow(mockAac, "aac/image.png", false)),
+				PageRequest.of(0, 10), 1));
+		given(fileService.getPresignedFileUrl(100L, "aac/image.png"))
+			.willReturn("https://s3.amazonaws.com/bucket/image.png");
 
 		AacGetReq req = AacGetReq.builder()
 			.page(0)
@@ -87,7 +102,7 @@ class AacServiceTest {
 		AacGetRes res = result.getContent().get(0);
 		assertThat(res.getId()).isEqualTo(1L);
 		assertThat(res.getName()).isEqualTo("도와줘");
-		assertThat(res.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/image.png");
+		assertThat(res.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/image.png");
 	}
 
 	@Test
@@ -102,15 +117,17 @@ class AacServiceTest {
 			.emotion("분노")
 			.description("놀림을 당해 화가 난 상황")
 			.fileId(101L)
-			.status(AacStatus.PUBLIC)
+			.therapistId(2L)
+			.status(AacStatus.PRIVATE)
 			.build();
 
-		PageRequest pageRequest = PageRequest.of(0, 10);
-		Page<Aac> page = new PageImpl<>(List.of(mockAac), pageRequest, 1);
-
-		given(fileService.getFileUrl(101L)).willReturn("https://s3.amazonaws.com/bucket/angry.png");
-		given(aacRepository.findAll(any(Specification.class), any(Pageable.class)))
-			.willReturn(page);
+		given(aacCatalogCache.get()).willReturn(AacCatalog.of(1L, List.of()));
+		given(aacPrivateCountCache.count(2L)).willReturn(1L);
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Pageable.class)))
+			.willReturn(new PageImpl<>(List.of(new AacFileRow(mockAac, "aac/angry.png", false)),
+				PageRequest.of(0, 10), 1));
+		given(fileService.getPresignedFileUrl(101L, "aac/angry.png"))
+			.willReturn("https://s3.amazonaws.com/bucket/angry.png");
 
 		AacGetReq req = AacGetReq.builder()
 			.situation("놀림")
@@ -128,7 +145,56 @@ class AacServiceTest {
 		AacGetRes res = result.getContent().get(0);
 		assertThat(res.getId()).isEqualTo(2L);
 		assertThat(res.getName()).isEqualTo("화났어");
-		assertThat(res.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/angry.png");
+		assertThat(res.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/angry.png");
+	}
+
+	@Test
+	@DisplayName("AAC 목록 조회 - PRIVATE 항목이 없는 재활사는 AAC 리포지토리를 조회하지 않음")
+	void getAacList_noPrivateItems_skipsRepository() {
+		Aac publicAac = Aac.builder().id(1L).name("도와줘").fileId(100L).status(AacStatus.PUBLIC).build();
+		given(aacCatalogCache.get())
+			.willReturn(AacCatalog.of(1L, List.of(new AacFileRow(publicAac, "aac/1.png", false))));
+		given(aacPrivateCountCache.count(7L)).willReturn(0L);
+		given(fileService.getPresignedFileUrl(100L, "aac/1.png")).willReturn("https://presigned/1.png");
+
+		Page<AacGetRes> result = aacService.getAacList(AacGetReq.builder().page(0).size(10).build(), 7L);
+
+		assertThat(result.getTotalElements()).isEqualTo(1);
+		then(aacRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("AAC 목록 조회 - PRIVATE 항목이 있는 재활사는 페이지 조회 1회로 병합")
+	void getAacList_withPrivateItems_queriesOnce() {
+		Aac privateAac = Aac.builder().id(2L).name("비밀").fileId(200L).therapistId(7L)
+			.status(AacStatus.PRIVATE).build();
+		given(aacCatalogCache.get()).willReturn(AacCatalog.of(1L, List.of()));
+		given(aacPrivateCountCache.count(7L)).willReturn(1L);
+		given(aacRepository.findAllWithFile(any(Specification.class), any(Pageable.class)))
+			.willReturn(new PageImpl<>(List.of(new AacFileRow(privateAac, "aac/2.png", false)),
+				PageRequest.of(0, 10), 1));
+		given(fileService.getPresignedFileUrl(200L, "aac/2.png")).willReturn("https://presigned/2.png");
+
+		Page<AacGetRes> result = aacService.getAacList(AacGetReq.builder().page(0).size(10).build(), 7L);
+
+		assertThat(result.getContent()).extracting(AacGetRes::getId).containsExactly(2L);
+		then(aacRepository).should(times(1)).findAllWithFile(any(Specification.class), any(Pageable.class));
+		then(aacRepository).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("AAC 무한 스크롤 조회 - 조회 개수는 1 ~ 100으로 제한")
+	void getAacSlice_clampsSize() {
+		given(aacRepository.findSliceWithFile(any(Specification.class), any(Sort.class), anyInt()))
+			.willReturn(new SliceImpl<>(List.of()));
+
+		aacService.getAacSlice(AacScrollReq.builder().size(10_000).build(), 7L);
+		aacService.getAacSlice(AacScrollReq.builder().size(0).build(), 7L);
+		aacService.getAacSlice(AacScrollReq.builder().size(30).build(), 7L);
+
+		then(aacRepository).should().findSliceWithFile(any(Specification.class), any(Sort.class), eq(100));
+		then(aacRepository).should().findSliceWithFile(any(Specification.class), any(Sort.class), eq(1));
+		then(aacRepository).should().findSliceWithFile(any(Specification.class), any(Sort.class), eq(30));
 	}
 
 	@Test
@@ -147,7 +213,7 @@ class AacServiceTest {
 			.build();
 
 		given(aacRepository.findById(1L)).willReturn(Optional.of(mockAac));
-		given(fileService.getFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/slump.png");
+		given(fileService.getPresignedFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/slump.png");
 
 		// when
 		AacGetRes result = aacService.getAacDetail(1L);
@@ -156,7 +222,7 @@ class AacServiceTest {
 		assertThat(result).isNotNull();
 		assertThat(result.getId()).isEqualTo(1L);
 		assertThat(result.getName()).isEqualTo("슬픔");
-		assertThat(result.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/slump.png");
+		assertThat(result.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/slump.png");
 	}
 
 	@Test
@@ -209,6 +275,7 @@ class AacServiceTest {
 
 		given(fileService.uploadFile(eq(String.valueOf(FileType.AAC)), any(File.class)))
 			.willReturn(dummyUploadRes);
+		given(aacRepository.save(any(Aac.class))).willAnswer(inv -> inv.getArgument(0));
 
 		// when
 		aacService.confirmAndSaveAac(req, memberId);
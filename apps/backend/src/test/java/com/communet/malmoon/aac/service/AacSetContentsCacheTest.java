@@ -0,0 +1,77 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class AacSetContentsCacheTest {
+
+	private static final Long SET_ID = 100L;
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+	private final Map<String, Object> store = new ConcurrentHashMap<>();
+	private final AacSetContentsCache cache = new AacSetContentsCache(redisTemplate, 60);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(anyString())).willAnswer(inv -> store.get(inv.<String>getArgument(0)));
+		willAnswer(inv -> store.put(inv.getArgument(0), inv.getArgument(1)))
+			.given(valueOperations).set(anyString(), any(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("수정 커밋 전에 조회를 시작한 요청이 늦게 저장한 이전 구성은 다시 읽히지 않음")
+	void stalePutAfterBump_isNotRead() {
+		// 조회 요청이 커밋 전에 버전을 읽고 DB에서 이전 구성을 읽음
+		String readerVersion = cache.version(SET_ID);
+		AacSetContents stale = new AacSetContents(1L, List.of());
+
+		// 수정 트랜잭션이 커밋되어 버전이 바뀐 뒤 조회 요청이 이전 구성을 저장
+		cache.onSetChanged(new AacSetChangedEvent(SET_ID));
+		cache.put(SET_ID, readerVersion, stale);
+
+		String currentVersion = cache.version(SET_ID);
+		assertThat(currentVersion).isNotEqualTo(readerVersion);
+		assertThat(cache.get(SET_ID, currentVersion)).isNull();
+	}
+
+	@Test
+	@DisplayName("같은 버전으로 저장한 구성은 캐시 적중")
+	void putAndGet_sameVersion_hits() {
+		String version = cache.version(SET_ID);
+		AacSetContents contents = new AacSetContents(1L, List.of());
+
+		cache.put(SET_ID, version, contents);
+
+		assertThat(version).isEqualTo(AacSetContentsCache.INITIAL_VERSION);
+		assertThat(cache.get(SET_ID, cache.version(SET_ID))).isSameAs(contents);
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 버전을 읽지 못하면 캐시를 조회/저장하지 않음")
+	void versionFailure_skipsCache() {
+		given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+		String version = cache.version(SET_ID);
+		cache.put(SET_ID, version, new AacSetContents(1L, List.of()));
+
+		assertThat(version).isNull();
+		assertThat(cache.get(SET_ID, version)).isNull();
+		assertThat(store).isEmpty();
+	}
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.communet.malmoon.aac.domain.Aac;
 import com.communet.malmoon.aac.domain.AacItemSet;
@@ -22,6 +23,8 @@ import com.communet.malmoon.aac.dto.request.AacSetUpdateReq;
 import com.communet.malmoon.aac.dto.response.AacSetCreateRes;
 import com.communet.malmoon.aac.dto.response.AacSetDetailRes;
 import com.communet.malmoon.aac.dto.response.AacSetSimpleRes;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
 import com.communet.malmoon.aac.repository.AacItemSetRepository;
 import com.communet.malmoon.aac.repository.AacRepository;
 import com.communet.malmoon.aac.repository.AacSetRepository;
@@ -38,6 +41,10 @@ class AacSetServiceUnitTest {
 	AacItemSetRepository aacItemSetRepository;
 	@Mock
 	AacRepository aacRepository;
+	@Mock
+	AacSetContentsCache aacSetContentsCache;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 
 	@Test
 	@DisplayName("AAC 묶음 생성 성공")
@@ -55,6 +62,8 @@ class AacSetServiceUnitTest {
 			.build();
 
 		given(aacSetRepository.save(any(AacSet.class))).willReturn(savedSet);
+		given(aacRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(
+			Aac.builder().id(1L).build(), Aac.builder().id(2L).build(), Aac.builder().id(3L).build()));
 
 		// when
 		AacSetCreateRes res = aacSetService.createAacSet(req, therapistId);
@@ -62,7 +71,8 @@ class AacSetServiceUnitTest {
 		// then
 		assertThat(res).isNotNull();
 		assertThat(res.getAacSetId()).isEqualTo(10L);
-		verify(aacItemSetRepository, times(3)).save(any(AacItemSet.class));
+		verify(aacItemSetRepository).batchInsert(10L, List.of(1L, 2L, 3L));
+		verify(aacItemSetRepository, never()).save(any(AacItemSet.class));
 	}
 
 	@Test
@@ -95,12 +105,12 @@ class AacSetServiceUnitTest {
 		Long therapistId = 1L;
 
 		AacSet aacSet = AacSet.builder().id(aacSetId).therapistId(therapistId).build();
-		AacItemSet mapping = AacItemSet.builder().aacItemId(200L).orderNo(1).build();
 		Aac aac = Aac.builder().id(200L).name("슬픔").build();
 
+		given(aacSetContentsCache.version(aacSetId)).willReturn("v1");
+		given(aacSetContentsCache.get(aacSetId, "v1")).willReturn(null);
 		given(aacSetRepository.findById(aacSetId)).willReturn(Optional.of(aacSet));
-		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(aacSetId)).willReturn(List.of(mapping));
-		given(aacRepository.findById(200L)).willReturn(Optional.of(aac));
+		given(aacItemSetRepository.findDetailsByAacSetId(aacSetId)).willReturn(List.of(AacSetDetailRes.from(aac, 1)));
 
 		// when
 		List<AacSetDetailRes> res = aacSetService.getAacInset(aacSetId, therapistId);
@@ -109,6 +119,65 @@ class AacSetServiceUnitTest {
 		assertThat(res).hasSize(1);
 		assertThat(res.get(0).getId()).isEqualTo(200L);
 		assertThat(res.get(0).getOrderNo()).isEqualTo(1);
+		verify(aacRepository, never()).findById(any());
+		verify(aacSetContentsCache).put(eq(aacSetId), eq("v1"), any(AacSetContents.class));
+	}
+
+	@Test
+	@DisplayName("특정 AAC 묶음 상세 조회 - AAC가 없는 항목이 있으면 AAC_ITEM_NOT_FOUND, 캐시하지 않음")
+	void getAacInset_missingAac_throws() {
+		// given
+		Long aacSetId = 100L;
+		Long therapistId = 1L;
+		AacSet aacSet = AacSet.builder().id(aacSetId).therapistId(therapistId).build();
+		AacSetDetailRes missing = AacSetDetailRes.builder().orderNo(2).build();
+
+		given(aacSetContentsCache.version(aacSetId)).willReturn("v1");
+		given(aacSetRepository.findById(aacSetId)).willReturn(Optional.of(aacSet));
+		given(aacItemSetRepository.findDetailsByAacSetId(aacSetId)).willReturn(List.of(
+			AacSetDetailRes.from(Aac.builder().id(200L).name("슬픔").build(), 1), missing));
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.getAacInset(aacSetId, therapistId))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.AAC_ITEM_NOT_FOUND);
+		verify(aacSetContentsCache, never()).put(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("특정 AAC 묶음 상세 조회 - 소유자가 아니면 항목 조회 전에 거절")
+	void getAacInset_notOwner_throwsBeforeLoadingItems() {
+		// given
+		Long aacSetId = 100L;
+		given(aacSetContentsCache.version(aacSetId)).willReturn("v1");
+		given(aacSetRepository.findById(aacSetId))
+			.willReturn(Optional.of(AacSet.builder().id(aacSetId).therapistId(1L).build()));
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.getAacInset(aacSetId, 2L))
+			.isInstanceOf(AacException.class)
+			.extracting("errorCode").isEqualTo(AacErrorCode.UNAUTHORIZED_ACCESS);
+		verifyNoInteractions(aacItemSetRepository);
+	}
+
+	@Test
+	@DisplayName("특정 AAC 묶음 상세 조회 - 캐시 적중 시 DB 미조회")
+	void getAacInset_cacheHit() {
+		// given
+		Long aacSetId = 100L;
+		Long therapistId = 1L;
+		Aac aac = Aac.builder().id(200L).name("슬픔").build();
+
+		given(aacSetContentsCache.version(aacSetId)).willReturn("v1");
+		given(aacSetContentsCache.get(aacSetId, "v1"))
+			.willReturn(new AacSetContents(therapistId, List.of(AacSetDetailRes.from(aac, 1))));
+
+		// when
+		List<AacSetDetailRes> res = aacSetService.getAacInset(aacSetId, therapistId);
+
+		// then
+		assertThat(res).extracting(AacSetDetailRes::getId).containsExactly(200L);
+		verifyNoInteractions(aacSetRepository, aacItemSetRepository);
 	}
 
 	@Test
@@ -122,13 +191,16 @@ class AacSetServiceUnitTest {
 		AacSetUpdateReq req = new AacSetUpdateReq("업데이트된 묶음", "변경된 설명", List.of(1L, 2L));
 
 		given(aacSetRepository.findById(setId)).willReturn(Optional.of(set));
+		given(aacRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(
+			Aac.builder().id(1L).build(), Aac.builder().id(2L).build()));
 
 		// when
 		aacSetService.updateAacSet(setId, req, therapistId);
 
 		// then
 		verify(aacItemSetRepository).deleteByAacSetId(setId);
-		verify(aacItemSetRepository, times(2)).save(any(AacItemSet.class));
+		verify(aacItemSetRepository).batchInsert(setId, List.of(1L, 2L));
+		verify(aacItemSetRepository, never()).save(any(AacItemSet.class));
 	}
 
 	@Test
@@ -147,5 +219,22 @@ class AacSetServiceUnitTest {
 		// then
 		verify(aacItemSetRepository).deleteByAacSetId(setId);
 		verify(aacSetRepository).delete(set);
+		verify(eventPublisher).publishEvent(any(AacSetChangedEvent.class));
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 생성 실패 - 존재하지 않는 AAC 포함")
+	void createAacSet_itemNotFound() {
+		// given
+		AacSetCreateReq req = new AacSetCreateReq("감정 묶음", "기본 감정들", List.of(1L, 2L));
+		AacSet savedSet = AacSet.builder().id(10L).therapistId(1L).build();
+
+		given(aacSetRepository.save(any(AacSet.class))).willReturn(savedSet);
+		given(aacRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(Aac.builder().id(1L).build()));
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.createAacSet(req, 1L))
+			.isInstanceOf(AacException.class);
+		verify(aacItemSetRepository, never()).batchInsert(anyLong(), anyList());
 	}
 }
@@ -0,0 +1,200 @@
+package com.communet.malmoon.chat.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.TokenVersionService;
+
+class ChatStompAuthInterceptorTest {
+
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final ChatRoomParticipantRepository participantRepository = mock(ChatRoomParticipantRepository.class);
+	private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+	private final MessageChannel channel = mock(MessageChannel.class);
+	private final ChatStompAuthInterceptor interceptor =
+		new ChatStompAuthInterceptor(memberRepository, participantRepository, tokenVersionService);
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3_600_000);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheMaxSize", 100L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheTtlSeconds", 300L);
+		jwtTokenUtil.init();
+	}
+
+	@Test
+	@DisplayName("CONNECT - 유효한 토큰이면 회원 ID를 세션에 보관")
+	void connect_validToken_storesMemberId() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		interceptor.preSend(connect(JwtTokenUtil.TOKEN_PREFIX
+			+ JwtTokenUtil.getToken(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, 3L), attributes), channel);
+
+		assertThat(attributes).containsEntry(ChatStompAuthInterceptor.MEMBER_ID_ATTRIBUTE, 7L);
+		then(tokenVersionService).should().isRevoked(7L, 3L);
+	}
+
+	@Test
+	@DisplayName("CONNECT - 토큰이 없으면 거절")
+	void connect_withoutToken_rejects() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		assertThatThrownBy(() -> interceptor.preSend(connect(null, attributes), channel))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(attributes).isEmpty();
+	}
+
+	@Test
+	@DisplayName("CONNECT - 폐기된 토큰이면 거절")
+	void connect_revokedToken_rejects() {
+		given(tokenVersionService.isRevoked(7L, 1L)).willReturn(true);
+		Map<String, Object> attributes = new HashMap<>();
+
+		assertThatThrownBy(() -> interceptor.preSend(connect(JwtTokenUtil.TOKEN_PREFIX
+			+ JwtTokenUtil.getToken(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, 1L), attributes), channel))
+			.isInstanceOf(JWTVerificationException.class);
+		assertThat(attributes).isEmpty();
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 참여자면 채팅방 토픽 구독 허용")
+	void subscribe_roomTopic_participant_passes() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(true);
+		Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, "/topic/chat/rooms/10", 7L);
+
+		assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 참여자가 아니면 채팅방 토픽 구독 거절")
+	void subscribe_roomTopic_notParticipant_rejects() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(false);
+
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/chat/rooms/10", 7L),
+			channel))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.UNAUTHORIZED_ACCESS);
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 개인 오류 큐는 참여자 조회 없이 허용")
+	void subscribe_errorQueue_passes() {
+		Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, "/user/queue/errors", 7L);
+
+		assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+		then(participantRepository).shouldHaveNoInteractions();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/topic/chat/rooms/*", "/topic/**", "/topic/chat/rooms/**", "/topic/chat/rooms/1*",
+		"/queue/errors", "/user/queue/other", "/app/chat/rooms/10", "/topic/other"})
+	@DisplayName("SUBSCRIBE - 와일드카드와 허용되지 않은 목적지는 거절")
+	void subscribe_otherDestination_rejects(String destination) {
+		given(participantRepository.existsByRoomIdAndMemberId(anyLong(), anyLong())).willReturn(true);
+
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, destination, 7L), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 인증되지 않은 세션이면 개인 오류 큐도 거절")
+	void subscribe_unauthenticated_rejects() {
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/errors", null),
+			channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SEND - 참여자면 애플리케이션 목적지로 전송 허용")
+	void send_appDestination_participant_passes() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(true);
+		Message<byte[]> send = frame(StompCommand.SEND, "/app/chat/rooms/10", 7L);
+
+		assertThat(interceptor.preSend(send, channel)).isSameAs(send);
+	}
+
+	@Test
+	@DisplayName("SEND - 참여자가 아니면 거절")
+	void send_appDestination_notParticipant_rejects() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(false);
+
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/chat/rooms/10", 7L), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/topic/chat/rooms/10", "/user/queue/errors", "/queue/errors", "/app/chat/rooms/*",
+		"/app/other"})
+	@DisplayName("SEND - 브로커 목적지로 직접 보내거나 허용되지 않은 목적지는 거절")
+	void send_otherDestination_rejects(String destination) {
+		given(participantRepository.existsByRoomIdAndMemberId(anyLong(), anyLong())).willReturn(true);
+
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, destination, 7L), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SEND - 인증되지 않은 세션이면 참여자 조회 없이 거절")
+	void send_unauthenticated_rejects() {
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/chat/rooms/10", null), channel))
+			.isInstanceOf(ChatException.class);
+		then(participantRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE/SEND - 목적지가 없으면 거절")
+	void missingDestination_rejects() {
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, null, 7L), channel))
+			.isInstanceOf(ChatException.class);
+		assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, null, 7L), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	private static Message<byte[]> connect(String authorization, Map<String, Object> attributes) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		if (authorization != null) {
+			accessor.addNativeHeader(JwtTokenUtil.HEADER_STRING, authorization);
+		}
+		accessor.setSessionAttributes(attributes);
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private static Message<byte[]> frame(StompCommand command, String destination, Long memberId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		if (destination != null) {
+			accessor.setDestination(destination);
+		}
+		Map<String, Object> attributes = new HashMap<>();
+		if (memberId != null) {
+			attributes.put(ChatStompAuthInterceptor.MEMBER_ID_ATTRIBUTE, memberId);
+		}
+		accessor.setSessionAttributes(attributes);
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
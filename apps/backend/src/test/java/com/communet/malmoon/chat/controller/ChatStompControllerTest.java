@@ -0,0 +1,116 @@
+package com.communet.malmoon.chat.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import com.communet.malmoon.chat.config.ChatStompAuthInterceptor;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.service.ChatMessageBroadcaster;
+import com.communet.malmoon.chat.service.ChatMessageService;
+import com.communet.malmoon.chat.service.ChatRedisService;
+import com.communet.malmoon.chat.service.ChatRoomService;
+
+class ChatStompControllerTest {
+
+	private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+	private final ChatRedisService chatRedisService = mock(ChatRedisService.class);
+	private final ChatMessageBroadcaster chatMessageBroadcaster = mock(ChatMessageBroadcaster.class);
+	private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+	private final ChatStompController controller =
+		new ChatStompController(chatMessageService, chatRedisService, chatMessageBroadcaster, chatRoomService);
+
+	@Test
+	@DisplayName("일반 채팅 - 발신자와 채팅방은 접속 정보/목적지 기준, 타입이 없으면 TALK로 저장 후 전달")
+	void send_roomMessage_savesAndBroadcasts() {
+		ChatMessageRes saved = ChatMessageRes.builder().messageId(1L).roomId(10L).build();
+		given(chatMessageService.saveToDatabase(any(ChatMessageReq.class))).willReturn(saved);
+
+		controller.send(10L, ChatSessionMessageReq.builder().roomId(99L).senderId(99L).content("안녕").build(),
+			headers(7L));
+
+		ArgumentCaptor<ChatMessageReq> captor = ArgumentCaptor.forClass(ChatMessageReq.class);
+		then(chatRoomService).should().validateSender(10L, 7L, null);
+		then(chatMessageService).should().saveToDatabase(captor.capture());
+		assertThat(captor.getValue().getRoomId()).isEqualTo(10L);
+		assertThat(captor.getValue().getSenderId()).isEqualTo(7L);
+		assertThat(captor.getValue().getMessageType()).isEqualTo(ChatMessageType.TALK);
+		then(chatMessageBroadcaster).should().broadcast(saved);
+		then(chatRedisService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("세션 채팅 - 검증 후 Redis에 적재하고 전달")
+	void send_sessionMessage_savesToRedis() {
+		controller.send(10L, ChatSessionMessageReq.builder().sessionId("s-1").content("사진")
+			.messageType(ChatMessageType.IMAGE).build(), headers(7L));
+
+		ArgumentCaptor<ChatSessionMessageReq> captor = ArgumentCaptor.forClass(ChatSessionMessageReq.class);
+		then(chatRoomService).should().validateSender(10L, 7L, "s-1");
+		then(chatRedisService).should().saveToRedis(captor.capture());
+		assertThat(captor.getValue().getMessageType()).isEqualTo(ChatMessageType.IMAGE);
+		then(chatMessageBroadcaster).should().broadcast(any(ChatMessageRes.class));
+		then(chatMessageService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("사용자가 ENTER/LEAVE/NOTICE 타입을 보내면 저장하지 않고 거절")
+	void send_systemMessageType_rejects() {
+		for (ChatMessageType type : new ChatMessageType[] {ChatMessageType.ENTER, ChatMessageType.LEAVE,
+			ChatMessageType.NOTICE}) {
+			assertThatThrownBy(() -> controller.send(10L, ChatSessionMessageReq.builder().sessionId("s-1")
+				.content("x").messageType(type).build(), headers(7L)))
+				.isInstanceOf(ChatException.class)
+				.extracting("errorCode").isEqualTo(ChatErrorCode.INVALID_MESSAGE_TYPE);
+		}
+		then(chatRedisService).shouldHaveNoInteractions();
+		then(chatMessageBroadcaster).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("세션이 목적지 채팅방의 세션이 아니면 저장하지 않고 거절")
+	void send_sessionOfOtherRoom_rejects() {
+		willThrow(new ChatException(ChatErrorCode.SESSION_ROOM_MISMATCH))
+			.given(chatRoomService).validateSender(10L, 7L, "other");
+
+		assertThatThrownBy(() -> controller.send(10L, ChatSessionMessageReq.builder().sessionId("other")
+			.content("x").build(), headers(7L)))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.SESSION_ROOM_MISMATCH);
+		then(chatRedisService).shouldHaveNoInteractions();
+		then(chatMessageBroadcaster).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("참여자가 아니면 저장하지 않고 거절")
+	void send_notParticipant_rejects() {
+		willThrow(new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS))
+			.given(chatRoomService).validateSender(10L, 7L, null);
+
+		assertThatThrownBy(() -> controller.send(10L, ChatSessionMessageReq.builder().content("x").build(),
+			headers(7L)))
+			.isInstanceOf(ChatException.class);
+		then(chatMessageService).shouldHaveNoInteractions();
+		then(chatMessageBroadcaster).shouldHaveNoInteractions();
+	}
+
+	private static SimpMessageHeaderAccessor headers(Long memberId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(ChatStompAuthInterceptor.MEMBER_ID_ATTRIBUTE, memberId);
+		accessor.setSessionAttributes(attributes);
+		return accessor;
+	}
+}
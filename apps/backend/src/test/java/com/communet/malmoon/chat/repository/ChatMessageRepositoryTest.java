@@ -0,0 +1,153 @@
+package com.communet.malmoon.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatMessageScrollReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.service.ChatMessageServiceImpl;
+import com.communet.malmoon.chat.service.ChatRoomSummaryService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 채팅 메시지 키셋 페이지네이션 테스트
+ * - (sentAt, messageId) 커서로 이전 메시지를 조회하는 경로를 서비스부터 쿼리까지 확인
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:chat-message;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChatMessageRepositoryTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 1, 10, 0);
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	private ChatMessageServiceImpl chatMessageService;
+
+	@BeforeEach
+	void setUp() {
+		chatMessageService = new ChatMessageServiceImpl(chatMessageRepository, mock(ChatRoomSummaryService.class));
+	}
+
+	@Test
+	@DisplayName("첫 페이지는 최신 메시지부터 size개를 반환하고 다음 페이지 여부를 표시")
+	void getMessageSlice_firstPage() {
+		List<Long> ids = messages(1L, 5, 0);
+		messages(2L, 3, 10);
+
+		Slice<ChatMessageRes> slice = chatMessageService.getMessageSlice(1L, scroll(null, 3));
+
+		assertThat(slice.getContent()).extracting(ChatMessageRes::getMessageId)
+			.containsExactly(ids.get(4), ids.get(3), ids.get(2));
+		assertThat(slice.hasNext()).isTrue();
+	}
+
+	@Test
+	@DisplayName("커서 이후 페이지는 (sentAt, messageId) 역순으로 이어지며 같은 sentAt도 빠짐없이 조회")
+	void getMessageSlice_cursor_sameSentAt() {
+		// 같은 시각에 저장된 메시지 4건 + 이전 시각 1건
+		Long earliest = message(1L, BASE);
+		List<Long> sameTime = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			sameTime.add(message(1L, BASE.plusMinutes(1)));
+		}
+
+		Slice<ChatMessageRes> first = chatMessageService.getMessageSlice(1L, scroll(null, 2));
+		Long cursor = first.getContent().get(1).getMessageId();
+		Slice<ChatMessageRes> second = chatMessageService.getMessageSlice(1L, scroll(cursor, 2));
+		Long nextCursor = second.getContent().get(1).getMessageId();
+		Slice<ChatMessageRes> third = chatMessageService.getMessageSlice(1L, scroll(nextCursor, 2));
+
+		assertThat(first.getContent()).extracting(ChatMessageRes::getMessageId)
+			.containsExactly(sameTime.get(3), sameTime.get(2));
+		assertThat(second.getContent()).extracting(ChatMessageRes::getMessageId)
+			.containsExactly(sameTime.get(1), sameTime.get(0));
+		assertThat(second.hasNext()).isTrue();
+		assertThat(third.getContent()).extracting(ChatMessageRes::getMessageId).containsExactly(earliest);
+		assertThat(third.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("커서는 messageId가 아닌 sentAt을 먼저 비교 (나중에 저장된 과거 메시지도 순서대로 조회)")
+	void getMessageSlice_cursor_ordersBySentAtFirst() {
+		Long latest = message(1L, BASE.plusMinutes(2));
+		Long lateArrivedOld = message(1L, BASE);
+		Long middle = message(1L, BASE.plusMinutes(1));
+
+		Slice<ChatMessageRes> slice = chatMessageService.getMessageSlice(1L, scroll(latest, 10));
+
+		assertThat(slice.getContent()).extracting(ChatMessageRes::getMessageId)
+			.containsExactly(middle, lateArrivedOld);
+	}
+
+	@Test
+	@DisplayName("다른 채팅방의 메시지 ID를 커서로 보내면 빈 결과")
+	void getMessageSlice_cursorFromOtherRoom_empty() {
+		messages(1L, 3, 0);
+		List<Long> otherRoom = messages(2L, 3, 10);
+
+		Slice<ChatMessageRes> slice = chatMessageService.getMessageSlice(1L, scroll(otherRoom.get(2), 10));
+
+		assertThat(slice.getContent()).isEmpty();
+		assertThat(slice.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("요청 size는 최대 100개로 제한되고, 0 이하면 1개로 조회")
+	void getMessageSlice_sizeCapped() {
+		messages(1L, 105, 0);
+
+		Slice<ChatMessageRes> capped = chatMessageService.getMessageSlice(1L, scroll(null, 1000));
+		Slice<ChatMessageRes> minimum = chatMessageService.getMessageSlice(1L, scroll(null, 0));
+
+		assertThat(capped.getContent()).hasSize(100);
+		assertThat(capped.hasNext()).isTrue();
+		assertThat(minimum.getContent()).hasSize(1);
+	}
+
+	private List<Long> messages(Long roomId, int count, int startMinute) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			ids.add(message(roomId, BASE.plusMinutes(startMinute + i)));
+		}
+		return ids;
+	}
+
+	private Long message(Long roomId, LocalDateTime sentAt) {
+		ChatMessage message = ChatMessage.builder()
+			.roomId(roomId)
+			.senderId(1L)
+			.messageType(ChatMessageType.TALK)
+			.content("메시지")
+			.sentAt(sentAt)
+			.build();
+		em.persist(message);
+		em.flush();
+		return message.getMessageId();
+	}
+
+	private ChatMessageScrollReq scroll(Long beforeMessageId, int size) {
+		return ChatMessageScrollReq.builder()
+			.beforeMessageId(beforeMessageId)
+			.size(size)
+			.build();
+	}
+}
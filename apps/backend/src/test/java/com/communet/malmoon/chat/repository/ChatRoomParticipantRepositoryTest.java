@@ -0,0 +1,91 @@
+package com.communet.malmoon.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 채팅방 참여자 JDBC 배치 등록 테스트
+ * - JdbcTemplate으로 저장한 행을 JPA 엔티티로 다시 읽어 컬럼 매핑을 확인
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:chat-participant;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChatRoomParticipantRepositoryTest {
+
+	@Autowired
+	private ChatRoomParticipantRepository participantRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("참여 인원과 관계없이 JdbcTemplate 배치 한 번으로 등록")
+	void batchInsert_singleJdbcBatch() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+		new ChatRoomParticipantRepositoryCustomImpl(jdbcTemplate).batchInsert(10L, List.of(1L, 2L, 3L, 4L));
+
+		then(jdbcTemplate).should(times(1)).batchUpdate(startsWith("INSERT INTO chat_room_participant"),
+			argThat((List<Object[]> params) -> params.size() == 4 && params.get(0)[0].equals(10L)));
+		then(jdbcTemplate).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("배치 등록한 참여자는 엔티티 컬럼에 맞게 저장되고 안 읽은 수 0, 퇴장 시각 없음")
+	void batchInsert_mapsColumns() {
+		LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+		participantRepository.batchInsert(10L, List.of(1L, 2L, 3L));
+		em.clear();
+
+		List<ChatRoomParticipant> participants = participantRepository.findByRoomIdAndLeftAtIsNull(10L);
+		assertThat(participants).extracting(ChatRoomParticipant::getMemberId).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(participants).allSatisfy(participant -> {
+			assertThat(participant.getId()).isNotNull();
+			assertThat(participant.getRoomId()).isEqualTo(10L);
+			assertThat(participant.getJoinedAt()).isAfter(before);
+			assertThat(participant.getUnreadCount()).isZero();
+			assertThat(participant.getLeftAt()).isNull();
+			assertThat(participant.getLastReadMessageId()).isNull();
+		});
+	}
+
+	@Test
+	@DisplayName("같은 회원이 중복 전달되면 참여자 행은 하나만 생성")
+	void batchInsert_duplicateMember_insertsOnce() {
+		participantRepository.batchInsert(10L, List.of(1L, 2L, 1L));
+		em.clear();
+
+		assertThat(participantRepository.findByRoomIdAndLeftAtIsNull(10L))
+			.extracting(ChatRoomParticipant::getMemberId)
+			.containsExactlyInAnyOrder(1L, 2L);
+		assertThat(participantRepository.findByRoomIdAndMemberId(10L, 1L)).isPresent();
+	}
+
+	@Test
+	@DisplayName("배치 등록은 다른 채팅방의 참여자에 영향을 주지 않음")
+	void batchInsert_otherRoomUntouched() {
+		participantRepository.batchInsert(10L, List.of(1L, 2L));
+		participantRepository.batchInsert(11L, List.of(1L));
+		em.clear();
+
+		assertThat(participantRepository.findByRoomIdAndLeftAtIsNull(10L)).hasSize(2);
+		assertThat(participantRepository.findByRoomIdAndLeftAtIsNull(11L))
+			.extracting(ChatRoomParticipant::getMemberId)
+			.containsExactly(1L);
+		assertThat(participantRepository.findByMemberIdAndLeftAtIsNull(1L)).hasSize(2);
+	}
+}
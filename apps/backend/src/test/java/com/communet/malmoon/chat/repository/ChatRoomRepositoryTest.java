@@ -0,0 +1,70 @@
+package com.communet.malmoon.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.communet.malmoon.chat.domain.ChatRoom;
+import com.communet.malmoon.chat.domain.RoomType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 1:1 채팅방 생성 쿼리 테스트
+ * - insertOneToOneIfAbsent는 PostgreSQL의 ON CONFLICT를 사용하므로 H2를 PostgreSQL 호환 모드로 실행
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:chat-room;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChatRoomRepositoryTest {
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("같은 참여자 쌍의 1:1 채팅방은 한 번만 생성되고, 이후 요청은 0건 반환")
+	void insertOneToOneIfAbsent_samePair_insertsOnce() {
+		int first = chatRoomRepository.insertOneToOneIfAbsent("방", 1L, 2L, LocalDateTime.now());
+		int second = chatRoomRepository.insertOneToOneIfAbsent("다른 이름", 1L, 2L, LocalDateTime.now());
+
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isZero();
+		ChatRoom room = chatRoomRepository.findByMinMemberIdAndMaxMemberId(1L, 2L).orElseThrow();
+		assertThat(room.getRoomName()).isEqualTo("방");
+		assertThat(room.getRoomType()).isEqualTo(RoomType.ONE_TO_ONE);
+		assertThat(chatRoomRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 참여자 쌍은 각각 생성")
+	void insertOneToOneIfAbsent_differentPairs_insertsEach() {
+		assertThat(chatRoomRepository.insertOneToOneIfAbsent("a", 1L, 2L, LocalDateTime.now())).isEqualTo(1);
+		assertThat(chatRoomRepository.insertOneToOneIfAbsent("b", 1L, 3L, LocalDateTime.now())).isEqualTo(1);
+
+		assertThat(chatRoomRepository.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("종료되어 쌍 키가 해제된 방이 있으면 같은 쌍의 새 방을 생성")
+	void insertOneToOneIfAbsent_afterPairKeyReleased_insertsNewRoom() {
+		chatRoomRepository.insertOneToOneIfAbsent("이전 방", 1L, 2L, LocalDateTime.now());
+		ChatRoom previous = chatRoomRepository.findByMinMemberIdAndMaxMemberId(1L, 2L).orElseThrow();
+		previous.releasePairKey();
+		chatRoomRepository.saveAndFlush(previous);
+		em.clear();
+
+		int inserted = chatRoomRepository.insertOneToOneIfAbsent("새 방", 1L, 2L, LocalDateTime.now());
+
+		assertThat(inserted).isEqualTo(1);
+		assertThat(chatRoomRepository.findByMinMemberIdAndMaxMemberId(1L, 2L).orElseThrow().getRoomName())
+			.isEqualTo("새 방");
+	}
+}
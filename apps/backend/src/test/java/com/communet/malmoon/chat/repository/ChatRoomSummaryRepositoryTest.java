@@ -0,0 +1,220 @@
+package com.communet.malmoon.chat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.domain.ChatRoom;
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.domain.ChatRoomSummary;
+import com.communet.malmoon.chat.domain.RoomType;
+import com.communet.malmoon.chat.dto.response.ChatRoomSummaryRes;
+import com.communet.malmoon.chat.service.ChatRoomSummaryService;
+import com.communet.malmoon.chat.service.ChatUnreadChangedEvent;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 채팅방 요약 쿼리 테스트
+ * - upsertLastMessage는 ON CONFLICT ... DO UPDATE를 사용하므로 H2 대신 PostgreSQL 컨테이너에서 실행
+ *   (Docker가 없는 환경에서는 건너뜀)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@RecordApplicationEvents
+@Import(ChatRoomSummaryService.class)
+class ChatRoomSummaryRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 1, 10, 0);
+
+	@Autowired
+	private ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+	@Autowired
+	private ChatRoomParticipantRepository participantRepository;
+
+	@Autowired
+	private ChatRoomSummaryService chatRoomSummaryService;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("요약이 없으면 생성하고, 더 최신 메시지가 오면 갱신")
+	void upsertLastMessage_insertsThenUpdates() {
+		Long roomId = room(RoomType.GROUP, null);
+
+		chatRoomSummaryRepository.upsertLastMessage(roomId, 1L, "첫 메시지", BASE);
+		chatRoomSummaryRepository.upsertLastMessage(roomId, 2L, "두 번째", BASE.plusMinutes(1));
+		em.clear();
+
+		ChatRoomSummary summary = chatRoomSummaryRepository.findById(roomId).orElseThrow();
+		assertThat(summary.getLastMessage()).isEqualTo("두 번째");
+		assertThat(summary.getLastSenderId()).isEqualTo(2L);
+		assertThat(summary.getLastMessageTime()).isEqualTo(BASE.plusMinutes(1));
+	}
+
+	@Test
+	@DisplayName("늦게 도착한 과거 메시지는 더 최신 요약을 덮어쓰지 않음")
+	void upsertLastMessage_olderMessage_keepsNewerSummary() {
+		Long roomId = room(RoomType.GROUP, null);
+
+		chatRoomSummaryRepository.upsertLastMessage(roomId, 2L, "최신", BASE.plusMinutes(5));
+		chatRoomSummaryRepository.upsertLastMessage(roomId, 1L, "과거", BASE);
+		em.clear();
+
+		ChatRoomSummary summary = chatRoomSummaryRepository.findById(roomId).orElseThrow();
+		assertThat(summary.getLastMessage()).isEqualTo("최신");
+		assertThat(summary.getLastSenderId()).isEqualTo(2L);
+		assertThat(summary.getLastMessageTime()).isEqualTo(BASE.plusMinutes(5));
+	}
+
+	@Test
+	@DisplayName("백필은 요약이 없는 방만 가장 최근 메시지로 채우고, 재실행 시 0건")
+	void backfillMissing_fillsOnlyMissingRooms() {
+		Long missing = room(RoomType.GROUP, null);
+		message(missing, 1L, ChatMessageType.TALK, "이전", BASE);
+		message(missing, 2L, ChatMessageType.TALK, "마지막", BASE.plusMinutes(1));
+		Long existing = room(RoomType.GROUP, null);
+		message(existing, 1L, ChatMessageType.TALK, "메시지", BASE.plusMinutes(2));
+		chatRoomSummaryRepository.upsertLastMessage(existing, 3L, "기존 요약", BASE);
+		Long empty = room(RoomType.GROUP, null);
+
+		int filled = chatRoomSummaryRepository.backfillMissing();
+		int refilled = chatRoomSummaryRepository.backfillMissing();
+		em.clear();
+
+		assertThat(filled).isEqualTo(1);
+		assertThat(refilled).isZero();
+		ChatRoomSummary summary = chatRoomSummaryRepository.findById(missing).orElseThrow();
+		assertThat(summary.getLastMessage()).isEqualTo("마지막");
+		assertThat(summary.getLastSenderId()).isEqualTo(2L);
+		assertThat(chatRoomSummaryRepository.findById(existing).orElseThrow().getLastMessage()).isEqualTo("기존 요약");
+		assertThat(chatRoomSummaryRepository.findById(empty)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("메시지 반영 시 발신자와 퇴장한 참여자를 제외하고 안 읽은 수 증가 (입장/퇴장 메시지는 제외)")
+	void apply_incrementsUnreadExceptSender() {
+		Long roomId = room(RoomType.GROUP, null);
+		participant(roomId, 1L, null);
+		participant(roomId, 2L, null);
+		participant(roomId, 3L, null);
+		participant(roomId, 4L, BASE);
+
+		chatRoomSummaryService.apply(List.of(
+			message(roomId, 1L, ChatMessageType.TALK, "안녕", BASE),
+			message(roomId, 1L, ChatMessageType.TALK, "하세요", BASE.plusSeconds(1)),
+			message(roomId, 2L, ChatMessageType.TALK, "네", BASE.plusSeconds(2)),
+			message(roomId, 3L, ChatMessageType.ENTER, "입장", BASE.plusSeconds(3))));
+		em.clear();
+
+		assertThat(unread(roomId, 1L)).isEqualTo(1);
+		assertThat(unread(roomId, 2L)).isEqualTo(2);
+		assertThat(unread(roomId, 3L)).isEqualTo(3);
+		assertThat(unread(roomId, 4L)).isZero();
+		ChatRoomSummary summary = chatRoomSummaryRepository.findById(roomId).orElseThrow();
+		assertThat(summary.getLastMessage()).isEqualTo("입장");
+		assertThat(events.stream(ChatUnreadChangedEvent.class))
+			.singleElement()
+			.extracting(ChatUnreadChangedEvent::getIncrementsByMember)
+			.isEqualTo(Map.of(1L, 1L, 2L, 2L, 3L, 3L));
+	}
+
+	@Test
+	@DisplayName("채팅방 목록은 최근 메시지 순(같으면 방 ID 역순), 메시지 없는 방은 마지막이며 종료/퇴장/세션 방은 제외")
+	void findRoomSummaries_ordersByLastMessageTime() {
+		Long older = room(RoomType.GROUP, null);
+		Long newer = room(RoomType.ONE_TO_ONE, null);
+		Long tieLow = room(RoomType.GROUP, null);
+		Long tieHigh = room(RoomType.GROUP, null);
+		Long noMessage = room(RoomType.GROUP, null);
+		Long ended = room(RoomType.GROUP, BASE);
+		Long session = room(RoomType.SESSION, null);
+		Long left = room(RoomType.GROUP, null);
+		for (Long roomId : List.of(older, newer, tieLow, tieHigh, noMessage, ended, session)) {
+			participant(roomId, 1L, null);
+		}
+		participant(left, 1L, BASE);
+		chatRoomSummaryRepository.upsertLastMessage(older, 2L, "a", BASE);
+		chatRoomSummaryRepository.upsertLastMessage(newer, 2L, "b", BASE.plusMinutes(10));
+		chatRoomSummaryRepository.upsertLastMessage(tieLow, 2L, "c", BASE.plusMinutes(5));
+		chatRoomSummaryRepository.upsertLastMessage(tieHigh, 2L, "d", BASE.plusMinutes(5));
+		chatRoomSummaryRepository.upsertLastMessage(ended, 2L, "e", BASE.plusMinutes(20));
+		chatRoomSummaryRepository.upsertLastMessage(session, 2L, "f", BASE.plusMinutes(20));
+		chatRoomSummaryRepository.upsertLastMessage(left, 2L, "g", BASE.plusMinutes(20));
+		em.clear();
+
+		List<ChatRoomSummaryRes> rooms = participantRepository.findRoomSummaries(1L,
+			EnumSet.of(RoomType.ONE_TO_ONE, RoomType.GROUP));
+
+		assertThat(rooms).extracting(ChatRoomSummaryRes::getRoomId)
+			.containsExactly(newer, tieHigh, tieLow, older, noMessage);
+		assertThat(rooms.get(rooms.size() - 1).getLastMessage()).isEmpty();
+	}
+
+	private Long room(RoomType roomType, LocalDateTime endedAt) {
+		ChatRoom room = ChatRoom.builder()
+			.roomName("방")
+			.roomType(roomType)
+			.createdAt(BASE)
+			.endedAt(endedAt)
+			.build();
+		em.persist(room);
+		em.flush();
+		return room.getRoomId();
+	}
+
+	private void participant(Long roomId, Long memberId, LocalDateTime leftAt) {
+		em.persist(ChatRoomParticipant.builder()
+			.roomId(roomId)
+			.memberId(memberId)
+			.leftAt(leftAt)
+			.build());
+		em.flush();
+	}
+
+	private ChatMessage message(Long roomId, Long senderId, ChatMessageType type, String content,
+		LocalDateTime sentAt) {
+		ChatMessage message = ChatMessage.builder()
+			.roomId(roomId)
+			.senderId(senderId)
+			.messageType(type)
+			.content(content)
+			.sentAt(sentAt)
+			.build();
+		em.persist(message);
+		em.flush();
+		return message;
+	}
+
+	private int unread(Long roomId, Long memberId) {
+		return participantRepository.findByRoomIdAndMemberId(roomId, memberId).orElseThrow().getUnreadCount();
+	}
+}
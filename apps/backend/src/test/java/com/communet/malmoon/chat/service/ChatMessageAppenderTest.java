@@ -0,0 +1,139 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+
+class ChatMessageAppenderTest {
+
+	private static final String LIST_KEY = "chat:session:s1:messages";
+	private static final String ENTERED_KEY = "chat:session:s1:entered";
+	private static final long TTL_HOURS = 24;
+	private static final String TTL_MILLIS = String.valueOf(TTL_HOURS * 60 * 60 * 1000);
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+	@Test
+	@DisplayName("배치 비활성화 - ENTER 확인, 적재, TTL 갱신을 스크립트 한 번으로 실행")
+	void append_withoutBatch_singleScriptCall() {
+		ChatMessageAppender appender = new ChatMessageAppender(redisTemplate, false, 5, 64, 1000, TTL_HOURS);
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+		appender.append(LIST_KEY, ENTERED_KEY, "7", "{\"type\":\"ENTER\"}");
+
+		then(redisTemplate).should().execute(ChatMessageAppender.APPEND_SCRIPT, List.of(LIST_KEY, ENTERED_KEY),
+			TTL_MILLIS, "7", "{\"type\":\"ENTER\"}");
+	}
+
+	@Test
+	@DisplayName("배치 활성화 - 같은 세션의 동시 메시지를 한 번의 스크립트 호출로 묶음")
+	void append_withBatch_coalescesMessages() throws Exception {
+		ChatMessageAppender appender = new ChatMessageAppender(redisTemplate, true, 50, 64, 2000, TTL_HOURS);
+		List<Object[]> calls = Collections.synchronizedList(new ArrayList<>());
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(inv -> {
+			// 세 번째 인자는 TTL, 그 뒤가 (ENTER 발신자, JSON) 쌍
+			Object[] args = new Object[inv.getArguments().length - 3];
+			System.arraycopy(inv.getArguments(), 3, args, 0, args.length);
+			calls.add(args);
+			return (long)args.length / 2;
+		});
+
+		int messages = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(messages);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < messages; i++) {
+			String json = "{\"content\":\"" + i + "\"}";
+			futures.add(executor.submit(() -> {
+				start.await();
+				appender.append(LIST_KEY, ENTERED_KEY, null, json);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertThat(calls).hasSizeLessThan(messages);
+		assertThat(calls.stream().mapToInt(args -> args.length / 2).sum()).isEqualTo(messages);
+	}
+
+	@Test
+	@DisplayName("배치 저장 실패 - 대기 중인 호출자에게 예외 전달")
+	void append_withBatch_propagatesFailure() {
+		ChatMessageAppender appender = new ChatMessageAppender(redisTemplate, true, 5, 64, 2000, TTL_HOURS);
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willThrow(new IllegalStateException("redis down"));
+
+		assertThatThrownBy(() -> appender.append(LIST_KEY, ENTERED_KEY, null, "{}"))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("flush 직전 - 다른 스레드가 저장 중인 배치의 RPUSH가 끝날 때까지 기다림")
+	void flushPending_waitsForInFlightBatch() throws Exception {
+		ChatMessageAppender appender = new ChatMessageAppender(redisTemplate, true, 1, 64, 2000, TTL_HOURS);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(inv -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 1L;
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		Future<?> append = executor.submit(() -> appender.append(LIST_KEY, ENTERED_KEY, null, "{}"));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<?> flush = executor.submit(() -> appender.flushPending(LIST_KEY));
+
+		Thread.sleep(100);
+		assertThat(flush.isDone()).isFalse();
+
+		release.countDown();
+		flush.get(5, TimeUnit.SECONDS);
+		append.get(5, TimeUnit.SECONDS);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("flush 직전 - 저장 중인 배치가 제한 시간 안에 끝나지 않으면 flush를 미룸")
+	void flushPending_inFlightTimeout_throws() throws Exception {
+		ChatMessageAppender appender = new ChatMessageAppender(redisTemplate, true, 1, 64, 200, TTL_HOURS);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(inv -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 1L;
+		});
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		executor.submit(() -> appender.append(LIST_KEY, ENTERED_KEY, null, "{}"));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> appender.flushPending(LIST_KEY))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.FLUSH_IN_PROGRESS);
+		release.countDown();
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,251 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * {@link ChatRedisServiceImpl} flush 재개/동시 실행 테스트
+ * - Redis 대신 리스트, 문자열 키와 flush에 쓰이는 스크립트를 메모리에서 흉내 내는 mock을 사용
+ */
+class ChatRedisServiceImplTest {
+
+	private static final String SESSION = "s1";
+	private static final String LIST_KEY = "chat:session:s1:messages";
+	private static final String FLUSHING_KEY = "chat:session:s1:flushing";
+	private static final String LOCK_KEY = "chat:flush:lock:s1";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+	private final Map<String, String> values = new ConcurrentHashMap<>();
+	private final List<ChatMessage> saved = Collections.synchronizedList(new ArrayList<>());
+
+	private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+	private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+	private final ChatMessageAppender chatMessageAppender = mock(ChatMessageAppender.class);
+	private ChatRedisServiceImpl chatRedisService;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = fakeRedis();
+		chatRedisService = new ChatRedisServiceImpl(redisTemplate, chatMessageRepository, objectMapper,
+			chatMessageAppender, chatMessageService, new ChatFlushLease(redisTemplate, 60_000));
+		ReflectionTestUtils.setField(chatRedisService, "flushChunkSize", 2);
+
+		willAnswer(inv -> saved.addAll(inv.getArgument(0))).given(chatMessageService).saveAllToDatabase(anyList());
+		given(chatMessageRepository.existsByRoomIdAndSenderIdAndSentAtAndContent(any(), any(), any(), any()))
+			.willAnswer(inv -> saved.stream().anyMatch(m -> m.getSentAt().equals(inv.getArgument(2))
+				&& m.getContent().equals(inv.getArgument(3))));
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("중단된 flush의 청크를 먼저 저장한 뒤 남은 메시지를 이어서 저장")
+	void flush_resumesLeftoverChunk() throws Exception {
+		lists.put(FLUSHING_KEY, new ArrayList<>(List.of(json(1), json(2))));
+		lists.put(LIST_KEY, new ArrayList<>(List.of(json(3))));
+
+		chatRedisService.flushSessionMessagesToDb(SESSION);
+
+		assertThat(saved).extracting(ChatMessage::getContent).containsExactly("m1", "m2", "m3");
+		assertThat(lists.get(FLUSHING_KEY)).isNullOrEmpty();
+		assertThat(lists.get(LIST_KEY)).isNullOrEmpty();
+		assertThat(values).doesNotContainKey(LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("중단된 청크가 이미 DB에 저장되어 있으면 다시 저장하지 않음")
+	void flush_leftoverAlreadySaved_skipsChunk() throws Exception {
+		lists.put(LIST_KEY, new ArrayList<>(List.of(json(1), json(2))));
+		chatRedisService.flushSessionMessagesToDb(SESSION);
+		// DB 커밋 직후 flushing 삭제 전에 중단된 상황
+		lists.put(FLUSHING_KEY, new ArrayList<>(List.of(json(1), json(2))));
+
+		chatRedisService.flushSessionMessagesToDb(SESSION);
+
+		assertThat(saved).extracting(ChatMessage::getContent).containsExactly("m1", "m2");
+		assertThat(lists.get(FLUSHING_KEY)).isNullOrEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 세션의 flush가 진행 중이면 두 번째 flush는 청크를 건드리지 않고 거절")
+	void flush_concurrent_secondIsRejectedWithoutDuplicates() throws Exception {
+		lists.put(LIST_KEY, new ArrayList<>(List.of(json(1), json(2), json(3))));
+		CountDownLatch inserting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		willAnswer(inv -> {
+			inserting.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return saved.addAll(inv.getArgument(0));
+		}).willAnswer(inv -> saved.addAll(inv.getArgument(0)))
+			.given(chatMessageService).saveAllToDatabase(anyList());
+
+		Future<?> first = executor.submit(() -> chatRedisService.flushSessionMessagesToDb(SESSION));
+		assertThat(inserting.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<?> second = executor.submit(() -> chatRedisService.flushSessionMessagesToDb(SESSION));
+		assertThatThrownBy(second::get).hasCauseInstanceOf(ChatException.class)
+			.cause().extracting("errorCode").isEqualTo(ChatErrorCode.FLUSH_IN_PROGRESS);
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+
+		assertThat(saved).extracting(ChatMessage::getContent).containsExactly("m1", "m2", "m3");
+		assertThat(values).doesNotContainKey(LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("flushing 청크는 이전 소유자의 임대가 만료된 뒤에만 재개")
+	void flush_resumesOnlyAfterLeaseExpires() throws Exception {
+		// 다른 노드가 청크를 옮겨 저장 중인 상태
+		lists.put(FLUSHING_KEY, new ArrayList<>(List.of(json(1))));
+		values.put(LOCK_KEY, "other-owner");
+
+		assertThatThrownBy(() -> chatRedisService.flushSessionMessagesToDb(SESSION))
+			.isInstanceOf(ChatException.class);
+		assertThat(saved).isEmpty();
+		assertThat(lists.get(FLUSHING_KEY)).hasSize(1);
+
+		// 소유자가 중단되어 임대가 TTL로 만료됨
+		values.remove(LOCK_KEY);
+		chatRedisService.flushSessionMessagesToDb(SESSION);
+
+		assertThat(saved).extracting(ChatMessage::getContent).containsExactly("m1");
+		assertThat(lists.get(FLUSHING_KEY)).isNullOrEmpty();
+	}
+
+	@Test
+	@DisplayName("적재 - 보낸 시간이 없으면 적재 시점의 시간을 JSON에 기록")
+	void saveToRedis_stampsSendAt() throws Exception {
+		LocalDateTime before = LocalDateTime.now();
+
+		chatRedisService.saveToRedis(ChatSessionMessageReq.builder()
+			.sessionId(SESSION)
+			.roomId(1L)
+			.senderId(2L)
+			.content("m1")
+			.messageType(ChatMessageType.TALK)
+			.build());
+
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		then(chatMessageAppender).should().append(eq(LIST_KEY), anyString(), isNull(), json.capture());
+		LocalDateTime sendAt = objectMapper.readValue(json.getValue(), ChatSessionMessageReq.class).getSendAt();
+		assertThat(sendAt).isNotNull().isAfterOrEqualTo(before);
+	}
+
+	@Test
+	@DisplayName("flush - 보낸 시간이 없는 메시지는 잘못된 데이터로 보고 저장하지 않음")
+	void flush_missingSendAt_skipsMessage() throws Exception {
+		String withoutSendAt = objectMapper.writeValueAsString(ChatSessionMessageReq.builder()
+			.sessionId(SESSION)
+			.roomId(1L)
+			.senderId(2L)
+			.content("broken")
+			.messageType(ChatMessageType.TALK)
+			.build());
+		lists.put(LIST_KEY, new ArrayList<>(List.of(withoutSendAt, json(1))));
+
+		chatRedisService.flushSessionMessagesToDb(SESSION);
+
+		assertThat(saved).extracting(ChatMessage::getContent).containsExactly("m1");
+	}
+
+	private String json(int i) throws Exception {
+		return objectMapper.writeValueAsString(ChatSessionMessageReq.builder()
+			.sessionId(SESSION)
+			.roomId(1L)
+			.senderId(2L)
+			.content("m" + i)
+			.messageType(ChatMessageType.TALK)
+			.sendAt(LocalDateTime.of(2025, 8, 5, 10, 0, i))
+			.build());
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisTemplate<String, String> fakeRedis() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		ListOperations<String, String> listOperations = mock(ListOperations.class);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForList()).willReturn(listOperations);
+
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+			.willAnswer(inv -> values.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+		given(listOperations.range(anyString(), eq(0L), eq(-1L)))
+			.willAnswer(inv -> new ArrayList<>(lists.getOrDefault((String)inv.getArgument(0), List.of())));
+		given(redisTemplate.delete(anyString())).willAnswer(inv -> {
+			lists.remove((String)inv.getArgument(0));
+			return values.remove((String)inv.getArgument(0)) != null;
+		});
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willAnswer(inv -> script(inv.getArgument(0), inv.getArgument(1),
+				Arrays.copyOfRange(inv.getArguments(), 2, inv.getArguments().length)));
+		return redisTemplate;
+	}
+
+	/**
+	 * 스크립트는 Redis에서 원자적으로 실행되므로 한 번에 하나씩 흉내 냄
+	 */
+	private synchronized Object script(RedisScript<?> script, List<String> keys, Object[] args) {
+		if (script == ChatRedisServiceImpl.CLAIM_CHUNK_SCRIPT) {
+			List<String> flushing = lists.get(keys.get(1));
+			if (flushing != null && !flushing.isEmpty()) {
+				return List.of();
+			}
+			List<String> source = lists.getOrDefault(keys.get(0), new ArrayList<>());
+			int size = Math.min(Integer.parseInt((String)args[0]), source.size());
+			List<String> chunk = new ArrayList<>(source.subList(0, size));
+			if (!chunk.isEmpty()) {
+				lists.put(keys.get(1), new ArrayList<>(chunk));
+				lists.put(keys.get(0), new ArrayList<>(source.subList(size, source.size())));
+			}
+			return chunk;
+		}
+		if (script == ChatFlushLease.RENEW_SCRIPT) {
+			return args[0].equals(values.get(keys.get(0))) ? 1L : 0L;
+		}
+		if (script == ChatFlushLease.RELEASE_SCRIPT) {
+			return values.remove(keys.get(0), args[0]) ? 1L : 0L;
+		}
+		throw new IllegalArgumentException("unexpected script");
+	}
+}
@@ -0,0 +1,124 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.domain.RoomType;
+import com.communet.malmoon.chat.dto.request.ChatRoomCreateReq;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberService;
+
+class ChatRoomServiceImplTest {
+
+	private final MemberService memberService = mock(MemberService.class);
+	private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+	private final ChatRoomParticipantRepository participantRepository = mock(ChatRoomParticipantRepository.class);
+	private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final ChatRoomServiceImpl chatRoomService = new ChatRoomServiceImpl(memberService,
+		mock(MemberRepository.class), chatRoomRepository, participantRepository, chatMessageRepository,
+		mock(ChatRoomSummaryService.class), mock(ChatUnreadCounter.class), eventPublisher);
+
+	@Test
+	@DisplayName("발신자 검증 - 참여자가 아니면 거절")
+	void validateSender_notParticipant_rejects() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(false);
+
+		assertThatThrownBy(() -> chatRoomService.validateSender(10L, 7L, null))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.UNAUTHORIZED_ACCESS);
+	}
+
+	@Test
+	@DisplayName("발신자 검증 - 세션이 해당 채팅방의 세션이 아니면 거절")
+	void validateSender_sessionOfOtherRoom_rejects() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(true);
+		given(chatRoomRepository.existsByRoomIdAndSessionId(10L, "other")).willReturn(false);
+
+		assertThatThrownBy(() -> chatRoomService.validateSender(10L, 7L, "other"))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.SESSION_ROOM_MISMATCH);
+	}
+
+	@Test
+	@DisplayName("발신자 검증 - 일반 채팅은 세션 매핑을 조회하지 않음")
+	void validateSender_roomMessage_skipsSessionLookup() {
+		given(participantRepository.existsByRoomIdAndMemberId(10L, 7L)).willReturn(true);
+
+		assertThatCode(() -> chatRoomService.validateSender(10L, 7L, null)).doesNotThrowAnyException();
+		then(chatRoomRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("방 이름 생성 - 상대방 닉네임을 한 번에 조회하고 첫 상대방 이름 + 나머지 인원 수")
+	void generateRoomName_group_resolvesNicknamesOnce() {
+		given(memberService.getNicknamesByIds(List.of(2L, 3L, 4L)))
+			.willReturn(Map.of(2L, "철수", 3L, "영희", 4L, "민수"));
+		ChatRoomCreateReq request = ChatRoomCreateReq.builder()
+			.roomType(RoomType.GROUP)
+			.participantIds(List.of(1L, 2L, 3L, 4L, 3L))
+			.build();
+
+		assertThat(chatRoomService.generateRoomName(request, 1L)).isEqualTo("철수 외 2명");
+		then(memberService).should(times(1)).getNicknamesByIds(anyCollection());
+	}
+
+	@Test
+	@DisplayName("방 이름 생성 - 존재하지 않는 상대방이 있으면 거절")
+	void generateRoomName_missingMember_rejects() {
+		given(memberService.getNicknamesByIds(List.of(2L, 3L))).willReturn(Map.of(2L, "철수"));
+		ChatRoomCreateReq request = ChatRoomCreateReq.builder()
+			.roomType(RoomType.GROUP)
+			.participantIds(List.of(1L, 2L, 3L))
+			.build();
+
+		assertThatThrownBy(() -> chatRoomService.generateRoomName(request, 1L))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.NOT_FOUND_MEMBER);
+	}
+
+	@Test
+	@DisplayName("읽음 처리 - 참여자 행을 잠근 뒤에 남은 안 읽은 수를 세어 기록")
+	void markAsRead_locksParticipantBeforeCounting() {
+		ChatRoomParticipant participant = ChatRoomParticipant.builder().roomId(10L).memberId(7L).unreadCount(5).build();
+		given(participantRepository.findForUpdate(10L, 7L)).willReturn(Optional.of(participant));
+		given(chatMessageRepository.countUnreadAfter(10L, 7L, 100L, ChatRoomSummaryService.NOT_COUNTED))
+			.willReturn(2L);
+
+		chatRoomService.markAsRead(10L, 7L, 100L);
+
+		InOrder inOrder = inOrder(participantRepository, chatMessageRepository);
+		inOrder.verify(participantRepository).findForUpdate(10L, 7L);
+		inOrder.verify(chatMessageRepository).countUnreadAfter(10L, 7L, 100L, ChatRoomSummaryService.NOT_COUNTED);
+		then(participantRepository).should(never()).findByRoomIdAndMemberId(anyLong(), anyLong());
+		assertThat(participant.getUnreadCount()).isEqualTo(2);
+		assertThat(participant.getLastReadMessageId()).isEqualTo(100L);
+		then(eventPublisher).should().publishEvent(any(ChatUnreadResetEvent.class));
+	}
+
+	@Test
+	@DisplayName("읽음 처리 - 참여자가 아니면 거절")
+	void markAsRead_notParticipant_rejects() {
+		given(participantRepository.findForUpdate(10L, 7L)).willReturn(Optional.empty());
+
+		assertThatThrownBy(() -> chatRoomService.markAsRead(10L, 7L, 100L))
+			.isInstanceOf(ChatException.class)
+			.extracting("errorCode").isEqualTo(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		then(chatMessageRepository).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,123 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.chat.domain.ChatRoomParticipant;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+
+class ChatUnreadCounterTest {
+
+	private static final String KEY = "chat:unread:7";
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+	private final ChatRoomParticipantRepository participantRepository = mock(ChatRoomParticipantRepository.class);
+	private final ChatUnreadCounter counter = new ChatUnreadCounter(redisTemplate, participantRepository);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+	}
+
+	@Test
+	@DisplayName("초기화된 Hash가 있으면 DB 조회 없이 Redis 값으로 응답 (초기화 표시 필드 제외)")
+	void getAll_initialized_readsRedisOnly() {
+		given(hashOperations.entries(KEY)).willReturn(Map.of("_init", "1", "10", "3", "11", "0"));
+
+		assertThat(counter.getAll(7L)).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 3L, 11L, 0L));
+		then(participantRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("초기화 표시가 없으면 DB 값으로 응답하고, Hash를 지우지 않고 없는 필드만 채움")
+	void getAll_notInitialized_refillsFromDatabase() {
+		given(hashOperations.entries(KEY)).willReturn(Map.of("10", "5"));
+		given(participantRepository.findByMemberIdAndLeftAtIsNull(7L)).willReturn(List.of(participant(10L, 2)));
+
+		assertThat(counter.getAll(7L)).containsExactly(Map.entry(10L, 2L));
+		then(redisTemplate).should().execute(ChatUnreadCounter.REFILL_SCRIPT, List.of(KEY), "10", "2", "_init", "1");
+		then(redisTemplate).should(never()).delete(anyString());
+		then(hashOperations).should(never()).putAll(anyString(), anyMap());
+	}
+
+	@Test
+	@DisplayName("재적재 스크립트는 HSETNX만 사용하고 Hash를 삭제하지 않음")
+	void refillScript_neverDeletes() {
+		String script = ChatUnreadCounter.REFILL_SCRIPT.getScriptAsString();
+
+		assertThat(script).contains("HSETNX").doesNotContain("DEL").doesNotContain("'HSET'");
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 DB 값으로 응답")
+	void getAll_redisDown_fallsBackToDatabase() {
+		given(hashOperations.entries(KEY)).willThrow(new RedisConnectionFailureException("down"));
+		given(participantRepository.findByMemberIdAndLeftAtIsNull(7L)).willReturn(List.of(participant(10L, 4)));
+
+		assertThat(counter.getAll(7L)).containsExactly(Map.entry(10L, 4L));
+	}
+
+	@Test
+	@DisplayName("읽음 처리 이벤트는 남은 개수로 덮어씀")
+	void onUnreadReset_read_setsCount() {
+		counter.onUnreadReset(ChatUnreadResetEvent.read(7L, 10L, 0));
+
+		then(hashOperations).should().put(KEY, "10", "0");
+	}
+
+	@Test
+	@DisplayName("채팅방 나가기 이벤트는 해당 채팅방 필드를 삭제")
+	void onUnreadReset_left_deletesField() {
+		counter.onUnreadReset(ChatUnreadResetEvent.left(7L, 10L));
+
+		then(hashOperations).should().delete(KEY, "10");
+		then(hashOperations).should(never()).put(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("읽음/나가기 반영은 커밋 이후에만 실행")
+	void onUnreadReset_runsAfterCommit() throws NoSuchMethodException {
+		TransactionalEventListener listener = ChatUnreadCounter.class
+			.getMethod("onUnreadReset", ChatUnreadResetEvent.class)
+			.getAnnotation(TransactionalEventListener.class);
+
+		assertThat(listener.phase()).isEqualTo(TransactionPhase.AFTER_COMMIT);
+	}
+
+	@Test
+	@DisplayName("메시지 저장 이벤트는 수신자별 HINCRBY를 한 번의 파이프라인으로 실행")
+	@SuppressWarnings("unchecked")
+	void onUnreadChanged_incrementsPerMember() {
+		StringRedisConnection connection = mock(StringRedisConnection.class);
+		given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(inv -> {
+			inv.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+			return List.of();
+		});
+
+		counter.onUnreadChanged(new ChatUnreadChangedEvent(10L, Map.of(7L, 2L, 8L, 1L)));
+
+		then(redisTemplate).should(times(1)).executePipelined(any(RedisCallback.class));
+		then(connection).should().hIncrBy(KEY, "10", 2L);
+		then(connection).should().hIncrBy("chat:unread:8", "10", 1L);
+	}
+
+	private static ChatRoomParticipant participant(Long roomId, int unread) {
+		return ChatRoomParticipant.builder().roomId(roomId).memberId(7L).unreadCount(unread).build();
+	}
+}
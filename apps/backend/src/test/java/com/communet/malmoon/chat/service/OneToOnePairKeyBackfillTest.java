@@ -0,0 +1,79 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
+
+class OneToOnePairKeyBackfillTest {
+
+	private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final OneToOnePairKeyBackfill backfill = new OneToOnePairKeyBackfill(chatRoomRepository, redisTemplate);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("락을 얻으면 키를 채우고 락을 해제")
+	void backfill_lockAcquired_runsAndUnlocks() {
+		given(valueOperations.setIfAbsent(eq(OneToOnePairKeyBackfill.LOCK_KEY), eq("1"), any(Duration.class)))
+			.willReturn(true);
+		given(chatRoomRepository.backfillOneToOnePairKeys()).willReturn(3);
+
+		backfill.backfill();
+
+		then(chatRoomRepository).should().backfillOneToOnePairKeys();
+		then(redisTemplate).should().delete(OneToOnePairKeyBackfill.LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 락을 보유 중이면 실행하지 않음")
+	void backfill_lockHeldElsewhere_skips() {
+		given(valueOperations.setIfAbsent(eq(OneToOnePairKeyBackfill.LOCK_KEY), eq("1"), any(Duration.class)))
+			.willReturn(false);
+
+		backfill.backfill();
+
+		then(chatRoomRepository).shouldHaveNoInteractions();
+		then(redisTemplate).should(never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("다른 노드와 같은 쌍을 채우다 유니크 제약에 걸려도 기동을 막지 않음")
+	void backfill_conflict_isTolerated() {
+		given(valueOperations.setIfAbsent(eq(OneToOnePairKeyBackfill.LOCK_KEY), eq("1"), any(Duration.class)))
+			.willReturn(true);
+		given(chatRoomRepository.backfillOneToOnePairKeys())
+			.willThrow(new DataIntegrityViolationException("uk_chat_room_one_to_one_pair"));
+
+		assertThatCode(backfill::backfill).doesNotThrowAnyException();
+		then(redisTemplate).should().delete(OneToOnePairKeyBackfill.LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 락을 확인할 수 없으면 락 없이 실행하고 해제하지 않음")
+	void backfill_redisDown_runsWithoutLock() {
+		given(valueOperations.setIfAbsent(eq(OneToOnePairKeyBackfill.LOCK_KEY), eq("1"), any(Duration.class)))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		backfill.backfill();
+
+		then(chatRoomRepository).should().backfillOneToOnePairKeys();
+		then(redisTemplate).should(never()).delete(anyString());
+	}
+}
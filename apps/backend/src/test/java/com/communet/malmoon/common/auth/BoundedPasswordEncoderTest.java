@@ -0,0 +1,89 @@
+package com.communet.malmoon.common.auth;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.communet.malmoon.common.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("전용 풀에서 해시를 계산하고 결과를 그대로 반환")
+	void encodeAndMatches_delegatesOnPool() {
+		BoundedPasswordEncoder encoder = encoder(1, 4, Duration.ofSeconds(5));
+
+		String encoded = encoder.encode("password123");
+
+		assertThat(encoder.matches("password123", encoded)).isTrue();
+		assertThat(encoder.matches("wrong", encoded)).isFalse();
+		assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("풀과 큐가 가득 차면 기다리지 않고 ServiceBusyException으로 거절")
+	void matches_saturatedPool_rejectsImmediately() throws Exception {
+		BoundedPasswordEncoder encoder = encoder(1, 1, Duration.ofSeconds(5));
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> await(release));
+		executor.execute(() -> await(release));
+
+		try {
+			assertThatThrownBy(() -> encoder.matches("password123", "$2a$04$invalid"))
+				.isInstanceOf(ServiceBusyException.class);
+			assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isEqualTo(1);
+			assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	@DisplayName("대기 시간이 초과되면 ServiceBusyException으로 거절")
+	void encode_waitTimeout_rejects() {
+		BoundedPasswordEncoder encoder = encoder(1, 4, Duration.ofMillis(50));
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> await(release));
+
+		try {
+			assertThatThrownBy(() -> encoder.encode("password123"))
+				.isInstanceOf(ServiceBusyException.class);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private BoundedPasswordEncoder encoder(int poolSize, int queueCapacity, Duration timeout) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, timeout, meterRegistry);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.communet.malmoon.common.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+
+import jakarta.persistence.EntityManager;
+
+class CurrentMemberArgumentResolverTest {
+
+	private static final Object EMF_KEY = new Object();
+
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final CurrentMemberArgumentResolver resolver =
+		new CurrentMemberArgumentResolver(memberRepository, mock(MemberPrincipalCache.class));
+	private final Member member = Member.builder().memberId(7L).email("a@malmoon.com").build();
+
+	@BeforeEach
+	void setUp() {
+		MemberPrincipal principal =
+			new MemberPrincipal(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, MemberStatusType.ACTIVE);
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+			"a@malmoon.com", null, List.of(new SimpleGrantedAuthority(MemberType.ROLE_CLIENT.name())));
+		authentication.setDetails(principal);
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		if (TransactionSynchronizationManager.hasResource(EMF_KEY)) {
+			TransactionSynchronizationManager.unbindResource(EMF_KEY);
+		}
+	}
+
+	@Test
+	@DisplayName("MemberPrincipal 파라미터는 회원을 조회하지 않음")
+	void resolve_principal_skipsRepository() throws Exception {
+		Object resolved = resolver.resolveArgument(parameter(MemberPrincipal.class), null, null, null);
+
+		assertThat(resolved).isInstanceOf(MemberPrincipal.class);
+		then(memberRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("OSIV로 영속성 컨텍스트가 열려 있으면 지연 참조 반환")
+	void resolve_member_withOpenEntityManager_returnsReference() throws Exception {
+		TransactionSynchronizationManager.bindResource(EMF_KEY, new EntityManagerHolder(mock(EntityManager.class)));
+		given(memberRepository.getReferenceById(7L)).willReturn(member);
+
+		Object resolved = resolver.resolveArgument(parameter(Member.class), null, null, null);
+
+		assertThat(resolved).isSameAs(member);
+		then(memberRepository).should(never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("열린 영속성 컨텍스트가 없으면 지연 참조 대신 PK로 즉시 조회")
+	void resolve_member_withoutOpenEntityManager_loadsEagerly() throws Exception {
+		given(memberRepository.findById(7L)).willReturn(Optional.of(member));
+
+		Object resolved = resolver.resolveArgument(parameter(Member.class), null, null, null);
+
+		assertThat(resolved).isSameAs(member);
+		then(memberRepository).should(never()).getReferenceById(any());
+	}
+
+	private static MethodParameter parameter(Class<?> type) throws NoSuchMethodException {
+		return new MethodParameter(Handler.class.getDeclaredMethod("handle", type), 0);
+	}
+
+	@SuppressWarnings("unused")
+	private static class Handler {
+		void handle(@CurrentMember Member member) {
+		}
+
+		void handle(@CurrentMember MemberPrincipal principal) {
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.communet.malmoon.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.communet.malmoon.file.domain.File;
+import com.communet.malmoon.file.repository.FileRepository;
+import com.google.common.base.Ticker;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class PresignedUrlCacheTest {
+
+	private static final long TTL_SECONDS = 480;
+
+	private final FakeTicker ticker = new FakeTicker();
+	private final PresignedUrlCache presignedUrlCache = new PresignedUrlCache(100, TTL_SECONDS, ticker);
+	private final S3Presigner s3Presigner = mock(S3Presigner.class);
+	private final FileRepository fileRepository = mock(FileRepository.class);
+	private final FileServiceImpl fileService = new FileServiceImpl(s3Presigner, mock(S3Client.class),
+		mock(S3Uploader.class), mock(S3AsyncUploader.class), fileRepository, presignedUrlCache);
+
+	@Test
+	@DisplayName("캐시에 있는 URL은 presigner를 호출하지 않고 그대로 반환")
+	void cacheHit_skipsPresigner() {
+		givenPresignerSignsKey();
+		given(fileRepository.findById(1L)).willReturn(Optional.of(file(1L, "aac/a.png")));
+
+		String first = fileService.getPresignedFileUrl(1L);
+		String second = fileService.getPresignedFileUrl(1L);
+		String third = fileService.getPresignedFileUrl(1L, "aac/a.png");
+
+		assertThat(second).isEqualTo(first);
+		assertThat(third).isEqualTo(first);
+		then(s3Presigner).should(times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+		then(fileRepository).should(times(1)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("캐시 항목은 presigned URL 자체의 만료(10분)보다 먼저 만료되어 다시 서명")
+	void entryExpiresBeforeSignature() {
+		givenPresignerSignsKey();
+		given(fileRepository.findById(1L)).willReturn(Optional.of(file(1L, "aac/a.png")));
+		fileService.getPresignedFileUrl(1L);
+
+		ticker.advance(TTL_SECONDS - 1);
+		assertThat(presignedUrlCache.get(1L)).isNotNull();
+
+		ticker.advance(1);
+		assertThat(presignedUrlCache.get(1L)).isNull();
+		assertThat(TTL_SECONDS).isLessThan(FileServiceImpl.PRESIGNED_GET_SECONDS);
+
+		fileService.getPresignedFileUrl(1L);
+		then(s3Presigner).should(times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+	}
+
+	@Test
+	@DisplayName("서명 유효시간 이상의 TTL 설정은 거절")
+	void ttlNotShorterThanSignature_rejected() {
+		assertThatThrownBy(() -> new PresignedUrlCache(100, FileServiceImpl.PRESIGNED_GET_SECONDS, ticker))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("서로 다른 파일의 URL은 키가 겹치지 않고 각자 캐시됨")
+	void differentFiles_doNotCollide() {
+		givenPresignerSignsKey();
+		given(fileRepository.findAllById(any())).willReturn(List.of(file(1L, "aac/a.png"), file(2L, "aac/b.png")));
+
+		Map<Long, String> first = fileService.getPresignedFileUrls(List.of(1L, 2L));
+		Map<Long, String> second = fileService.getPresignedFileUrls(List.of(1L, 2L));
+
+		assertThat(first).containsEntry(1L, "https://s3.test/aac/a.png").containsEntry(2L, "https://s3.test/aac/b.png");
+		assertThat(second).isEqualTo(first);
+		assertThat(presignedUrlCache.getAll(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 2L);
+		then(s3Presigner).should(times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+		then(fileRepository).should(times(1)).findAllById(any());
+	}
+
+	private void givenPresignerSignsKey() {
+		given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willAnswer(invocation -> {
+			GetObjectPresignRequest request = invocation.getArgument(0);
+			PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+			given(presigned.url()).willReturn(url(request.getObjectRequest().key()));
+			return presigned;
+		});
+	}
+
+	private static URL url(String key) throws MalformedURLException {
+		return new URL("https://s3.test/" + key);
+	}
+
+	private static File file(Long id, String filename) {
+		return File.builder()
+			.id(id)
+			.filename(filename)
+			.build();
+	}
+
+	/**
+	 * 테스트에서 시간을 직접 진행시키는 Ticker
+	 */
+	private static class FakeTicker extends Ticker {
+
+		private final AtomicLong nanos = new AtomicLong();
+
+		void advance(long seconds) {
+			nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+		}
+
+		@Override
+		public long read() {
+			return nanos.get();
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.communet.malmoon.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.communet.malmoon.common.exception.ServiceBusyException;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * {@link S3AsyncUploader} 비동기 경로 테스트
+ * - 스레드 1개, 대기열 없는 fileIoExecutor로 포화 상황을 재현
+ */
+class S3AsyncUploaderTest {
+
+	private static final int PART_SIZE = S3Uploader.MIN_PART_SIZE;
+
+	private final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+	private ThreadPoolTaskExecutor fileIoExecutor;
+	private S3AsyncUploader s3AsyncUploader;
+
+	@AfterEach
+	void tearDown() {
+		fileIoExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("파트 크기 이하 파일은 S3AsyncClient로 단일 PUT 업로드 후 fileIoExecutor 스레드에서 완료")
+	void upload_smallFile_putsWithAsyncClient() throws Exception {
+		setUp(2, 10);
+		AtomicReference<String> thread = new AtomicReference<>();
+		given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.willReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+		String key = s3AsyncUploader.upload("aac", file("a.png", 3))
+			.thenApply(uploaded -> {
+				thread.set(Thread.currentThread().getName());
+				return uploaded;
+			})
+			.get(5, TimeUnit.SECONDS);
+
+		ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+		ArgumentCaptor<AsyncRequestBody> body = ArgumentCaptor.forClass(AsyncRequestBody.class);
+		then(s3AsyncClient).should().putObject(request.capture(), body.capture());
+		assertThat(key).startsWith("aac/").endsWith("_a.png").isEqualTo(request.getValue().key());
+		assertThat(request.getValue().contentType()).isEqualTo("image/png");
+		assertThat(body.getValue().contentLength()).contains(3L);
+		assertThat(thread.get()).startsWith("file-io-");
+		then(s3AsyncClient).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+	}
+
+	@Test
+	@DisplayName("파트 크기보다 큰 파일은 S3AsyncClient multipart 업로드로 파트 번호 순서대로 완료")
+	void upload_largeFile_multipartWithAsyncClient() throws Exception {
+		setUp(2, 10);
+		givenMultipartUpload();
+		given(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+			.willAnswer(inv -> {
+				UploadPartRequest request = inv.getArgument(0);
+				return CompletableFuture.completedFuture(
+					UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build());
+			});
+
+		String key = s3AsyncUploader.upload("aac", file("big.mp4", PART_SIZE * 2 + 1)).get(5, TimeUnit.SECONDS);
+
+		ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+		then(s3AsyncClient).should(times(3)).uploadPart(parts.capture(), any(AsyncRequestBody.class));
+		assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+			.containsExactly((long)PART_SIZE, (long)PART_SIZE, 1L);
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+			ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		then(s3AsyncClient).should().completeMultipartUpload(complete.capture());
+		List<CompletedPart> completedParts = complete.getValue().multipartUpload().parts();
+		assertThat(completedParts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3);
+		assertThat(completedParts).extracting(CompletedPart::eTag).containsExactly("etag-1", "etag-2", "etag-3");
+		assertThat(complete.getValue().key()).isEqualTo(key);
+		then(s3AsyncClient).should(never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		then(s3AsyncClient).should(never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+	}
+
+	@Test
+	@DisplayName("파트 업로드가 실패하면 남은 파트를 읽지 않고 multipart 업로드를 중단")
+	void upload_partFailure_abortsMultipart() {
+		setUp(2, 10);
+		givenMultipartUpload();
+		given(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+			.willReturn(CompletableFuture.failedFuture(new IllegalStateException("500")));
+
+		CompletableFuture<String> future = s3AsyncUploader.upload("aac", file("big.mp4", PART_SIZE * 3));
+
+		assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+		then(s3AsyncClient).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		then(s3AsyncClient).should(never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+		then(s3AsyncClient).should(atMost(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+	}
+
+	@Test
+	@DisplayName("fileIoExecutor가 포화되면 호출 스레드에서 읽지 않고 ServiceBusyException으로 실패")
+	void upload_saturated_failsWithServiceBusy() throws Exception {
+		setUp(1, 0);
+		CountDownLatch release = new CountDownLatch(1);
+		occupyOnlyThread(release);
+
+		CompletableFuture<String> future = s3AsyncUploader.upload("aac", file("a.png", 3));
+
+		assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(ServiceBusyException.class);
+		then(s3AsyncClient).shouldHaveNoInteractions();
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("HEAD 완료 콜백을 넘길 스레드가 없으면 ServiceBusyException으로 실패")
+	void head_saturated_failsWithServiceBusy() throws Exception {
+		setUp(1, 0);
+		CountDownLatch release = new CountDownLatch(1);
+		occupyOnlyThread(release);
+		given(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+			.willReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength(1L).build()));
+
+		CompletableFuture<HeadObjectResponse> future = s3AsyncUploader.head("aac/a.png");
+
+		assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(ServiceBusyException.class);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("HEAD 실패는 원래 예외 그대로 전달")
+	void head_s3Failure_propagatesCause() {
+		setUp(1, 0);
+		given(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+			.willReturn(CompletableFuture.failedFuture(new IllegalStateException("404")));
+
+		assertThatThrownBy(() -> s3AsyncUploader.head("aac/missing.png").get())
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	private void setUp(int threads, int queueCapacity) {
+		fileIoExecutor = new ThreadPoolTaskExecutor();
+		fileIoExecutor.setCorePoolSize(threads);
+		fileIoExecutor.setMaxPoolSize(threads);
+		fileIoExecutor.setQueueCapacity(queueCapacity);
+		fileIoExecutor.setThreadNamePrefix("file-io-");
+		fileIoExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		fileIoExecutor.initialize();
+		s3AsyncUploader = new S3AsyncUploader(s3AsyncClient, fileIoExecutor, "test-bucket", PART_SIZE, 2);
+	}
+
+	private void givenMultipartUpload() {
+		given(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CompletableFuture.completedFuture(
+				CreateMultipartUploadResponse.builder().uploadId("upload-1").build()));
+		given(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+		given(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+			.willReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+	}
+
+	private void occupyOnlyThread(CountDownLatch release) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		fileIoExecutor.execute(() -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static MockMultipartFile file(String filename, int size) {
+		return new MockMultipartFile("file", filename, "image/png", new byte[size]);
+	}
+}
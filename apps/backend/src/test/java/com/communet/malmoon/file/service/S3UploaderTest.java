@@ -0,0 +1,283 @@
+package com.communet.malmoon.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * {@link S3Uploader} 스트리밍/multipart 업로드 테스트
+ * - 실제 S3 대신 메모리에 저장하는 {@link FakeS3Client}를 사용
+ */
+class S3UploaderTest {
+
+	private static final int PART_SIZE = S3Uploader.MIN_PART_SIZE;
+	private static final int MAX_PARTS_IN_FLIGHT = 2;
+	private static final int POOLED_BUFFERS = 2;
+
+	private FakeS3Client s3Client;
+	private ExecutorService executor;
+	private S3Uploader s3Uploader;
+
+	@BeforeEach
+	void setUp() {
+		s3Client = new FakeS3Client();
+		executor = Executors.newFixedThreadPool(4);
+		s3Uploader = new S3Uploader(s3Client, executor, "test-bucket", PART_SIZE, MAX_PARTS_IN_FLIGHT,
+			POOLED_BUFFERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("파트 크기보다 작은 스트림은 available()과 관계없이 단일 PUT으로 전체 업로드")
+	void upload_smallStream_singlePut() throws IOException {
+		String key = s3Uploader.upload("AAC", new GeneratedInputStream(1024), "small.png", "image/png");
+
+		assertThat(s3Client.objects.get(key)).isEqualTo(readAll(new GeneratedInputStream(1024)));
+		assertThat(s3Client.createdUploads).hasValue(0);
+		assertThat(s3Uploader.pooledBufferCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("파트 크기보다 작은 스트림은 단일 PUT, 파트 크기에 도달하면 multipart로 전환")
+	void upload_switchesToMultipartAtThreshold() throws IOException {
+		String exact = s3Uploader.upload("AAC", new GeneratedInputStream(PART_SIZE - 1), "a.png", "image/png");
+		assertThat(s3Client.createdUploads).hasValue(0);
+		assertThat(s3Client.objects.get(exact)).hasSize(PART_SIZE - 1);
+
+		String over = s3Uploader.upload("AAC", new GeneratedInputStream(PART_SIZE + 1), "b.png", "image/png");
+		assertThat(s3Client.createdUploads).hasValue(1);
+		assertThat(s3Client.completedParts).isEqualTo(2);
+		assertThat(s3Client.objects.get(over)).isEqualTo(readAll(new GeneratedInputStream(PART_SIZE + 1)));
+	}
+
+	@Test
+	@DisplayName("업로드가 끝난 파트 버퍼는 풀에 반납되어 다음 업로드에서 재사용되고, 풀 크기를 넘겨 보관하지 않음")
+	void upload_reusesPooledPartBuffers() throws IOException {
+		int size = PART_SIZE * 4;
+
+		String first = s3Uploader.upload("VIDEO", new GeneratedInputStream(size), "a.mp4", "video/mp4");
+		assertThat(s3Uploader.pooledBufferCount()).isBetween(1, POOLED_BUFFERS);
+
+		String second = s3Uploader.upload("VIDEO", new GeneratedInputStream(size), "b.mp4", "video/mp4");
+		assertThat(s3Uploader.pooledBufferCount()).isBetween(1, POOLED_BUFFERS);
+		assertThat(s3Client.objects.get(first)).isEqualTo(readAll(new GeneratedInputStream(size)));
+		assertThat(s3Client.objects.get(second)).isEqualTo(readAll(new GeneratedInputStream(size)));
+	}
+
+	@Test
+	@DisplayName("큰 스트림은 multipart로 업로드되고 동시 파트 수가 제한됨")
+	void upload_largeStream_multipart() throws IOException {
+		int size = PART_SIZE * 3 + PART_SIZE / 2;
+
+		String key = s3Uploader.upload("QUALIFICATION", new GeneratedInputStream(size), "license.pdf",
+			"application/pdf");
+
+		assertThat(s3Client.completedParts).isEqualTo(4);
+		assertThat(s3Client.maxInFlight.get()).isLessThanOrEqualTo(MAX_PARTS_IN_FLIGHT);
+		assertThat(s3Client.objects.get(key)).isEqualTo(readAll(new GeneratedInputStream(size)));
+	}
+
+	@Test
+	@DisplayName("파트 업로드 실패 시 multipart 업로드를 중단하고 예외 발생")
+	void upload_partFailure_abortsUpload() {
+		s3Client.failOnPart = 2;
+
+		assertThatThrownBy(() -> s3Uploader.upload("VIDEO", new GeneratedInputStream(PART_SIZE * 3), "a.mp4",
+			"video/mp4"))
+			.isInstanceOf(IOException.class);
+
+		assertThat(s3Client.aborted).isTrue();
+		assertThat(s3Client.objects).isEmpty();
+	}
+
+	@Test
+	@DisplayName("파트를 읽는 중 예외가 나도 빌린 버퍼는 풀에 반납")
+	void upload_readFailure_releasesBorrowedBuffer() {
+		// 파트 업로드를 호출 스레드에서 실행하여 버퍼 대여/반납 순서를 고정
+		S3Uploader uploader = new S3Uploader(s3Client, Runnable::run, "test-bucket", PART_SIZE, MAX_PARTS_IN_FLIGHT,
+			POOLED_BUFFERS);
+
+		assertThatThrownBy(() -> uploader.upload("VIDEO", new FailingInputStream(PART_SIZE * 2), "a.mp4",
+			"video/mp4"))
+			.isInstanceOf(IOException.class);
+
+		assertThat(s3Client.aborted).isTrue();
+		assertThat(uploader.pooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("업로드 작업이 거절되면 파트 버퍼를 반납하고 multipart 업로드를 중단")
+	void upload_rejectedPart_releasesBuffer() {
+		S3Uploader uploader = new S3Uploader(s3Client, task -> {
+			throw new RejectedExecutionException("full");
+		}, "test-bucket", PART_SIZE, MAX_PARTS_IN_FLIGHT, POOLED_BUFFERS);
+
+		assertThatThrownBy(() -> uploader.upload("VIDEO", new GeneratedInputStream(PART_SIZE * 2), "a.mp4",
+			"video/mp4"))
+			.isInstanceOf(IOException.class);
+
+		assertThat(s3Client.aborted).isTrue();
+		assertThat(uploader.pooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("S3 최소 파트 크기보다 작은 설정은 거부")
+	void constructor_rejectsTooSmallPartSize() {
+		assertThatThrownBy(() -> new S3Uploader(s3Client, executor, "test-bucket", 1024, 2, 2))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static byte[] readAll(InputStream inputStream) throws IOException {
+		return inputStream.readAllBytes();
+	}
+
+	/**
+	 * 지정한 길이만큼 결정적인 바이트를 생성하는 스트림 (available()은 항상 0)
+	 */
+	private static class GeneratedInputStream extends InputStream {
+		private final int length;
+		private int position;
+
+		GeneratedInputStream(int length) {
+			this.length = length;
+		}
+
+		@Override
+		public int read() {
+			return position < length ? (position++ % 251) : -1;
+		}
+	}
+
+	/**
+	 * 지정한 길이만큼 읽은 뒤에는 IOException을 던지는 스트림
+	 */
+	private static class FailingInputStream extends InputStream {
+		private final int failAt;
+		private int position;
+
+		FailingInputStream(int failAt) {
+			this.failAt = failAt;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (position >= failAt) {
+				throw new IOException("connection reset");
+			}
+			return position++ % 251;
+		}
+	}
+
+	/**
+	 * 업로드 결과를 메모리에 저장하는 S3Client 대역
+	 */
+	private static class FakeS3Client implements S3Client {
+		private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+		private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+		private final AtomicInteger createdUploads = new AtomicInteger();
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		private volatile Integer failOnPart;
+		private volatile boolean aborted;
+		private volatile int completedParts;
+
+		@Override
+		public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+			objects.put(request.key(), bytes(body));
+			return PutObjectResponse.builder().eTag("etag").build();
+		}
+
+		@Override
+		public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+			createdUploads.incrementAndGet();
+			return CreateMultipartUploadResponse.builder().uploadId("upload-1").build();
+		}
+
+		@Override
+		public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(20);
+				if (failOnPart != null && failOnPart.equals(request.partNumber())) {
+					throw S3Exception.builder().message("part upload failed").build();
+				}
+				parts.put(request.partNumber(), bytes(body));
+				return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw S3Exception.builder().message("interrupted").build();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		}
+
+		@Override
+		public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			for (CompletedPart part : request.multipartUpload().parts()) {
+				out.writeBytes(parts.get(part.partNumber()));
+			}
+			objects.put(request.key(), out.toByteArray());
+			completedParts = request.multipartUpload().parts().size();
+			return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+		}
+
+		@Override
+		public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+			aborted = true;
+			parts.clear();
+			return AbortMultipartUploadResponse.builder().build();
+		}
+
+		@Override
+		public String serviceName() {
+			return "s3";
+		}
+
+		@Override
+		public void close() {
+		}
+
+		private static byte[] bytes(RequestBody body) {
+			try (InputStream in = body.contentStreamProvider().newStream()) {
+				return in.readAllBytes();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.service.MemberPrincipalCache;
+import com.communet.malmoon.member.service.TokenVersionService;
+
+class JwtAuthenticationFilterTest {
+
+	private final MemberPrincipalCache memberPrincipalCache = mock(MemberPrincipalCache.class);
+	private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+	private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(AuthenticationManager.class),
+		memberPrincipalCache, tokenVersionService);
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3_600_000);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheMaxSize", 100L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheTtlSeconds", 300L);
+		jwtTokenUtil.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("토큰 버전이 유효하면 DB 조회 없이 클레임으로 인증")
+	void doFilter_currentVersion_authenticatesFromClaims() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request(3L), new MockHttpServletResponse(), chain);
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(authentication.getName()).isEqualTo("a@malmoon.com");
+		assertThat(((MemberPrincipal)authentication.getDetails()).getMemberId()).isEqualTo(7L);
+		then(tokenVersionService).should().isRevoked(7L, 3L);
+		then(memberPrincipalCache).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("저장된 버전보다 낮은 토큰은 401로 거절하고 다음 필터로 넘기지 않음")
+	void doFilter_staleVersion_rejects() throws Exception {
+		given(tokenVersionService.isRevoked(7L, 3L)).willReturn(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request(3L), response, chain);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+		assertThat(response.getContentAsString()).contains("폐기된 토큰입니다.");
+		assertThat(chain.getRequest()).isNull();
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	private static MockHttpServletRequest request(long tokenVersion) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/aacs");
+		request.addHeader(JwtTokenUtil.HEADER_STRING, JwtTokenUtil.TOKEN_PREFIX
+			+ JwtTokenUtil.getToken(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, tokenVersion));
+		return request;
+	}
+}
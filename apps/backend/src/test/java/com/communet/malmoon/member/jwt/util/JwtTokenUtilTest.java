@@ -0,0 +1,72 @@
+package com.communet.malmoon.member.jwt.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
+
+class JwtTokenUtilTest {
+
+	private static final String SECRET = "test-secret-key";
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil.configure(SECRET, (int)Duration.ofHours(1).toMillis(), 100, Duration.ofMinutes(5));
+	}
+
+	@Test
+	@DisplayName("같은 토큰을 다시 검증하면 캐시된 결과를 반환")
+	void verify_sameToken_returnsCachedResult() {
+		String header = JwtTokenUtil.TOKEN_PREFIX + JwtTokenUtil.getToken(1L, "a@malmoon.com", MemberType.ROLE_CLIENT, 0L);
+
+		DecodedJWT first = JwtTokenUtil.verify(header);
+		DecodedJWT second = JwtTokenUtil.verify(header);
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.getSubject()).isEqualTo("a@malmoon.com");
+		assertThat(first.getClaim("role").asString()).isEqualTo("ROLE_CLIENT");
+	}
+
+	@Test
+	@DisplayName("토큰 클레임만으로 인증 주체를 복원")
+	void verify_claims_restorePrincipal() {
+		String token = JwtTokenUtil.getToken(7L, "a@malmoon.com", MemberType.ROLE_THERAPIST, 3L);
+
+		MemberPrincipal principal = MemberPrincipal.from(JwtTokenUtil.verify(token));
+
+		assertThat(principal.getMemberId()).isEqualTo(7L);
+		assertThat(principal.getEmail()).isEqualTo("a@malmoon.com");
+		assertThat(principal.getRole()).isEqualTo(MemberType.ROLE_THERAPIST);
+		assertThat(JwtTokenUtil.verify(token).getClaim(JwtTokenUtil.CLAIM_TOKEN_VERSION).asLong()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰은 거부")
+	void verify_foreignSignature_throws() {
+		JwtTokenUtil.configure("other-secret-key", (int)Duration.ofHours(1).toMillis(), 100, Duration.ofMinutes(5));
+		String foreign = JwtTokenUtil.getToken(1L, "a@malmoon.com", MemberType.ROLE_CLIENT, 0L);
+		setUp();
+
+		assertThatThrownBy(() -> JwtTokenUtil.verify(foreign))
+			.isInstanceOf(SignatureVerificationException.class);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 거부")
+	void verify_expiredToken_throws() {
+		JwtTokenUtil.configure(SECRET, -60_000, 100, Duration.ofMinutes(5));
+		String token = JwtTokenUtil.getToken(1L, "a@malmoon.com", MemberType.ROLE_CLIENT, 0L);
+
+		assertThatThrownBy(() -> JwtTokenUtil.verify(token))
+			.isInstanceOf(TokenExpiredException.class);
+	}
+}
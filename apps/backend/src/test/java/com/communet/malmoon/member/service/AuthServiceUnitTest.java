@@ -0,0 +1,87 @@
+package com.communet.malmoon.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.dto.request.MemberLoginReq;
+import com.communet.malmoon.member.dto.response.MemberLoginRes;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.repository.MemberRepository;
+
+/**
+ * {@link AuthService} 로그인의 Redis 장애 처리 단위 테스트
+ */
+class AuthServiceUnitTest {
+
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+	private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+	private final AuthService authService =
+		new AuthService(memberRepository, passwordEncoder, tokenVersionService, refreshTokenService);
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3_600_000);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheMaxSize", 100L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheTtlSeconds", 300L);
+		jwtTokenUtil.init();
+
+		Member member = Member.builder()
+			.memberId(7L)
+			.email("login@test.com")
+			.password("encoded")
+			.role(MemberType.ROLE_CLIENT)
+			.build();
+		given(memberRepository.getByEmail("login@test.com")).willReturn(Optional.of(member));
+		given(passwordEncoder.matches("correctPassword", "encoded")).willReturn(true);
+	}
+
+	@Test
+	@DisplayName("로그인 - 액세스 토큰과 리프레시 토큰을 함께 발급")
+	void login_issuesBothTokens() {
+		given(tokenVersionService.current(7L)).willReturn(3L);
+		given(refreshTokenService.issue(7L, "login@test.com", MemberType.ROLE_CLIENT, 3L)).willReturn("family.secret");
+
+		MemberLoginRes res = authService.login(request());
+
+		assertThat(res.getAccessToken()).isNotBlank();
+		assertThat(res.getRefreshToken()).isEqualTo("family.secret");
+		assertThat(JwtTokenUtil.verify(res.getAccessToken())
+			.getClaim(JwtTokenUtil.CLAIM_TOKEN_VERSION).asLong()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("로그인 - Redis 장애 시 리프레시 토큰 없이 액세스 토큰만 발급")
+	void login_redisDown_returnsAccessTokenOnly() {
+		given(tokenVersionService.current(7L)).willThrow(new RedisConnectionFailureException("down"));
+		given(refreshTokenService.issue(7L, "login@test.com", MemberType.ROLE_CLIENT, 0L))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		MemberLoginRes res = authService.login(request());
+
+		assertThat(res.getAccessToken()).isNotBlank();
+		assertThat(res.getRefreshToken()).isNull();
+		assertThat(res.getMemberId()).isEqualTo(7L);
+	}
+
+	private static MemberLoginReq request() {
+		MemberLoginReq req = new MemberLoginReq();
+		req.setEmail("login@test.com");
+		req.setPassword("correctPassword");
+		return req;
+	}
+}
@@ -0,0 +1,138 @@
+package com.communet.malmoon.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.dto.response.TokenRefreshRes;
+import com.communet.malmoon.member.exception.InvalidRefreshTokenException;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+
+class RefreshTokenServiceTest {
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+	private final RefreshTokenService refreshTokenService =
+		new RefreshTokenService(redisTemplate, tokenVersionService, 14);
+
+	@Test
+	@DisplayName("발급 - family 키에 secret 원문 대신 다이제스트와 TTL을 저장")
+	void issue_storesDigestWithTtl() {
+		String token = refreshTokenService.issue(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, 2L);
+
+		String familyId = token.substring(0, token.indexOf('.'));
+		String secret = token.substring(token.indexOf('.') + 1);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		then(redisTemplate).should().execute(eq(RefreshTokenService.ISSUE_SCRIPT),
+			eq(List.of("auth:refresh:" + familyId)), args.capture());
+		assertThat(args.getValue()).doesNotContain(secret)
+			.contains(String.valueOf(14L * 24 * 60 * 60 * 1000), "7", "a@malmoon.com", "ROLE_CLIENT", "2");
+	}
+
+	@Test
+	@DisplayName("재사용 감지 - 이미 교체된 토큰이면 거절 (family는 스크립트에서 삭제)")
+	void rotate_reusedToken_throws() {
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of("REUSED"));
+
+		assertThatThrownBy(() -> refreshTokenService.rotate("family.old-secret"))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+	}
+
+	@Test
+	@DisplayName("만료 또는 폐기된 family의 토큰은 거절")
+	void rotate_missingFamily_throws() {
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of("MISSING"));
+
+		assertThatThrownBy(() -> refreshTokenService.rotate("family.secret"))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 토큰은 Redis 조회 없이 거절")
+	void rotate_malformedToken_throwsWithoutRedis() {
+		assertThatThrownBy(() -> refreshTokenService.rotate("no-separator"))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+
+		then(redisTemplate).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("비밀번호 변경 등으로 토큰 버전이 올라갔으면 family를 삭제하고 거절")
+	void rotate_revokedTokenVersion_deletesFamily() {
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of("OK", "7", "a@malmoon.com", "ROLE_CLIENT", "0"));
+		given(tokenVersionService.isRevoked(7L, 0L)).willReturn(true);
+
+		assertThatThrownBy(() -> refreshTokenService.rotate("family.secret"))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+
+		then(redisTemplate).should().delete("auth:refresh:family");
+	}
+
+	@Test
+	@DisplayName("교체 성공 - 같은 family의 새 secret을 반환하고, 이전 secret은 이후 재사용으로 거절")
+	void rotate_ok_returnsNewSecretAndRejectsOldOne() {
+		initJwt();
+		AtomicReference<String> currentDigest = emulateFamilyHash();
+		String issued = refreshTokenService.issue(7L, "a@malmoon.com", MemberType.ROLE_CLIENT, 2L);
+		given(tokenVersionService.isRevoked(7L, 2L)).willReturn(false);
+
+		TokenRefreshRes rotated = refreshTokenService.rotate(issued);
+
+		String family = issued.substring(0, issued.indexOf('.'));
+		assertThat(rotated.getAccessToken()).isNotBlank();
+		assertThat(rotated.getRefreshToken()).startsWith(family + ".").isNotEqualTo(issued);
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+		// 재사용이 감지되면 family가 폐기되어 새 secret도 더 이상 사용할 수 없음
+		assertThat(currentDigest.get()).isNull();
+		assertThatThrownBy(() -> refreshTokenService.rotate(rotated.getRefreshToken()))
+			.isInstanceOf(InvalidRefreshTokenException.class);
+	}
+
+	/**
+	 * 발급/교체 스크립트를 family 해시의 current 필드 하나로 흉내냅니다.
+	 */
+	private AtomicReference<String> emulateFamilyHash() {
+		AtomicReference<String> current = new AtomicReference<>();
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willAnswer(inv -> {
+				Object[] args = (Object[])inv.getRawArguments()[2];
+				if (inv.getArgument(0) == RefreshTokenService.ISSUE_SCRIPT) {
+					current.set((String)args[0]);
+					return 1L;
+				}
+				if (current.get() == null) {
+					return List.of("MISSING");
+				}
+				if (!current.get().equals(args[0])) {
+					current.set(null);
+					return List.of("REUSED");
+				}
+				current.set((String)args[1]);
+				return List.of("OK", "7", "a@malmoon.com", "ROLE_CLIENT", "2");
+			});
+		return current;
+	}
+
+	private static void initJwt() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3_600_000);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheMaxSize", 100L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifyCacheTtlSeconds", 300L);
+		jwtTokenUtil.init();
+	}
+}
@@ -0,0 +1,65 @@
+package com.communet.malmoon.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+class TokenVersionServiceTest {
+
+	private static final String KEY = "member:token-version:7";
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final TokenVersionService tokenVersionService = new TokenVersionService(redisTemplate);
+
+	@Test
+	@DisplayName("저장된 버전보다 낮은 토큰은 폐기, 같거나 높으면 유효")
+	void isRevoked_comparesWithStoredVersion() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(KEY)).willReturn("2");
+
+		assertThat(tokenVersionService.isRevoked(7L, 1L)).isTrue();
+		assertThat(tokenVersionService.isRevoked(7L, 2L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("키가 없으면 버전 0")
+	void current_missingKey_returnsZero() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+		assertThat(tokenVersionService.current(7L)).isZero();
+		assertThat(tokenVersionService.isRevoked(7L, 0L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 인증을 막지 않도록 폐기되지 않은 것으로 처리 (fail-open)")
+	void isRevoked_redisFailure_failsOpen() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(KEY)).willThrow(new RedisConnectionFailureException("redis down"));
+
+		assertThat(tokenVersionService.isRevoked(7L, 0L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("비밀번호 변경/탈퇴 이벤트는 커밋 후 버전을 올리고, 내 정보 수정은 무시")
+	void onMemberChanged_bumpsOnlyForCredentialChanges() throws NoSuchMethodException {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+		tokenVersionService.onMemberChanged(new MemberChangedEvent(7L, "a@malmoon.com", true));
+		tokenVersionService.onMemberChanged(new MemberChangedEvent(7L, "a@malmoon.com", false));
+
+		then(valueOperations).should(times(1)).increment(KEY);
+		TransactionalEventListener listener = TokenVersionService.class
+			.getMethod("onMemberChanged", MemberChangedEvent.class)
+			.getAnnotation(TransactionalEventListener.class);
+		assertThat(listener.phase()).isEqualTo(TransactionPhase.AFTER_COMMIT);
+	}
+}
@@ -0,0 +1,136 @@
+package com.communet.malmoon.session.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.communet.malmoon.chat.service.ChatRedisService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SessionKeySweeperTest {
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, Object> sessionRedisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final HashOperations<String, Object, Object> sessionHashOperations = mock(HashOperations.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, Object> sessionValueOperations = mock(ValueOperations.class);
+	private final StringRedisTemplate chatRedisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> chatValueOperations = mock(ValueOperations.class);
+	@SuppressWarnings("unchecked")
+	private final HashOperations<String, Object, Object> chatHashOperations = mock(HashOperations.class);
+	private final SessionService sessionService = mock(SessionService.class);
+	private final ChatRedisService chatRedisService = mock(ChatRedisService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SessionKeySweeper sweeper = new SessionKeySweeper(sessionRedisTemplate, chatRedisTemplate,
+		sessionService, chatRedisService, meterRegistry, 6, 300_000);
+
+	@BeforeEach
+	void setUp() {
+		given(sessionRedisTemplate.<Object, Object>opsForHash()).willReturn(sessionHashOperations);
+		given(sessionRedisTemplate.opsForValue()).willReturn(sessionValueOperations);
+		given(chatRedisTemplate.opsForValue()).willReturn(chatValueOperations);
+		given(chatRedisTemplate.<Object, Object>opsForHash()).willReturn(chatHashOperations);
+	}
+
+	@Test
+	@DisplayName("락을 얻지 못하면 키를 순회하지 않고 게시된 개수로 게이지만 갱신")
+	void sweep_lockHeldElsewhere_readsPublishedCounts() {
+		given(chatValueOperations.setIfAbsent(eq("session:sweeper:lock"), eq("1"), any(Duration.class)))
+			.willReturn(false);
+		given(chatHashOperations.entries(SessionKeySweeper.KEY_COUNTS_KEY))
+			.willReturn(Map.of("session-room", "4", "chat-messages", "2"));
+
+		sweeper.sweep();
+
+		assertThat(gauge("session-room")).isEqualTo(4.0);
+		assertThat(gauge("chat-messages")).isEqualTo(2.0);
+		assertThat(gauge("chat-entered")).isZero();
+		then(sessionRedisTemplate).should(never()).execute(any(RedisCallback.class));
+		then(chatRedisTemplate).should(never()).scan(any(ScanOptions.class));
+		then(chatHashOperations).should(never()).putAll(anyString(), anyMap());
+	}
+
+	@Test
+	@DisplayName("락을 얻으면 오래된 세션을 종료하고 방치된 채팅을 flush한 뒤 개수를 게시")
+	@SuppressWarnings("unchecked")
+	void sweep_lockAcquired_sweepsAndPublishesCounts() {
+		given(chatValueOperations.setIfAbsent(eq("session:sweeper:lock"), eq("1"), any(Duration.class)))
+			.willReturn(true);
+		// 순회 순서: 세션 방, 치료사 매핑, 클라이언트 매핑, 채팅방 매핑
+		given(sessionRedisTemplate.execute(any(RedisCallback.class)))
+			.willReturn(List.of("session:room:old"), List.of("user:therapist:1"), List.of(),
+				List.of("chat:session:old", "chat:session:old:messages"));
+		given(sessionHashOperations.get("session:room:old", "createdAt"))
+			.willReturn(LocalDateTime.now().minusHours(7).toString());
+		given(sessionService.expireRoom("old")).willReturn(true);
+		given(sessionValueOperations.get("user:therapist:1")).willReturn("old");
+		given(sessionRedisTemplate.hasKey("session:room:old")).willReturn(true);
+
+		Cursor<String> cursor = mock(Cursor.class);
+		given(cursor.hasNext()).willReturn(true, false);
+		given(cursor.next()).willReturn("chat:session:gone:messages");
+		given(chatRedisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+		given(sessionRedisTemplate.hasKey("session:room:gone")).willReturn(false);
+		given(sessionRedisTemplate.hasKey("chat:session:gone")).willReturn(false);
+
+		sweeper.sweep();
+
+		then(sessionService).should().expireRoom("old");
+		then(sessionRedisTemplate).should(never()).delete("user:therapist:1");
+		then(chatRedisService).should().flushSessionMessagesToDb("gone");
+
+		ArgumentCaptor<Map<String, String>> published = ArgumentCaptor.forClass(Map.class);
+		then(chatHashOperations).should().putAll(eq(SessionKeySweeper.KEY_COUNTS_KEY), published.capture());
+		assertThat(published.getValue())
+			.containsEntry("session-room", "1")
+			.containsEntry("session-therapist", "1")
+			.containsEntry("session-client", "0")
+			.containsEntry("chat-room-mapping", "1")
+			.containsEntry("chat-messages", "1");
+		then(chatRedisTemplate).should().expire(SessionKeySweeper.KEY_COUNTS_KEY, Duration.ofMillis(900_000));
+		assertThat(gauge("session-room")).isEqualTo(1.0);
+		assertThat(gauge("chat-messages")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("세션이 없는 치료사 매핑은 삭제")
+	@SuppressWarnings("unchecked")
+	void sweep_orphanUserMapping_deletes() {
+		given(chatValueOperations.setIfAbsent(eq("session:sweeper:lock"), eq("1"), any(Duration.class)))
+			.willReturn(true);
+		given(sessionRedisTemplate.execute(any(RedisCallback.class)))
+			.willReturn(List.of(), List.of("user:therapist:1"), List.of(), List.of());
+		given(sessionValueOperations.get("user:therapist:1")).willReturn("ended");
+		given(sessionRedisTemplate.hasKey("session:room:ended")).willReturn(false);
+		Cursor<String> cursor = mock(Cursor.class);
+		given(chatRedisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+		sweeper.sweep();
+
+		then(sessionRedisTemplate).should().delete("user:therapist:1");
+		then(chatRedisService).shouldHaveNoInteractions();
+	}
+
+	private double gauge(String family) {
+		return meterRegistry.get("redis.keys").tag("family", family).gauge().value();
+	}
+}
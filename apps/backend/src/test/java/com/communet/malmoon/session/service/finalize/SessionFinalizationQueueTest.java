@@ -0,0 +1,117 @@
+package com.communet.malmoon.session.service.finalize;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class SessionFinalizationQueueTest {
+
+	private static final RecordId ID = RecordId.of("1-0");
+	private static final Duration CLAIM_IDLE = Duration.ofSeconds(600);
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+	private final SessionFinalizer sessionFinalizer = mock(SessionFinalizer.class);
+	private final SessionFinalizationQueue queue =
+		new SessionFinalizationQueue(redisTemplate, sessionFinalizer, 1, CLAIM_IDLE.toSeconds(), 60, 5);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForStream()).willReturn(streamOperations);
+	}
+
+	@Test
+	@DisplayName("재처리 기준 시간보다 짧게 대기 중인 작업은 가져가지 않음 (원래 워커가 처리 중)")
+	void reclaimStale_recentlyDelivered_isLeftAlone() {
+		pending(Duration.ofSeconds(120), 1);
+
+		queue.reclaimStale();
+
+		then(streamOperations).should(never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+		then(sessionFinalizer).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("오래 대기 중인 작업은 가져와 재처리하고 성공하면 ACK")
+	void reclaimStale_staleEntry_isFinalizedAndAcked() {
+		pending(CLAIM_IDLE.plusSeconds(1), 1);
+		given(streamOperations.claim(eq(SessionFinalizationQueue.STREAM_KEY), eq(SessionFinalizationQueue.GROUP),
+			anyString(), eq(CLAIM_IDLE), eq(ID))).willReturn(List.of(record()));
+		given(sessionFinalizer.finalizeSession("t@malmoon.com", "room-1")).willReturn(true);
+
+		queue.reclaimStale();
+
+		then(streamOperations).should().acknowledge(SessionFinalizationQueue.STREAM_KEY,
+			SessionFinalizationQueue.GROUP, ID);
+		then(streamOperations).should().delete(SessionFinalizationQueue.STREAM_KEY, ID);
+	}
+
+	@Test
+	@DisplayName("다른 워커가 같은 세션을 처리 중이면 ACK 하지 않고 남겨 둠")
+	void reclaimStale_finalizeInProgress_isNotAcked() {
+		pending(CLAIM_IDLE.plusSeconds(1), 1);
+		given(streamOperations.claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId.class)))
+			.willReturn(List.of(record()));
+		given(sessionFinalizer.finalizeSession("t@malmoon.com", "room-1")).willReturn(false);
+
+		queue.reclaimStale();
+
+		then(streamOperations).should(never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+	}
+
+	@Test
+	@DisplayName("최대 전달 횟수를 넘긴 작업은 원래 필드와 함께 dead-letter 스트림으로 옮긴 뒤 제거")
+	@SuppressWarnings("unchecked")
+	void reclaimStale_maxDeliveries_movesToDeadLetter() {
+		pending(CLAIM_IDLE.plusSeconds(1), 5);
+		given(streamOperations.range(eq(SessionFinalizationQueue.STREAM_KEY), any(Range.class)))
+			.willReturn(List.of(record()));
+
+		queue.reclaimStale();
+
+		ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+		then(streamOperations).should().add(eq(SessionFinalizationQueue.DEAD_LETTER_KEY), fields.capture());
+		assertThat(fields.getValue())
+			.containsEntry("therapistEmail", "t@malmoon.com")
+			.containsEntry("roomName", "room-1")
+			.containsEntry("originalId", ID.getValue())
+			.containsEntry("deliveries", "5");
+		then(streamOperations).should().acknowledge(SessionFinalizationQueue.STREAM_KEY,
+			SessionFinalizationQueue.GROUP, ID);
+		then(streamOperations).should().delete(SessionFinalizationQueue.STREAM_KEY, ID);
+		then(sessionFinalizer).shouldHaveNoInteractions();
+	}
+
+	private void pending(Duration idle, long deliveries) {
+		PendingMessage message = new PendingMessage(ID, Consumer.from(SessionFinalizationQueue.GROUP, "dead-node"),
+			idle, deliveries);
+		given(streamOperations.pending(eq(SessionFinalizationQueue.STREAM_KEY), eq(SessionFinalizationQueue.GROUP),
+			any(Range.class), anyLong())).willReturn(new PendingMessages(SessionFinalizationQueue.GROUP,
+			List.of(message)));
+	}
+
+	private static MapRecord<String, Object, Object> record() {
+		return StreamRecords.<String, Object, Object>mapBacked(
+				Map.of("therapistEmail", "t@malmoon.com", "roomName", "room-1"))
+			.withStreamKey(SessionFinalizationQueue.STREAM_KEY)
+			.withId(ID);
+	}
+}
@@ -0,0 +1,133 @@
+package com.communet.malmoon.session.service.finalize;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.chat.service.ChatRedisService;
+import com.communet.malmoon.chat.service.ChatRoomService;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue;
+
+import io.livekit.server.RoomServiceClient;
+import retrofit2.Call;
+import retrofit2.Response;
+
+class SessionFinalizerTest {
+
+	private static final String ROOM = "room-1";
+	private static final String EMAIL = "t@malmoon.com";
+	private static final String LOCK_KEY = "session:finalize:lock:room-1";
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final RoomServiceClient roomServiceClient = mock(RoomServiceClient.class);
+	private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+	private final ChatRedisService chatRedisService = mock(ChatRedisService.class);
+	private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+	private final FailedRoomDeletionQueue failedRoomDeletionQueue = mock(FailedRoomDeletionQueue.class);
+	private final StringRedisTemplate lockRedisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> lockOperations = mock(ValueOperations.class);
+	@SuppressWarnings("unchecked")
+	private final Call<Void> deleteCall = mock(Call.class);
+
+	private final SessionFinalizer sessionFinalizer = new SessionFinalizer(redisTemplate, memberRepository,
+		roomServiceClient, chatRoomService, chatRedisService, chatMessageRepository, failedRoomDeletionQueue,
+		lockRedisTemplate, 300);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(lockRedisTemplate.opsForValue()).willReturn(lockOperations);
+		given(lockOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofSeconds(300)))).willReturn(true);
+		given(roomServiceClient.deleteRoom(ROOM)).willReturn(deleteCall);
+		given(deleteCall.execute()).willReturn(Response.success(null));
+		given(memberRepository.getMemberInfoByEmail(EMAIL)).willReturn(Member.builder().memberId(1L).build());
+	}
+
+	@Test
+	@DisplayName("다른 워커가 같은 세션의 임대를 가지고 있으면 아무 단계도 실행하지 않고 false")
+	void finalizeSession_leaseHeld_returnsFalse() {
+		given(lockOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+
+		assertThat(sessionFinalizer.finalizeSession(EMAIL, ROOM)).isFalse();
+
+		then(chatRoomService).shouldHaveNoInteractions();
+		then(chatRedisService).shouldHaveNoInteractions();
+		then(roomServiceClient).shouldHaveNoInteractions();
+		then(lockRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("첫 실행 - LEAVE 저장, 방 종료, flush, 매핑 제거, LiveKit 방 삭제 후 임대 해제")
+	void finalizeSession_firstRun_runsAllSteps() {
+		given(valueOperations.get("chat:session:" + ROOM)).willReturn("10");
+		given(chatMessageRepository.existsByRoomIdAndMessageType(10L, ChatMessageType.LEAVE)).willReturn(false);
+
+		assertThat(sessionFinalizer.finalizeSession(EMAIL, ROOM)).isTrue();
+
+		then(chatMessageRepository).should().save(any(ChatMessage.class));
+		then(chatRoomService).should().deleteSessionRoom(10L);
+		then(chatRedisService).should().flushSessionMessagesToDb(ROOM);
+		then(redisTemplate).should().delete("chat:session:" + ROOM);
+		then(roomServiceClient).should().deleteRoom(ROOM);
+		then(lockRedisTemplate).should()
+			.execute(eq(SessionFinalizer.RELEASE_SCRIPT), eq(List.of(LOCK_KEY)), anyString());
+	}
+
+	@Test
+	@DisplayName("재전달 - LEAVE가 이미 저장되어 있으면 다시 저장하지 않음")
+	void finalizeSession_redelivered_doesNotSaveLeaveTwice() {
+		given(valueOperations.get("chat:session:" + ROOM)).willReturn("10");
+		given(chatMessageRepository.existsByRoomIdAndMessageType(10L, ChatMessageType.LEAVE)).willReturn(true);
+
+		assertThat(sessionFinalizer.finalizeSession(EMAIL, ROOM)).isTrue();
+
+		then(chatMessageRepository).should(never()).save(any(ChatMessage.class));
+		then(chatRedisService).should().flushSessionMessagesToDb(ROOM);
+	}
+
+	@Test
+	@DisplayName("재전달 - 채팅방 매핑이 이미 제거되었으면 채팅 후처리를 건너뛰고 LiveKit 방만 삭제")
+	void finalizeSession_chatAlreadyDone_onlyDeletesRoom() {
+		given(valueOperations.get("chat:session:" + ROOM)).willReturn(null);
+
+		assertThat(sessionFinalizer.finalizeSession(EMAIL, ROOM)).isTrue();
+
+		then(chatRoomService).shouldHaveNoInteractions();
+		then(chatRedisService).shouldHaveNoInteractions();
+		then(roomServiceClient).should().deleteRoom(ROOM);
+	}
+
+	@Test
+	@DisplayName("후처리 중 예외가 나도 임대는 해제 (다음 전달에서 바로 재시도 가능)")
+	void finalizeSession_failure_releasesLease() {
+		given(valueOperations.get("chat:session:" + ROOM)).willReturn("10");
+		willThrow(new IllegalStateException("db down")).given(chatRoomService).deleteSessionRoom(10L);
+
+		assertThatThrownBy(() -> sessionFinalizer.finalizeSession(EMAIL, ROOM))
+			.isInstanceOf(IllegalStateException.class);
+
+		then(redisTemplate).should(never()).delete("chat:session:" + ROOM);
+		then(lockRedisTemplate).should()
+			.execute(eq(SessionFinalizer.RELEASE_SCRIPT), eq(List.of(LOCK_KEY)), anyString());
+	}
+}